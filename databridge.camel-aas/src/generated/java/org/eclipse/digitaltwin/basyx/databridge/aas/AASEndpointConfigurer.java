@@ -0,0 +1,178 @@
+/* Generated by camel build tools - do NOT edit this file! */
+package org.eclipse.digitaltwin.basyx.databridge.aas;
+
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.ExtendedPropertyConfigurerGetter;
+import org.apache.camel.spi.PropertyConfigurerGetter;
+import org.apache.camel.spi.ConfigurerStrategy;
+import org.apache.camel.spi.GeneratedPropertyConfigurer;
+import org.apache.camel.util.CaseInsensitiveMap;
+import org.apache.camel.support.component.PropertyConfigurerSupport;
+
+/**
+ * Generated by camel build tools - do NOT edit this file!
+ */
+@SuppressWarnings("unchecked")
+public class AASEndpointConfigurer extends PropertyConfigurerSupport implements GeneratedPropertyConfigurer, PropertyConfigurerGetter {
+
+    @Override
+    public boolean configure(CamelContext camelContext, Object obj, String name, Object value, boolean ignoreCase) {
+        AASEndpoint target = (AASEndpoint) obj;
+        switch (ignoreCase ? name.toLowerCase() : name) {
+        case "api": target.setApi(property(camelContext, org.eclipse.digitaltwin.basyx.databridge.aas.api.ApiType.class, value)); return true;
+        case "async": target.setAsync(property(camelContext, boolean.class, value)); return true;
+        case "batchsize":
+        case "batchSize": target.setBatchSize(property(camelContext, int.class, value)); return true;
+        case "batchwindow":
+        case "batchWindow": target.setBatchWindow(property(camelContext, long.class, value)); return true;
+        case "bridgeerrorhandler":
+        case "bridgeErrorHandler": target.setBridgeErrorHandler(property(camelContext, boolean.class, value)); return true;
+        case "changedetection":
+        case "changeDetection": target.setChangeDetection(property(camelContext, boolean.class, value)); return true;
+        case "emitunchanged":
+        case "emitUnchanged": target.setEmitUnchanged(property(camelContext, boolean.class, value)); return true;
+        case "eventbrokerurl":
+        case "eventBrokerUrl": target.setEventBrokerUrl(property(camelContext, java.lang.String.class, value)); return true;
+        case "eventclientid":
+        case "eventClientId": target.setEventClientId(property(camelContext, java.lang.String.class, value)); return true;
+        case "eventfetchtimeout":
+        case "eventFetchTimeout": target.setEventFetchTimeout(property(camelContext, long.class, value)); return true;
+        case "eventtopic":
+        case "eventTopic": target.setEventTopic(property(camelContext, java.lang.String.class, value)); return true;
+        case "exceptionhandler":
+        case "exceptionHandler": target.setExceptionHandler(property(camelContext, org.apache.camel.spi.ExceptionHandler.class, value)); return true;
+        case "exchangepattern":
+        case "exchangePattern": target.setExchangePattern(property(camelContext, org.apache.camel.ExchangePattern.class, value)); return true;
+        case "fetchonevent":
+        case "fetchOnEvent": target.setFetchOnEvent(property(camelContext, boolean.class, value)); return true;
+        case "lazystartproducer":
+        case "lazyStartProducer": target.setLazyStartProducer(property(camelContext, boolean.class, value)); return true;
+        case "maxconnectionsperroute":
+        case "maxConnectionsPerRoute": target.setMaxConnectionsPerRoute(property(camelContext, int.class, value)); return true;
+        case "maxinflight":
+        case "maxInFlight": target.setMaxInFlight(property(camelContext, int.class, value)); return true;
+        case "maxqueued":
+        case "maxQueued": target.setMaxQueued(property(camelContext, int.class, value)); return true;
+        case "maxtotalconnections":
+        case "maxTotalConnections": target.setMaxTotalConnections(property(camelContext, int.class, value)); return true;
+        case "metadatacachetimetolive":
+        case "metadataCacheTimeToLive": target.setMetadataCacheTimeToLive(property(camelContext, long.class, value)); return true;
+        case "propertymapping":
+        case "propertyMapping": target.setPropertyMapping(property(camelContext, java.util.Map.class, value)); return true;
+        case "propertypath":
+        case "propertyPath": target.setPropertyPath(property(camelContext, java.lang.String.class, value)); return true;
+        default: return false;
+        }
+    }
+
+    @Override
+    public Class<?> getOptionType(String name, boolean ignoreCase) {
+        switch (ignoreCase ? name.toLowerCase() : name) {
+        case "api": return org.eclipse.digitaltwin.basyx.databridge.aas.api.ApiType.class;
+        case "async": return boolean.class;
+        case "batchsize":
+        case "batchSize": return int.class;
+        case "batchwindow":
+        case "batchWindow": return long.class;
+        case "bridgeerrorhandler":
+        case "bridgeErrorHandler": return boolean.class;
+        case "changedetection":
+        case "changeDetection": return boolean.class;
+        case "emitunchanged":
+        case "emitUnchanged": return boolean.class;
+        case "eventbrokerurl":
+        case "eventBrokerUrl": return java.lang.String.class;
+        case "eventclientid":
+        case "eventClientId": return java.lang.String.class;
+        case "eventfetchtimeout":
+        case "eventFetchTimeout": return long.class;
+        case "eventtopic":
+        case "eventTopic": return java.lang.String.class;
+        case "exceptionhandler":
+        case "exceptionHandler": return org.apache.camel.spi.ExceptionHandler.class;
+        case "exchangepattern":
+        case "exchangePattern": return org.apache.camel.ExchangePattern.class;
+        case "fetchonevent":
+        case "fetchOnEvent": return boolean.class;
+        case "lazystartproducer":
+        case "lazyStartProducer": return boolean.class;
+        case "maxconnectionsperroute":
+        case "maxConnectionsPerRoute": return int.class;
+        case "maxinflight":
+        case "maxInFlight": return int.class;
+        case "maxqueued":
+        case "maxQueued": return int.class;
+        case "maxtotalconnections":
+        case "maxTotalConnections": return int.class;
+        case "metadatacachetimetolive":
+        case "metadataCacheTimeToLive": return long.class;
+        case "propertymapping":
+        case "propertyMapping": return java.util.Map.class;
+        case "propertypath":
+        case "propertyPath": return java.lang.String.class;
+        default: return null;
+        }
+    }
+
+    @Override
+    public Object getOptionValue(Object obj, String name, boolean ignoreCase) {
+        AASEndpoint target = (AASEndpoint) obj;
+        switch (ignoreCase ? name.toLowerCase() : name) {
+        case "api": return target.getApi();
+        case "async": return target.isAsync();
+        case "batchsize":
+        case "batchSize": return target.getBatchSize();
+        case "batchwindow":
+        case "batchWindow": return target.getBatchWindow();
+        case "bridgeerrorhandler":
+        case "bridgeErrorHandler": return target.isBridgeErrorHandler();
+        case "changedetection":
+        case "changeDetection": return target.isChangeDetection();
+        case "emitunchanged":
+        case "emitUnchanged": return target.isEmitUnchanged();
+        case "eventbrokerurl":
+        case "eventBrokerUrl": return target.getEventBrokerUrl();
+        case "eventclientid":
+        case "eventClientId": return target.getEventClientId();
+        case "eventfetchtimeout":
+        case "eventFetchTimeout": return target.getEventFetchTimeout();
+        case "eventtopic":
+        case "eventTopic": return target.getEventTopic();
+        case "exceptionhandler":
+        case "exceptionHandler": return target.getExceptionHandler();
+        case "exchangepattern":
+        case "exchangePattern": return target.getExchangePattern();
+        case "fetchonevent":
+        case "fetchOnEvent": return target.isFetchOnEvent();
+        case "lazystartproducer":
+        case "lazyStartProducer": return target.isLazyStartProducer();
+        case "maxconnectionsperroute":
+        case "maxConnectionsPerRoute": return target.getMaxConnectionsPerRoute();
+        case "maxinflight":
+        case "maxInFlight": return target.getMaxInFlight();
+        case "maxqueued":
+        case "maxQueued": return target.getMaxQueued();
+        case "maxtotalconnections":
+        case "maxTotalConnections": return target.getMaxTotalConnections();
+        case "metadatacachetimetolive":
+        case "metadataCacheTimeToLive": return target.getMetadataCacheTimeToLive();
+        case "propertymapping":
+        case "propertyMapping": return target.getPropertyMapping();
+        case "propertypath":
+        case "propertyPath": return target.getPropertyPath();
+        default: return null;
+        }
+    }
+
+    @Override
+    public Object getCollectionValueType(Object target, String name, boolean ignoreCase) {
+        switch (ignoreCase ? name.toLowerCase() : name) {
+        case "propertymapping":
+        case "propertyMapping": return java.lang.Object.class;
+        default: return null;
+        }
+    }
+}
+
@@ -0,0 +1,92 @@
+/* Generated by camel build tools - do NOT edit this file! */
+package org.eclipse.digitaltwin.basyx.databridge.aas;
+
+import java.net.URISyntaxException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.camel.spi.EndpointUriFactory;
+
+/**
+ * Generated by camel build tools - do NOT edit this file!
+ */
+public class AASEndpointUriFactory extends org.apache.camel.support.component.EndpointUriFactorySupport implements EndpointUriFactory {
+
+    private static final String BASE = ":name";
+
+    private static final Set<String> PROPERTY_NAMES;
+    private static final Set<String> SECRET_PROPERTY_NAMES;
+    private static final Set<String> MULTI_VALUE_PREFIXES;
+    static {
+        Set<String> props = new HashSet<>(23);
+        props.add("api");
+        props.add("async");
+        props.add("batchSize");
+        props.add("batchWindow");
+        props.add("bridgeErrorHandler");
+        props.add("changeDetection");
+        props.add("emitUnchanged");
+        props.add("eventBrokerUrl");
+        props.add("eventClientId");
+        props.add("eventFetchTimeout");
+        props.add("eventTopic");
+        props.add("exceptionHandler");
+        props.add("exchangePattern");
+        props.add("fetchOnEvent");
+        props.add("lazyStartProducer");
+        props.add("maxConnectionsPerRoute");
+        props.add("maxInFlight");
+        props.add("maxQueued");
+        props.add("maxTotalConnections");
+        props.add("metadataCacheTimeToLive");
+        props.add("name");
+        props.add("propertyMapping");
+        props.add("propertyPath");
+        PROPERTY_NAMES = Collections.unmodifiableSet(props);
+        SECRET_PROPERTY_NAMES = Collections.emptySet();
+        Set<String> prefixes = new HashSet<>(1);
+        prefixes.add("mapping.");
+        MULTI_VALUE_PREFIXES = Collections.unmodifiableSet(prefixes);
+    }
+
+    @Override
+    public boolean isEnabled(String scheme) {
+        return "aas".equals(scheme);
+    }
+
+    @Override
+    public String buildUri(String scheme, Map<String, Object> properties, boolean encode) throws URISyntaxException {
+        String syntax = scheme + BASE;
+        String uri = syntax;
+
+        Map<String, Object> copy = new HashMap<>(properties);
+
+        uri = buildPathParameter(syntax, uri, "name", null, true, copy);
+        uri = buildQueryParameters(uri, copy, encode);
+        return uri;
+    }
+
+    @Override
+    public Set<String> propertyNames() {
+        return PROPERTY_NAMES;
+    }
+
+    @Override
+    public Set<String> secretPropertyNames() {
+        return SECRET_PROPERTY_NAMES;
+    }
+
+    @Override
+    public Set<String> multiValuePrefixes() {
+        return MULTI_VALUE_PREFIXES;
+    }
+
+    @Override
+    public boolean isLenientProperties() {
+        return false;
+    }
+}
+
@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.aas;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.DefaultAsyncProducer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Non-blocking producer implementation of AAS. Many writes can be in flight at
+ * the same time, bounded by {@link AASEndpoint#getMaxInFlight()}. While all
+ * slots are busy, further exchanges are queued without blocking the calling
+ * thread, up to {@link AASEndpoint#getMaxQueued()} exchanges. Exchanges beyond
+ * that fail immediately. The Camel callback is completed on the completion
+ * executor of the component once the PATCH/PUT request has completed, so the
+ * route does not continue on the I/O threads of the HTTP client.
+ *
+ */
+public class AASAsyncProducer extends DefaultAsyncProducer {
+	private static final Logger LOG = LoggerFactory.getLogger(AASAsyncProducer.class);
+
+	private final AASEndpoint endpoint;
+	private final int maxInFlight;
+	private final int maxQueued;
+
+	private final Deque<QueuedWrite> queuedWrites = new ArrayDeque<>();
+	private int inFlight;
+
+	public AASAsyncProducer(AASEndpoint endpoint) {
+		super(endpoint);
+		this.endpoint = endpoint;
+		this.maxInFlight = Math.max(1, endpoint.getMaxInFlight());
+		this.maxQueued = Math.max(0, endpoint.getMaxQueued());
+		endpoint.connectToElement();
+
+		LOG.info("Creating asynchronous AAS Producer for endpoint " + endpoint.getEndpointUri());
+	}
+
+	@Override
+	public boolean process(Exchange exchange, AsyncCallback callback) {
+		synchronized (queuedWrites) {
+			if (inFlight >= maxInFlight) {
+				if (queuedWrites.size() >= maxQueued) {
+					exchange.setException(new RejectedExecutionException("All " + maxInFlight + " in-flight slots and " + maxQueued + " queue slots of " + endpoint.getEndpointUri() + " are busy"));
+					callback.done(true);
+					return true;
+				}
+
+				queuedWrites.add(new QueuedWrite(exchange, callback));
+				return false;
+			}
+
+			inFlight++;
+		}
+
+		return send(exchange, callback, true);
+	}
+
+	/**
+	 * The number of writes currently in flight
+	 * 
+	 * @return the number of writes
+	 */
+	public int getInFlightCount() {
+		synchronized (queuedWrites) {
+			return inFlight;
+		}
+	}
+
+	/**
+	 * The number of exchanges waiting for a free in-flight slot
+	 * 
+	 * @return the number of exchanges
+	 */
+	public int getQueuedCount() {
+		synchronized (queuedWrites) {
+			return queuedWrites.size();
+		}
+	}
+
+	@Override
+	protected void doStop() throws Exception {
+		List<QueuedWrite> rejected;
+
+		synchronized (queuedWrites) {
+			rejected = new ArrayList<>(queuedWrites);
+			queuedWrites.clear();
+		}
+
+		for (QueuedWrite write : rejected) {
+			write.exchange.setException(new RejectedExecutionException("The producer of " + endpoint.getEndpointUri() + " was stopped"));
+			write.callback.done(false);
+		}
+
+		super.doStop();
+	}
+
+	private boolean send(Exchange exchange, AsyncCallback callback, boolean doneSync) {
+		CompletableFuture<Void> result = endpoint.setPropertyValueAsync(exchange.getMessage()
+				.getBody(String.class));
+
+		if (doneSync && result.isDone()) {
+			complete(exchange, result);
+			callback.done(true);
+			return true;
+		}
+
+		result.whenComplete((ignored, error) -> continueRoute(exchange, callback, result));
+
+		return false;
+	}
+
+	private void continueRoute(Exchange exchange, AsyncCallback callback, CompletableFuture<Void> result) {
+		try {
+			endpoint.getComponent()
+					.getAsyncCompletionExecutor()
+					.execute(() -> {
+						complete(exchange, result);
+						callback.done(false);
+					});
+		} catch (RejectedExecutionException e) {
+			complete(exchange, result);
+			callback.done(false);
+		}
+	}
+
+	private void complete(Exchange exchange, CompletableFuture<Void> result) {
+		try {
+			result.join();
+		} catch (Exception e) {
+			exchange.setException(e.getCause() != null ? e.getCause() : e);
+		}
+
+		sendNextQueued();
+	}
+
+	/**
+	 * Hands the freed slot to the next queued exchange, if any
+	 */
+	private void sendNextQueued() {
+		QueuedWrite next;
+
+		synchronized (queuedWrites) {
+			next = queuedWrites.poll();
+
+			if (next == null)
+				inFlight--;
+		}
+
+		if (next != null)
+			send(next.exchange, next.callback, false);
+	}
+
+	private static class QueuedWrite {
+		private final Exchange exchange;
+		private final AsyncCallback callback;
+
+		private QueuedWrite(Exchange exchange, AsyncCallback callback) {
+			this.exchange = exchange;
+			this.callback = callback;
+		}
+	}
+}
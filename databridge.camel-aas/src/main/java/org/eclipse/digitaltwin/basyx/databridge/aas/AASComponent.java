@@ -24,18 +24,84 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.databridge.aas;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.Endpoint;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.spi.Metadata;
 import org.apache.camel.spi.annotations.Component;
 import org.apache.camel.support.DefaultComponent;
+import org.apache.camel.util.PropertiesHelper;
+import org.apache.http.HttpHost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.utils.URIUtils;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.pool.ConnPoolControl;
+import org.eclipse.digitaltwin.basyx.databridge.aas.batch.SubmodelValueBatchWriter;
+import org.eclipse.digitaltwin.basyx.databridge.aas.http.HTTPRequest;
+import org.eclipse.digitaltwin.basyx.databridge.aas.metadata.AASElementMetadataCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 @Component("aas")
 public class AASComponent extends DefaultComponent {
+	private static final Logger logger = LoggerFactory.getLogger(AASComponent.class);
+
+	private static final long IDLE_CONNECTION_TIMEOUT_SECONDS = 30;
+	private static final int BATCH_WRITER_POOL_SIZE = 4;
+	private static final String PROPERTY_MAPPING_PREFIX = "mapping.";
+
+	@Metadata(label = "consumer", defaultValue = "10")
+	private int pollingThreadPoolSize = 10;
+	private ExecutorService pollingExecutor;
+
+	@Metadata(defaultValue = "10000")
+	private int connectTimeout = 10000;
+
+	@Metadata(defaultValue = "30000")
+	private int socketTimeout = 30000;
+
+	@Metadata(defaultValue = "10000")
+	private int connectionRequestTimeout = 10000;
+
+	private int maxTotalConnections = 0;
+	private int defaultMaxConnectionsPerRoute = 0;
+	private final Map<HttpRoute, Integer> maxConnectionsPerRoute = new HashMap<>();
+
+	private PoolingHttpClientConnectionManager connectionManager;
+	private CloseableHttpClient httpClient;
+
+	private PoolingNHttpClientConnectionManager asyncConnectionManager;
+	private CloseableHttpAsyncClient httpAsyncClient;
+	private ExecutorService asyncCompletionExecutor;
+
+	private final Map<String, SubmodelValueBatchWriter> batchWriters = new ConcurrentHashMap<>();
+	private ScheduledExecutorService batchWriterExecutor;
+
+	private final AASElementMetadataCache metadataCache = new AASElementMetadataCache();
     
     @Override
 	protected Endpoint createEndpoint(String uri, String remaining, Map<String, Object> parameters) throws Exception {
-		Endpoint endpoint = new AASEndpoint(uri, this);
+		AASEndpoint endpoint = new AASEndpoint(uri, this);
+		endpoint.setPropertyMapping(PropertiesHelper.extractProperties(parameters, PROPERTY_MAPPING_PREFIX));
         setProperties(endpoint, parameters);
         return endpoint;
     }
@@ -44,4 +110,297 @@ public class AASComponent extends DefaultComponent {
 	public boolean useRawUri() {
 		return true;
 	}
+
+	/**
+	 * Gets the pooled HTTP client shared by all endpoints of this component.
+	 * Connections are kept alive and reused across messages.
+	 * 
+	 * @return the shared HTTP client
+	 */
+	public synchronized CloseableHttpClient getHttpClient() {
+		if (httpClient == null) {
+			connectionManager = new PoolingHttpClientConnectionManager();
+			applyConnectionLimits(connectionManager);
+
+			httpClient = HttpClients.custom()
+					.setConnectionManager(connectionManager)
+					.setDefaultRequestConfig(createRequestConfig())
+					.setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+					.evictExpiredConnections()
+					.evictIdleConnections(IDLE_CONNECTION_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+					.build();
+		}
+
+		return httpClient;
+	}
+
+	/**
+	 * Gets the non-blocking HTTP client shared by all asynchronous producers of
+	 * this component. It uses the same connection limits as
+	 * {@link #getHttpClient()}.
+	 * 
+	 * @return the started asynchronous HTTP client
+	 */
+	public synchronized CloseableHttpAsyncClient getHttpAsyncClient() {
+		if (httpAsyncClient == null) {
+			asyncConnectionManager = createAsyncConnectionManager();
+			applyConnectionLimits(asyncConnectionManager);
+
+			httpAsyncClient = HttpAsyncClients.custom()
+					.setConnectionManager(asyncConnectionManager)
+					.setDefaultRequestConfig(createRequestConfig())
+					.setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+					.build();
+			httpAsyncClient.start();
+		}
+
+		return httpAsyncClient;
+	}
+
+	/**
+	 * Gets the executor the asynchronous producers of this component continue
+	 * their routes on once a request has completed, instead of the I/O threads of
+	 * the asynchronous HTTP client
+	 * 
+	 * @return the completion executor
+	 */
+	public synchronized ExecutorService getAsyncCompletionExecutor() {
+		if (asyncCompletionExecutor == null)
+			asyncCompletionExecutor = getCamelContext().getExecutorServiceManager().newDefaultThreadPool(this, "AASAsyncProducer");
+
+		return asyncCompletionExecutor;
+	}
+
+	/**
+	 * Applies the connection limits of an endpoint to the shared connection pools
+	 * 
+	 * @param url
+	 *            the url of the server the endpoint writes to
+	 * @param maxConnectionsPerRoute
+	 *            the maximum number of connections to the server host
+	 * @param maxTotalConnections
+	 *            the maximum number of connections of the whole pool
+	 */
+	public synchronized void configureConnectionPool(String url, int maxConnectionsPerRoute, int maxTotalConnections) {
+		this.maxTotalConnections = Math.max(this.maxTotalConnections, maxTotalConnections);
+		this.defaultMaxConnectionsPerRoute = Math.max(this.defaultMaxConnectionsPerRoute, maxConnectionsPerRoute);
+
+		HttpRoute route = createHttpRoute(url);
+
+		if (route != null)
+			this.maxConnectionsPerRoute.merge(route, maxConnectionsPerRoute, Math::max);
+
+		if (connectionManager != null)
+			applyConnectionLimits(connectionManager);
+
+		if (asyncConnectionManager != null)
+			applyConnectionLimits(asyncConnectionManager);
+	}
+
+	/**
+	 * The number of threads shared by all AAS polling consumers for executing
+	 * their requests
+	 * 
+	 * @return the size of the polling thread pool
+	 */
+	public int getPollingThreadPoolSize() {
+		return pollingThreadPoolSize;
+	}
+
+	public void setPollingThreadPoolSize(int pollingThreadPoolSize) {
+		this.pollingThreadPoolSize = pollingThreadPoolSize;
+	}
+
+	/**
+	 * The time in milliseconds to wait for a connection to the AAS server
+	 * 
+	 * @return the connect timeout
+	 */
+	public int getConnectTimeout() {
+		return connectTimeout;
+	}
+
+	public void setConnectTimeout(int connectTimeout) {
+		this.connectTimeout = connectTimeout;
+	}
+
+	/**
+	 * The maximum time in milliseconds between two packets of a response of the
+	 * AAS server
+	 * 
+	 * @return the socket timeout
+	 */
+	public int getSocketTimeout() {
+		return socketTimeout;
+	}
+
+	public void setSocketTimeout(int socketTimeout) {
+		this.socketTimeout = socketTimeout;
+	}
+
+	/**
+	 * The time in milliseconds to wait for a free connection of the pool
+	 * 
+	 * @return the connection request timeout
+	 */
+	public int getConnectionRequestTimeout() {
+		return connectionRequestTimeout;
+	}
+
+	public void setConnectionRequestTimeout(int connectionRequestTimeout) {
+		this.connectionRequestTimeout = connectionRequestTimeout;
+	}
+
+	/**
+	 * Gets the bounded executor shared by all AAS polling consumers of this
+	 * component
+	 * 
+	 * @return the polling executor
+	 */
+	public synchronized ExecutorService getPollingExecutor() {
+		if (pollingExecutor == null)
+			pollingExecutor = getCamelContext().getExecutorServiceManager().newThreadPool(this, "AASPollingConsumer", pollingThreadPoolSize, pollingThreadPoolSize);
+
+		return pollingExecutor;
+	}
+
+	/**
+	 * Gets the cache of element metadata shared by all endpoints of this
+	 * component
+	 * 
+	 * @return the metadata cache
+	 */
+	public AASElementMetadataCache getMetadataCache() {
+		return metadataCache;
+	}
+
+	/**
+	 * Gets the batch writer coalescing the value updates of the given submodel.
+	 * All endpoints writing to the same submodel with the same batch window and
+	 * batch size share one writer.
+	 * 
+	 * @param submodelEndpoint
+	 * @param batchWindow
+	 *            the maximum time in milliseconds an update waits for other
+	 *            updates
+	 * @param batchSize
+	 *            the maximum number of elements written with one request
+	 * @return the shared batch writer
+	 */
+	public SubmodelValueBatchWriter getBatchWriter(String submodelEndpoint, long batchWindow, int batchSize) {
+		String key = submodelEndpoint + "|" + batchWindow + "|" + batchSize;
+
+		return batchWriters.computeIfAbsent(key, ignored -> new SubmodelValueBatchWriter(submodelEndpoint, batchWindow, batchSize, new HTTPRequest(getHttpClient()), getBatchWriterExecutor()));
+	}
+
+	@Override
+	protected void doStop() throws Exception {
+		super.doStop();
+		flushBatchWriters();
+		shutdownPollingExecutor();
+		closeHttpClients();
+		shutdownAsyncCompletionExecutor();
+		metadataCache.invalidateAll();
+	}
+
+	private synchronized ScheduledExecutorService getBatchWriterExecutor() {
+		if (batchWriterExecutor == null)
+			batchWriterExecutor = getCamelContext().getExecutorServiceManager().newScheduledThreadPool(this, "AASSubmodelValueBatchWriter", BATCH_WRITER_POOL_SIZE);
+
+		return batchWriterExecutor;
+	}
+
+	private synchronized void shutdownPollingExecutor() {
+		if (pollingExecutor == null)
+			return;
+
+		getCamelContext().getExecutorServiceManager().shutdownNow(pollingExecutor);
+		pollingExecutor = null;
+	}
+
+	private synchronized void shutdownAsyncCompletionExecutor() {
+		if (asyncCompletionExecutor == null)
+			return;
+
+		getCamelContext().getExecutorServiceManager().shutdown(asyncCompletionExecutor);
+		asyncCompletionExecutor = null;
+	}
+
+	private synchronized void flushBatchWriters() {
+		batchWriters.values().forEach(SubmodelValueBatchWriter::flushAll);
+		batchWriters.clear();
+
+		if (batchWriterExecutor != null) {
+			getCamelContext().getExecutorServiceManager().shutdown(batchWriterExecutor);
+			batchWriterExecutor = null;
+		}
+	}
+
+	private RequestConfig createRequestConfig() {
+		return RequestConfig.custom()
+				.setConnectTimeout(connectTimeout)
+				.setSocketTimeout(socketTimeout)
+				.setConnectionRequestTimeout(connectionRequestTimeout)
+				.build();
+	}
+
+	private void applyConnectionLimits(ConnPoolControl<HttpRoute> pool) {
+		if (maxTotalConnections > 0)
+			pool.setMaxTotal(maxTotalConnections);
+
+		if (defaultMaxConnectionsPerRoute > 0)
+			pool.setDefaultMaxPerRoute(defaultMaxConnectionsPerRoute);
+
+		maxConnectionsPerRoute.forEach(pool::setMaxPerRoute);
+	}
+
+	private static PoolingNHttpClientConnectionManager createAsyncConnectionManager() {
+		try {
+			return new PoolingNHttpClientConnectionManager(new DefaultConnectingIOReactor(IOReactorConfig.DEFAULT));
+		} catch (IOReactorException e) {
+			throw new RuntimeCamelException("Could not create the AAS asynchronous HTTP client", e);
+		}
+	}
+
+	private synchronized void closeHttpClients() {
+		close(httpClient);
+		close(httpAsyncClient);
+
+		httpClient = null;
+		connectionManager = null;
+		httpAsyncClient = null;
+		asyncConnectionManager = null;
+	}
+
+	private static void close(Closeable closeable) {
+		if (closeable == null)
+			return;
+
+		try {
+			closeable.close();
+		} catch (IOException e) {
+			logger.warn("Could not close the AAS HTTP client", e);
+		}
+	}
+
+	private static HttpRoute createHttpRoute(String url) {
+		try {
+			HttpHost host = URIUtils.extractHost(new URI(url));
+
+			if (host == null)
+				return null;
+
+			boolean secure = "https".equalsIgnoreCase(host.getSchemeName());
+			int port = host.getPort() < 0 ? getDefaultPort(secure) : host.getPort();
+
+			return new HttpRoute(new HttpHost(host.getHostName(), port, host.getSchemeName()), null, secure);
+		} catch (Exception e) {
+			logger.warn("Could not determine the connection pool route for url {}", url);
+			return null;
+		}
+	}
+
+	private static int getDefaultPort(boolean secure) {
+		return secure ? 443 : 80;
+	}
 }
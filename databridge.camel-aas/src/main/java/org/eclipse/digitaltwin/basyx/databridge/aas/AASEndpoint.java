@@ -25,6 +25,11 @@
 package org.eclipse.digitaltwin.basyx.databridge.aas;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.apache.camel.Category;
 import org.apache.camel.Consumer;
@@ -45,8 +50,11 @@ import org.eclipse.basyx.vab.modelprovider.VABElementProxy;
 import org.eclipse.basyx.vab.modelprovider.api.IModelProvider;
 import org.eclipse.basyx.vab.protocol.http.connector.HTTPConnectorFactory;
 import org.eclipse.digitaltwin.basyx.databridge.aas.api.ApiType;
+import org.eclipse.digitaltwin.basyx.databridge.aas.http.AsyncHTTPRequest;
 import org.eclipse.digitaltwin.basyx.databridge.aas.http.HTTPRequest;
+import org.eclipse.digitaltwin.basyx.databridge.aas.metadata.AASElementMetadata;
 import org.eclipse.digitaltwin.basyx.databridge.aas.util.AASComponentUtil;
+import org.eclipse.digitaltwin.basyx.databridge.aas.util.ValueOnlyPayloadBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -62,6 +70,7 @@ public class AASEndpoint extends DefaultEndpoint {
 	private ConnectedDataElement connectedDataElement;
 	private static final String API_V3_SUFFIX = "/$value";
 	private static final String BASYX_API_SUFFIX = "/value";
+	private static final long BATCH_WRITE_TIMEOUT_MILLIS = 30000;
 
 	@UriPath
 	@Metadata(required = true)
@@ -73,6 +82,54 @@ public class AASEndpoint extends DefaultEndpoint {
 	@UriParam(defaultValue = "BaSyx")
 	private ApiType api;
 
+	@UriParam(defaultValue = "20")
+	private int maxConnectionsPerRoute = 20;
+
+	@UriParam(defaultValue = "200")
+	private int maxTotalConnections = 200;
+
+	@UriParam(label = "producer", defaultValue = "false")
+	private boolean async = false;
+
+	@UriParam(label = "producer", defaultValue = "100")
+	private int maxInFlight = 100;
+
+	@UriParam(label = "producer", defaultValue = "1000")
+	private int maxQueued = 1000;
+
+	@UriParam(label = "producer", defaultValue = "0")
+	private long batchWindow = 0;
+
+	@UriParam(label = "producer", defaultValue = "100")
+	private int batchSize = 100;
+
+	@UriParam(label = "producer", defaultValue = "0")
+	private long metadataCacheTimeToLive = 0;
+
+	@UriParam(label = "consumer", defaultValue = "false")
+	private boolean changeDetection = false;
+
+	@UriParam(label = "consumer", defaultValue = "false")
+	private boolean emitUnchanged = false;
+
+	@UriParam(label = "producer", prefix = "mapping.", multiValue = true)
+	private Map<String, Object> propertyMapping;
+
+	@UriParam(label = "consumer")
+	private String eventBrokerUrl;
+
+	@UriParam(label = "consumer")
+	private String eventTopic;
+
+	@UriParam(label = "consumer")
+	private String eventClientId;
+
+	@UriParam(label = "consumer", defaultValue = "true")
+	private boolean fetchOnEvent = true;
+
+	@UriParam(label = "consumer", defaultValue = "5000")
+	private long eventFetchTimeout = 5000;
+
 	public AASEndpoint() {
 	}
 
@@ -82,12 +139,35 @@ public class AASEndpoint extends DefaultEndpoint {
 
 	@Override
 	public Producer createProducer() throws Exception {
+		if (hasPropertyMapping())
+			return new AASMultiPropertyProducer(this);
+
+		if (async)
+			return new AASAsyncProducer(this);
+
 		return new AASProducer(this);
 	}
 
 	@Override
 	public Consumer createConsumer(Processor processor) throws Exception {
-		return null;
+		if (eventBrokerUrl == null || eventTopic == null)
+			throw new IllegalArgumentException("The AAS consumer requires the eventBrokerUrl and eventTopic parameters, use polling otherwise");
+
+		AASEventConsumer consumer = new AASEventConsumer(this, processor);
+		configureConsumer(consumer);
+
+		return consumer;
+	}
+
+	@Override
+	public AASComponent getComponent() {
+		return (AASComponent) super.getComponent();
+	}
+
+	@Override
+	protected void doStart() throws Exception {
+		super.doStart();
+		getComponent().configureConnectionPool(getSubmodelEndpoint(), maxConnectionsPerRoute, maxTotalConnections);
 	}
 
 	/**
@@ -132,9 +212,258 @@ public class AASEndpoint extends DefaultEndpoint {
 		this.api = api;
 	}
 
+	/**
+	 * The maximum number of pooled connections to the host of the submodel
+	 * 
+	 * @return the maximum number of connections per route
+	 */
+	public int getMaxConnectionsPerRoute() {
+		return maxConnectionsPerRoute;
+	}
+
+	public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+		this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+	}
+
+	/**
+	 * The maximum number of pooled connections shared by all AAS endpoints
+	 * 
+	 * @return the maximum number of connections in total
+	 */
+	public int getMaxTotalConnections() {
+		return maxTotalConnections;
+	}
+
+	public void setMaxTotalConnections(int maxTotalConnections) {
+		this.maxTotalConnections = maxTotalConnections;
+	}
+
+	/**
+	 * Whether the producer writes without blocking the calling thread
+	 * 
+	 * @return true if the asynchronous producer is used
+	 */
+	public boolean isAsync() {
+		return async;
+	}
+
+	public void setAsync(boolean async) {
+		this.async = async;
+	}
+
+	/**
+	 * The maximum number of requests the asynchronous producer of this endpoint
+	 * may have in flight at the same time
+	 * 
+	 * @return the in-flight limit
+	 */
+	public int getMaxInFlight() {
+		return maxInFlight;
+	}
+
+	public void setMaxInFlight(int maxInFlight) {
+		this.maxInFlight = maxInFlight;
+	}
+
+	/**
+	 * The maximum number of exchanges the asynchronous producer of this endpoint
+	 * queues while all {@link #getMaxInFlight()} slots are busy. Further
+	 * exchanges fail immediately.
+	 * 
+	 * @return the queue limit
+	 */
+	public int getMaxQueued() {
+		return maxQueued;
+	}
+
+	public void setMaxQueued(int maxQueued) {
+		this.maxQueued = maxQueued;
+	}
+
+	/**
+	 * The time in milliseconds updates of the same submodel are collected before
+	 * they are written with a single ValueOnly PATCH (DotAAS-V3 API only). The
+	 * synchronous producer waits until the batch has been written. A value of 0
+	 * disables batching.
+	 * 
+	 * @return the batch window
+	 */
+	public long getBatchWindow() {
+		return batchWindow;
+	}
+
+	public void setBatchWindow(long batchWindow) {
+		this.batchWindow = batchWindow;
+	}
+
+	/**
+	 * The maximum number of element updates written with one batch request
+	 * 
+	 * @return the batch size
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * The time in milliseconds the model type and value type of the target
+	 * element are cached (BaSyx API only). A value of 0 caches them until a write
+	 * fails.
+	 * 
+	 * @return the time to live of the cached metadata
+	 */
+	public long getMetadataCacheTimeToLive() {
+		return metadataCacheTimeToLive;
+	}
+
+	public void setMetadataCacheTimeToLive(long metadataCacheTimeToLive) {
+		this.metadataCacheTimeToLive = metadataCacheTimeToLive;
+	}
+
+	/**
+	 * Whether polling suppresses results that did not change since the last poll
+	 * 
+	 * @return true if change detection is enabled
+	 */
+	public boolean isChangeDetection() {
+		return changeDetection;
+	}
+
+	public void setChangeDetection(boolean changeDetection) {
+		this.changeDetection = changeDetection;
+	}
+
+	/**
+	 * Whether polling emits the last result with the header
+	 * {@link AASPollingConsumer#UNCHANGED_HEADER} instead of suppressing
+	 * unchanged results
+	 * 
+	 * @return true if unchanged results are emitted
+	 */
+	public boolean isEmitUnchanged() {
+		return emitUnchanged;
+	}
+
+	public void setEmitUnchanged(boolean emitUnchanged) {
+		this.emitUnchanged = emitUnchanged;
+	}
+
+	/**
+	 * The JSON paths into the message keyed by the idShortPath of the element they
+	 * are written to, configured with the prefix mapping.
+	 * 
+	 * @return the property mapping
+	 */
+	public Map<String, Object> getPropertyMapping() {
+		return propertyMapping;
+	}
+
+	public void setPropertyMapping(Map<String, Object> propertyMapping) {
+		this.propertyMapping = propertyMapping;
+	}
+
+	/**
+	 * Whether this endpoint writes many elements from one message
+	 * 
+	 * @return true if a property mapping is configured
+	 */
+	public boolean hasPropertyMapping() {
+		return propertyMapping != null && !propertyMapping.isEmpty();
+	}
+
+	/**
+	 * The URL of the MQTT broker the AAS server publishes its change events to
+	 * 
+	 * @return the broker URL
+	 */
+	public String getEventBrokerUrl() {
+		return eventBrokerUrl;
+	}
+
+	public void setEventBrokerUrl(String eventBrokerUrl) {
+		this.eventBrokerUrl = eventBrokerUrl;
+	}
+
+	/**
+	 * The topic of the change events of the element, may contain wildcards
+	 * 
+	 * @return the event topic
+	 */
+	public String getEventTopic() {
+		return eventTopic;
+	}
+
+	public void setEventTopic(String eventTopic) {
+		this.eventTopic = eventTopic;
+	}
+
+	/**
+	 * The client id used for the event subscription, generated if not set
+	 * 
+	 * @return the client id
+	 */
+	public String getEventClientId() {
+		return eventClientId;
+	}
+
+	public void setEventClientId(String eventClientId) {
+		this.eventClientId = eventClientId;
+	}
+
+	/**
+	 * Whether the element is read from the server on each event instead of
+	 * using the event payload as body
+	 * 
+	 * @return true if the element is read on each event
+	 */
+	public boolean isFetchOnEvent() {
+		return fetchOnEvent;
+	}
+
+	public void setFetchOnEvent(boolean fetchOnEvent) {
+		this.fetchOnEvent = fetchOnEvent;
+	}
+
+	/**
+	 * The time in milliseconds to wait for reading the element after an event
+	 * 
+	 * @return the fetch timeout
+	 */
+	public long getEventFetchTimeout() {
+		return eventFetchTimeout;
+	}
+
+	public void setEventFetchTimeout(long eventFetchTimeout) {
+		this.eventFetchTimeout = eventFetchTimeout;
+	}
+
+	/**
+	 * Gets the request helper backed by the pooled client of the component
+	 * 
+	 * @return HTTPRequest
+	 */
+	protected HTTPRequest getHttpRequest() {
+		return new HTTPRequest(getComponent().getHttpClient());
+	}
+
+	/**
+	 * Gets the non-blocking request helper backed by the component
+	 * 
+	 * @return AsyncHTTPRequest
+	 */
+	protected AsyncHTTPRequest getAsyncHttpRequest() {
+		return new AsyncHTTPRequest(getComponent().getHttpAsyncClient());
+	}
+
 	public void setPropertyValue(Object content) throws IOException {
 		if (api.equals(ApiType.BASYX)) {
 			setPropertyValueUsingBaSyxAPI(content);
+		} else if (isBatchingEnabled()) {
+			awaitBatchWrite(submitToBatch(content));
 		} else {
 			setPropertyValueUsingDotAasV3Api(AASComponentUtil.wrapContent(content.toString()));
 		}
@@ -142,6 +471,107 @@ public class AASEndpoint extends DefaultEndpoint {
 		logger.info("Transferred message={}", content.toString());
 	}
 
+	/**
+	 * Sets the property value without blocking the calling thread. Writes of
+	 * BaSyx properties go through the connected element and complete
+	 * synchronously.
+	 * 
+	 * @param content
+	 * @return a future which completes once the server has answered the write
+	 */
+	public CompletableFuture<Void> setPropertyValueAsync(Object content) {
+		try {
+			CompletableFuture<Void> result = sendPropertyValueAsync(content);
+
+			return result.thenRun(() -> logger.info("Transferred message={}", content));
+		} catch (Exception e) {
+			CompletableFuture<Void> failed = new CompletableFuture<>();
+			failed.completeExceptionally(e);
+
+			return failed;
+		}
+	}
+
+	private CompletableFuture<Void> sendPropertyValueAsync(Object content) throws IOException {
+		if (isBatchingEnabled())
+			return submitToBatch(content);
+
+		if (!api.equals(ApiType.BASYX))
+			return getAsyncHttpRequest().patchRequest(getFullProxyUrl() + API_V3_SUFFIX, AASComponentUtil.wrapContent(content.toString()));
+
+		if (!getElementMetadata().isProperty())
+			return getAsyncHttpRequest().putRequest(getFullProxyUrl() + BASYX_API_SUFFIX, content.toString());
+
+		setPropertyValueUsingBaSyxAPI(content);
+
+		return CompletableFuture.completedFuture(null);
+	}
+
+	/**
+	 * Writes the values of many elements of the submodel with one ValueOnly PATCH
+	 * (DotAAS-V3 API only)
+	 * 
+	 * @param valueOnlyPayload
+	 *            the ValueOnly serialization of the elements
+	 * @throws IOException
+	 */
+	public void setSubmodelValue(String valueOnlyPayload) throws IOException {
+		getHttpRequest().patchRequest(getSubmodelEndpoint() + API_V3_SUFFIX, valueOnlyPayload);
+
+		logger.info("Transferred submodel values={}", valueOnlyPayload);
+	}
+
+	/**
+	 * Creates an endpoint writing the single element of the same submodel
+	 * addressed by the idShortPath. It shares the connections and the metadata
+	 * cache of this endpoint. The caller starts and stops it and connects it to
+	 * the element once started.
+	 * 
+	 * @param idShortPath
+	 * @return the element endpoint
+	 */
+	protected AASEndpoint createElementEndpoint(String idShortPath) {
+		AASEndpoint elementEndpoint = new AASEndpoint(getEndpointUri(), getComponent());
+		elementEndpoint.setPropertyPath(idShortPath);
+		elementEndpoint.setApi(api);
+		elementEndpoint.setMetadataCacheTimeToLive(metadataCacheTimeToLive);
+		elementEndpoint.setMaxConnectionsPerRoute(maxConnectionsPerRoute);
+		elementEndpoint.setMaxTotalConnections(maxTotalConnections);
+
+		return elementEndpoint;
+	}
+
+	private boolean isBatchingEnabled() {
+		return batchWindow > 0 && api.equals(ApiType.DOT_AAS_V3) && ValueOnlyPayloadBuilder.isMergeable(propertyPath);
+	}
+
+	private CompletableFuture<Void> submitToBatch(Object content) {
+		return getComponent().getBatchWriter(getSubmodelEndpoint(), batchWindow, batchSize)
+				.submit(propertyPath, AASComponentUtil.wrapContent(content.toString()));
+	}
+
+	/**
+	 * Waits until the batch containing a value of the synchronous producer has
+	 * been written, so that the exchange fails if the batch cannot be written
+	 */
+	private void awaitBatchWrite(CompletableFuture<Void> result) throws IOException {
+		long timeout = batchWindow + BATCH_WRITE_TIMEOUT_MILLIS;
+
+		try {
+			result.get(timeout, TimeUnit.MILLISECONDS);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException)
+				throw (IOException) e.getCause();
+
+			throw new IOException("Could not write the batch of " + getSubmodelEndpoint(), e.getCause());
+		} catch (TimeoutException e) {
+			throw new IOException("The batch of " + getSubmodelEndpoint() + " was not written within " + timeout + " ms", e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while waiting for the batch of " + getSubmodelEndpoint(), e);
+		}
+	}
+
 	/**
 	 * Connect the Submodel Element for data dumping
 	 */
@@ -154,28 +584,71 @@ public class AASEndpoint extends DefaultEndpoint {
 		IModelProvider provider = factory.getConnector(proxyUrl);
 		VABElementProxy proxy = new VABElementProxy("", provider);
 		this.connectedDataElement = new ConnectedDataElement(proxy);
+
+		prefetchElementMetadata();
 	}
 
-	private void setPropertyValueUsingBaSyxAPI(Object messageBody) throws IOException {
-		if (!connectedDataElement.getModelType().equals(KeyElements.PROPERTY.getStandardizedLiteral())) {
-			HTTPRequest.putRequest(getFullProxyUrl() + BASYX_API_SUFFIX, messageBody.toString());
+	/**
+	 * Removes the cached metadata of the target element, so that it is fetched
+	 * again before the next write
+	 */
+	public void invalidateElementMetadata() {
+		getComponent().getMetadataCache().invalidate(getFullProxyUrl());
+	}
 
-			return;
+	private void prefetchElementMetadata() {
+		try {
+			getElementMetadata();
+		} catch (RuntimeException e) {
+			logger.warn("Could not fetch the metadata of {}, retrying on first write", getFullProxyUrl());
 		}
+	}
 
-		ValueType valueType = Property.createAsFacade(connectedDataElement.getLocalCopy()).getValueType();
+	private AASElementMetadata getElementMetadata() {
+		return getComponent().getMetadataCache().get(getFullProxyUrl(), metadataCacheTimeToLive, this::fetchElementMetadata);
+	}
+
+	/**
+	 * Fetches the metadata through a new connected element, as the connected
+	 * element caches the model type it has read once
+	 */
+	private AASElementMetadata fetchElementMetadata() {
+		ConnectedDataElement element = new ConnectedDataElement(connectedDataElement.getProxy());
+		String modelType = element.getModelType();
 
-		connectedDataElement.setValue(getContent(messageBody, valueType));
+		if (!modelType.equals(KeyElements.PROPERTY.getStandardizedLiteral()))
+			return new AASElementMetadata(modelType, null);
+
+		ValueType valueType = Property.createAsFacade(element.getLocalCopy()).getValueType();
+
+		return new AASElementMetadata(modelType, valueType);
+	}
+
+	private void setPropertyValueUsingBaSyxAPI(Object messageBody) throws IOException {
+		AASElementMetadata metadata = getElementMetadata();
+
+		try {
+			if (!metadata.isProperty()) {
+				getHttpRequest().putRequest(getFullProxyUrl() + BASYX_API_SUFFIX, messageBody.toString());
+
+				return;
+			}
+
+			connectedDataElement.setValue(getContent(messageBody, metadata.getValueType()));
+		} catch (IOException | RuntimeException e) {
+			invalidateElementMetadata();
+			throw e;
+		}
 	}
 
 	private void setPropertyValueUsingDotAasV3Api(String content) throws IOException {
-		HTTPRequest.patchRequest(getFullProxyUrl() + API_V3_SUFFIX, content);
+		getHttpRequest().patchRequest(getFullProxyUrl() + API_V3_SUFFIX, content);
 	}
 
 	private String createDotAasApiProxyUrl() {
 		String proxyUrl = String.format("%s/submodel-elements/%s", getSubmodelEndpoint(), propertyPath);
 
-		logger.info("Proxy URL: " + proxyUrl);
+		logger.debug("Proxy URL: {}", proxyUrl);
 
 		return proxyUrl;
 	}
@@ -183,7 +656,7 @@ public class AASEndpoint extends DefaultEndpoint {
 	private String createBaSyxApiProxyUrl() {
 		String proxyUrl = String.format("%s/submodelElements/%s", getSubmodelEndpoint(), propertyPath);
 
-		logger.info("Proxy URL: " + proxyUrl);
+		logger.debug("Proxy URL: {}", proxyUrl);
 
 		return proxyUrl;
 	}
@@ -209,7 +682,7 @@ public class AASEndpoint extends DefaultEndpoint {
 	public String getSubmodelEndpoint() {
 		String submodelEndpoint = this.getEndpointBaseUri().substring(4);
 
-		logger.info("SubmodelEndpoint " + submodelEndpoint);
+		logger.debug("SubmodelEndpoint {}", submodelEndpoint);
 
 		return submodelEndpoint;
 	}
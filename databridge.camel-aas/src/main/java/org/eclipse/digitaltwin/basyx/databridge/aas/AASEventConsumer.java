@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.aas;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.PollingConsumer;
+import org.apache.camel.Processor;
+import org.apache.camel.support.DefaultConsumer;
+import org.apache.camel.support.service.ServiceHelper;
+import org.eclipse.digitaltwin.basyx.databridge.core.component.DataBridgeHeaders;
+import org.eclipse.paho.client.mqttv3.IMqttDeliveryToken;
+import org.eclipse.paho.client.mqttv3.MqttCallbackExtended;
+import org.eclipse.paho.client.mqttv3.MqttClient;
+import org.eclipse.paho.client.mqttv3.MqttConnectOptions;
+import org.eclipse.paho.client.mqttv3.MqttException;
+import org.eclipse.paho.client.mqttv3.MqttMessage;
+import org.eclipse.paho.client.mqttv3.persist.MemoryPersistence;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Event driven consumer implementation of AAS
+ * 
+ * Subscribes to the change events the AAS server publishes to an MQTT broker
+ * (e.g. BaSyx MQTT eventing) and creates one exchange per change instead of
+ * polling the server periodically. By default the element is read once per
+ * event, so the exchange carries the same content as a poll. Otherwise the
+ * event payload is used as body.
+ *
+ */
+public class AASEventConsumer extends DefaultConsumer implements MqttCallbackExtended {
+	private static final Logger logger = LoggerFactory.getLogger(AASEventConsumer.class);
+
+	/**
+	 * Header holding the topic of the event that created the exchange
+	 */
+	public static final String EVENT_TOPIC_HEADER = "AASEventTopic";
+
+	private MqttClient mqttClient;
+	private PollingConsumer elementReader;
+
+	public AASEventConsumer(AASEndpoint endpoint, Processor processor) {
+		super(endpoint, processor);
+	}
+
+	@Override
+	public AASEndpoint getEndpoint() {
+		return (AASEndpoint) super.getEndpoint();
+	}
+
+	@Override
+	protected void doStart() throws Exception {
+		super.doStart();
+
+		if (getEndpoint().isFetchOnEvent()) {
+			elementReader = getEndpoint().createPollingConsumer();
+			ServiceHelper.startService(elementReader);
+		}
+
+		mqttClient = createMqttClient();
+		mqttClient.setCallback(this);
+		mqttClient.connect(createConnectOptions());
+		subscribe();
+
+		logger.info("Subscribed to AAS events on topic {} of {}", getEndpoint().getEventTopic(), getEndpoint().getEventBrokerUrl());
+	}
+
+	@Override
+	protected void doStop() throws Exception {
+		closeClient();
+		ServiceHelper.stopService(elementReader);
+		elementReader = null;
+
+		super.doStop();
+	}
+
+	@Override
+	public void connectComplete(boolean reconnect, String serverURI) {
+		if (!reconnect)
+			return;
+
+		try {
+			subscribe();
+			logger.info("Resubscribed to AAS events after reconnecting to {}", serverURI);
+		} catch (MqttException e) {
+			getExceptionHandler().handleException("Could not resubscribe to AAS events", e);
+		}
+	}
+
+	@Override
+	public void connectionLost(Throwable cause) {
+		logger.warn("Connection to the AAS event broker lost: {}", cause.getMessage());
+	}
+
+	@Override
+	public void messageArrived(String topic, MqttMessage message) {
+		logger.debug("Received AAS event on topic {}", topic);
+
+		Exchange exchange = createEventExchange(message);
+
+		if (exchange == null)
+			return;
+
+		exchange.getIn().setHeader(EVENT_TOPIC_HEADER, topic);
+
+		try {
+			getProcessor().process(exchange);
+		} catch (Exception e) {
+			exchange.setException(e);
+		}
+
+		if (exchange.getException() != null)
+			getExceptionHandler().handleException("Error processing AAS event", exchange, exchange.getException());
+	}
+
+	@Override
+	public void deliveryComplete(IMqttDeliveryToken token) {
+	}
+
+	/**
+	 * Creates the client subscribing to the events of the element
+	 * 
+	 * @return the unconnected MQTT client
+	 * @throws MqttException
+	 */
+	protected MqttClient createMqttClient() throws MqttException {
+		return new MqttClient(getEndpoint().getEventBrokerUrl(), getClientId(), new MemoryPersistence());
+	}
+
+	private Exchange createEventExchange(MqttMessage message) {
+		if (elementReader != null)
+			return skipUnchanged(elementReader.receive(getEndpoint().getEventFetchTimeout()));
+
+		Exchange exchange = createExchange(true);
+		exchange.getIn().setBody(new String(message.getPayload(), StandardCharsets.UTF_8));
+
+		return exchange;
+	}
+
+	private static Exchange skipUnchanged(Exchange exchange) {
+		if (exchange == null || exchange.getIn().getHeader(DataBridgeHeaders.SKIP_POLL, false, Boolean.class))
+			return null;
+
+		return exchange;
+	}
+
+	private void subscribe() throws MqttException {
+		mqttClient.subscribe(getEndpoint().getEventTopic(), 1);
+	}
+
+	private MqttConnectOptions createConnectOptions() {
+		MqttConnectOptions options = new MqttConnectOptions();
+		options.setAutomaticReconnect(true);
+		options.setCleanSession(true);
+
+		return options;
+	}
+
+	private String getClientId() {
+		String clientId = getEndpoint().getEventClientId();
+
+		return clientId != null ? clientId : "databridge-aas-" + UUID.randomUUID();
+	}
+
+	private void closeClient() {
+		if (mqttClient == null)
+			return;
+
+		try {
+			if (mqttClient.isConnected())
+				mqttClient.disconnect();
+
+			mqttClient.close();
+		} catch (MqttException e) {
+			logger.warn("Could not close the connection to the AAS event broker", e);
+		}
+
+		mqttClient = null;
+	}
+}
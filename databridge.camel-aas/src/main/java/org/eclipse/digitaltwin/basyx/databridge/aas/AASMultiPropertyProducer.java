@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.aas;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.InvalidPayloadException;
+import org.apache.camel.support.DefaultProducer;
+import org.apache.camel.support.service.ServiceHelper;
+import org.eclipse.digitaltwin.basyx.databridge.aas.api.ApiType;
+import org.eclipse.digitaltwin.basyx.databridge.aas.util.ValueOnlyPayloadBuilder;
+import org.eclipse.digitaltwin.basyx.databridge.core.util.JsonPath;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Producer implementation of AAS writing many elements of one submodel from a
+ * single message
+ * 
+ * The message is parsed once and the value of each mapped element is selected
+ * with its JSON path. With the DotAAS-V3 API all values are written with one
+ * ValueOnly PATCH of the submodel, elements inside of lists and all elements of
+ * the BaSyx API are written one after another through element endpoints
+ * started and stopped with this producer.
+ *
+ */
+public class AASMultiPropertyProducer extends DefaultProducer {
+	private static final Logger LOG = LoggerFactory.getLogger(AASMultiPropertyProducer.class);
+
+	private final AASEndpoint endpoint;
+	private final Map<String, JsonPath> propertyMapping = new LinkedHashMap<>();
+	private final Map<String, AASEndpoint> elementEndpoints = new HashMap<>();
+
+	public AASMultiPropertyProducer(AASEndpoint endpoint) {
+		super(endpoint);
+		this.endpoint = endpoint;
+
+		endpoint.getPropertyMapping().forEach((idShortPath, jsonPath) -> propertyMapping.put(idShortPath, JsonPath.compile(jsonPath.toString())));
+
+		LOG.info("Creating AAS Producer for {} elements of endpoint {}", propertyMapping.size(), endpoint.getEndpointUri());
+	}
+
+	@Override
+	protected void doStart() throws Exception {
+		super.doStart();
+
+		for (String idShortPath : propertyMapping.keySet()) {
+			if (isWrittenSeparately(idShortPath))
+				elementEndpoints.put(idShortPath, startElementEndpoint(idShortPath));
+		}
+	}
+
+	@Override
+	protected void doStop() throws Exception {
+		ServiceHelper.stopAndShutdownServices(elementEndpoints.values());
+		elementEndpoints.clear();
+
+		super.doStop();
+	}
+
+	@Override
+	public void process(Exchange exchange) throws Exception {
+		JsonElement document = parseBody(exchange);
+
+		ValueOnlyPayloadBuilder payload = new ValueOnlyPayloadBuilder();
+
+		for (Map.Entry<String, JsonPath> mapping : propertyMapping.entrySet()) {
+			JsonElement value = mapping.getValue().evaluate(document);
+
+			if (value == null) {
+				LOG.debug("No value at {} for element {}", mapping.getValue(), mapping.getKey());
+				continue;
+			}
+
+			write(mapping.getKey(), value, payload);
+		}
+
+		if (!payload.isEmpty())
+			endpoint.setSubmodelValue(payload.build());
+	}
+
+	/**
+	 * Parses the message body, which has to be a JSON document
+	 * 
+	 * @param exchange
+	 * @return the parsed body
+	 * @throws InvalidPayloadException
+	 *             if the body is missing or no JSON
+	 */
+	private static JsonElement parseBody(Exchange exchange) throws InvalidPayloadException {
+		String body = exchange.getMessage().getBody(String.class);
+
+		if (body == null)
+			throw new InvalidPayloadException(exchange, String.class);
+
+		try {
+			JsonElement document = JsonParser.parseString(body);
+
+			if (document.isJsonNull())
+				throw new InvalidPayloadException(exchange, JsonElement.class);
+
+			return document;
+		} catch (JsonParseException e) {
+			throw new InvalidPayloadException(exchange, JsonElement.class, exchange.getMessage(), e);
+		}
+	}
+
+	private void write(String idShortPath, JsonElement value, ValueOnlyPayloadBuilder payload) throws IOException {
+		AASEndpoint elementEndpoint = elementEndpoints.get(idShortPath);
+
+		if (elementEndpoint != null) {
+			elementEndpoint.setPropertyValue(toText(value));
+			return;
+		}
+
+		payload.add(idShortPath, toValueOnly(value));
+	}
+
+	private boolean isWrittenSeparately(String idShortPath) {
+		return endpoint.getApi().equals(ApiType.BASYX) || !ValueOnlyPayloadBuilder.isMergeable(idShortPath);
+	}
+
+	private AASEndpoint startElementEndpoint(String idShortPath) {
+		AASEndpoint elementEndpoint = endpoint.createElementEndpoint(idShortPath);
+		ServiceHelper.startService(elementEndpoint);
+		elementEndpoint.connectToElement();
+
+		return elementEndpoint;
+	}
+
+	private static String toText(JsonElement value) {
+		return value.isJsonPrimitive() ? value.getAsString() : value.toString();
+	}
+
+	private static String toValueOnly(JsonElement value) {
+		if (value.isJsonPrimitive())
+			return new JsonPrimitive(value.getAsString()).toString();
+
+		return value.toString();
+	}
+}
@@ -26,23 +26,22 @@
 package org.eclipse.digitaltwin.basyx.databridge.aas;
 
 import java.io.IOException;
-import java.util.concurrent.TimeoutException;
-import java.util.concurrent.Callable;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.support.DefaultMessage;
 import org.apache.camel.support.PollingConsumerSupport;
-import org.apache.http.ParseException;
-import org.apache.http.client.HttpClient;
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
 import org.apache.http.util.EntityUtils;
 import org.eclipse.basyx.submodel.metamodel.connected.ConnectedSubmodel;
 import org.eclipse.basyx.submodel.metamodel.connected.submodelelement.dataelement.ConnectedProperty;
@@ -53,11 +52,22 @@ import org.eclipse.basyx.vab.modelprovider.VABElementProxy;
 import org.eclipse.basyx.vab.modelprovider.api.IModelProvider;
 import org.eclipse.basyx.vab.protocol.http.connector.HTTPConnectorFactory;
 import org.eclipse.digitaltwin.basyx.databridge.aas.api.ApiType;
+import org.eclipse.digitaltwin.basyx.databridge.aas.http.HTTPRequest;
+import org.eclipse.digitaltwin.basyx.databridge.core.component.DataBridgeHeaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * An implementation of AASPolling Consumer
+ * 
+ * The requests are executed on the polling executor shared by all AAS polling
+ * endpoints and are cancelled if they do not complete within the timeout.
+ * 
+ * With change detection enabled, unchanged results are emitted without a body
+ * and with the header {@link DataBridgeHeaders#SKIP_POLL}, so that timer
+ * routes skip them. The DotAAS-V3 API is polled conditionally using the ETag of
+ * the last response, otherwise a hash of the content is compared.
+ * 
  * @author rana
  *
  */
@@ -67,6 +77,18 @@ public class AASPollingConsumer extends PollingConsumerSupport {
 	
 	private static final int WAIT_INDEFINITELY = -1;
 	private static final int NO_WAIT = 0;
+	private static final GSONTools GSON_TOOLS = new GSONTools(new DefaultTypeFactory());
+	private static final String HASH_ALGORITHM = "SHA-256";
+	private static final String AUTHORITY_PREFIX = "//";
+
+	/**
+	 * Header set to true on exchanges emitted for unchanged results
+	 */
+	public static final String UNCHANGED_HEADER = "AASPollingUnchanged";
+
+	private volatile String lastETag;
+	private volatile byte[] lastContentHash;
+	private volatile String lastContent;
 	private VABElementProxy proxy;
 	private AASEndpoint endpoint;
 	
@@ -98,32 +120,133 @@ public class AASPollingConsumer extends PollingConsumerSupport {
 		return doReceive(timeout);
 	}
 	
+	/**
+	 * Polls the metamodel
+	 * 
+	 * @param timeout
+	 *            the time to wait for the response in milliseconds, a negative
+	 *            value waits indefinitely
+	 * @return
+	 */
 	protected Exchange doReceive(long timeout) {
 		
 		String result;
 		
-		ExecutorService execService = Executors.newSingleThreadExecutor();
-        Callable<String> runWithTimeout = this::getSerializedMetamodel;
-        
-        Future<String> responseFuture = execService.submit(runWithTimeout);
+		HttpGet request = createRequest();
+		Future<String> responseFuture = getEndpoint().getComponent().getPollingExecutor().submit(() -> getSerializedMetamodel(request));
         
         try {
-        	result = responseFuture.get(timeout, TimeUnit.SECONDS); 
-        	
-        } catch (TimeoutException | InterruptedException | ExecutionException e) {
-        	
-        	logger.info("Time out after waiting");
-        	
+        	result = awaitResult(responseFuture, timeout);
+        } catch (TimeoutException e) {
+        	logger.info("Time out after waiting {} ms", timeout);
+        	cancel(request, responseFuture);
+
         	getExceptionHandler().handleException(e);
-        	
+        	result = "";
+        } catch (InterruptedException e) {
+        	Thread.currentThread().interrupt();
+        	cancel(request, responseFuture);
+
+        	getExceptionHandler().handleException(e);
+        	result = "";
+        } catch (ExecutionException e) {
+        	getExceptionHandler().handleException(e.getCause());
         	result = "";
         }
+
+		if (getEndpoint().isChangeDetection() && isUnchanged(result))
+			return createUnchangedExchange();
         
 		Exchange exchange = createExchange(result);
 		defaultConsumerCallback(exchange, true);
 	
 		return exchange;
 	}
+
+	/**
+	 * Checks whether the result equals the last emitted one and remembers it
+	 * otherwise. Failed polls are never considered unchanged.
+	 * 
+	 * @param result
+	 *            the polled content, null if the server reported it as not
+	 *            modified
+	 * @return
+	 */
+	private boolean isUnchanged(String result) {
+		if (result == null)
+			return true;
+
+		if (result.isEmpty())
+			return false;
+
+		byte[] contentHash = hash(result);
+
+		if (MessageDigest.isEqual(contentHash, lastContentHash))
+			return true;
+
+		lastContentHash = contentHash;
+
+		if (getEndpoint().isEmitUnchanged())
+			lastContent = result;
+
+		return false;
+	}
+
+	private Exchange createUnchangedExchange() {
+		Exchange exchange;
+
+		if (getEndpoint().isEmitUnchanged()) {
+			exchange = createExchange(lastContent);
+			exchange.getIn().setHeader(UNCHANGED_HEADER, true);
+		} else {
+			exchange = createExchange(null);
+			exchange.getIn().setHeader(DataBridgeHeaders.SKIP_POLL, true);
+		}
+
+		defaultConsumerCallback(exchange, true);
+
+		return exchange;
+	}
+
+	private static byte[] hash(String content) {
+		try {
+			return MessageDigest.getInstance(HASH_ALGORITHM).digest(content.getBytes(StandardCharsets.UTF_8));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String awaitResult(Future<String> responseFuture, long timeout) throws InterruptedException, ExecutionException, TimeoutException {
+		if (timeout < 0)
+			return responseFuture.get();
+
+		return responseFuture.get(timeout, TimeUnit.MILLISECONDS);
+	}
+
+	private static void cancel(HttpGet request, Future<String> responseFuture) {
+		if (request != null)
+			request.abort();
+
+		responseFuture.cancel(true);
+	}
+
+	private HttpGet createRequest() {
+		if (this.endpoint.getApi() == ApiType.BASYX)
+			return null;
+
+		return createGetRequestWithHeader(stripAuthorityPrefix(getMetamodelUrl()));
+	}
+
+	/**
+	 * Removes the leading slashes an endpoint uri of the form aas://http://...
+	 * leaves in front of the url
+	 */
+	private static String stripAuthorityPrefix(String url) {
+		if (url.startsWith(AUTHORITY_PREFIX))
+			return url.substring(AUTHORITY_PREFIX.length());
+
+		return url;
+	}
 	
 	/**
 	 * Connect to AAS Element for data dumping 
@@ -150,28 +273,38 @@ public class AASPollingConsumer extends PollingConsumerSupport {
 	
 	/**
 	 * Get serialized metamodel
+	 * @param request the request used for the DotAAS-V3 API, null for the BaSyx API
 	 * @return serialized meta model
 	 */
-	private String getSerializedMetamodel() throws IOException {
+	private String getSerializedMetamodel(HttpGet request) throws IOException {
 		if(this.endpoint.getApi() == ApiType.BASYX) {
 			if (!getEndpoint().getPropertyPath().isEmpty()) {
 				ConnectedProperty prop = new ConnectedProperty(this.proxy);
-				return new GSONTools(new DefaultTypeFactory()).serialize(prop.getLocalCopy());
+				return GSON_TOOLS.serialize(prop.getLocalCopy());
 			}
 
 			ConnectedSubmodel sm = new ConnectedSubmodel(this.proxy);
-			return new GSONTools(new DefaultTypeFactory()).serialize(SubmodelElementMapCollectionConverter.smToMap(sm.getLocalCopy()));
+			return GSON_TOOLS.serialize(SubmodelElementMapCollectionConverter.smToMap(sm.getLocalCopy()));
 		}else{
-			String metamodelUrl = getMetamodelUrl().substring(2);
-			return EntityUtils.toString(executeGetOnURL(metamodelUrl).getEntity(), "UTF-8");
+			if (getEndpoint().isChangeDetection() && lastETag != null)
+				request.setHeader(HttpHeaders.IF_NONE_MATCH, lastETag);
+
+			try (CloseableHttpResponse response = getEndpoint().getComponent().getHttpClient().execute(request)) {
+				if (response.getStatusLine().getStatusCode() == HttpStatus.SC_NOT_MODIFIED) {
+					EntityUtils.consume(response.getEntity());
+					return null;
+				}
+
+				String content = HTTPRequest.readResponse(request, response);
+				rememberETag(response.getFirstHeader(HttpHeaders.ETAG));
+
+				return content;
+			}
 		}
 	}
 
-	private static CloseableHttpResponse executeGetOnURL(String url) throws IOException {
-		CloseableHttpClient client = HttpClients.createDefault();
-		HttpGet getRequest = createGetRequestWithHeader(url);
-
-		return client.execute(getRequest);
+	private void rememberETag(Header eTagHeader) {
+		lastETag = eTagHeader != null ? eTagHeader.getValue() : null;
 	}
 
 	private static HttpGet createGetRequestWithHeader(String url) {
@@ -0,0 +1,230 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.aas.batch;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.digitaltwin.basyx.databridge.aas.http.HTTPRequest;
+import org.eclipse.digitaltwin.basyx.databridge.aas.util.ValueOnlyPayloadBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coalesces value updates of the elements of one submodel and writes them with
+ * a single ValueOnly PATCH of the submodel (DotAAS-V3 API).
+ * 
+ * A batch is written as soon as it contains {@link #getMaxBatchSize()} distinct
+ * elements or the batch window after its first update has elapsed. Within one
+ * batch, only the latest value of each element is written.
+ */
+public class SubmodelValueBatchWriter {
+	private static final Logger logger = LoggerFactory.getLogger(SubmodelValueBatchWriter.class);
+	private static final String API_V3_SUFFIX = "/$value";
+
+	private final String submodelEndpoint;
+	private final long batchWindow;
+	private final int maxBatchSize;
+	private final HTTPRequest httpRequest;
+	private final ScheduledExecutorService scheduler;
+
+	private Map<String, PendingValue> pendingValues = new LinkedHashMap<>();
+	private ScheduledFuture<?> scheduledFlush;
+	private boolean flushScheduled;
+
+	/**
+	 * @param submodelEndpoint
+	 *            the endpoint of the submodel whose elements are updated
+	 * @param batchWindow
+	 *            the maximum time in milliseconds an update waits for other
+	 *            updates
+	 * @param maxBatchSize
+	 *            the maximum number of elements written with one request
+	 * @param httpRequest
+	 * @param scheduler
+	 *            the executor the batches are written on
+	 */
+	public SubmodelValueBatchWriter(String submodelEndpoint, long batchWindow, int maxBatchSize, HTTPRequest httpRequest, ScheduledExecutorService scheduler) {
+		this.submodelEndpoint = submodelEndpoint;
+		this.batchWindow = batchWindow;
+		this.maxBatchSize = Math.max(1, maxBatchSize);
+		this.httpRequest = httpRequest;
+		this.scheduler = scheduler;
+	}
+
+	public String getSubmodelEndpoint() {
+		return submodelEndpoint;
+	}
+
+	public long getBatchWindow() {
+		return batchWindow;
+	}
+
+	public int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+
+	/**
+	 * Adds the value of an element to the current batch
+	 * 
+	 * @param idShortPath
+	 *            the path of the element relative to the submodel
+	 * @param value
+	 *            the wrapped value of the element
+	 * @return a future which completes once the batch containing the value has
+	 *         been written
+	 */
+	public synchronized CompletableFuture<Void> submit(String idShortPath, String value) {
+		CompletableFuture<Void> result = new CompletableFuture<>();
+
+		pendingValues.computeIfAbsent(idShortPath, ignored -> new PendingValue()).update(value, result);
+		scheduleFlush();
+
+		return result;
+	}
+
+	/**
+	 * Writes the pending values of at most {@link #getMaxBatchSize()} elements.
+	 * Further pending values are left to a subsequently scheduled flush.
+	 */
+	public void flush() {
+		Map<String, PendingValue> values;
+
+		synchronized (this) {
+			flushScheduled = false;
+			cancelScheduledFlush();
+
+			values = drainBatch();
+			scheduleFlush();
+		}
+
+		write(values);
+	}
+
+	/**
+	 * Writes all pending values in batches of at most {@link #getMaxBatchSize()}
+	 * elements on the calling thread
+	 */
+	public void flushAll() {
+		Map<String, PendingValue> values;
+
+		do {
+			synchronized (this) {
+				cancelScheduledFlush();
+				values = drainBatch();
+			}
+
+			write(values);
+		} while (!values.isEmpty());
+	}
+
+	private Map<String, PendingValue> drainBatch() {
+		Map<String, PendingValue> batch = new LinkedHashMap<>();
+		Iterator<Map.Entry<String, PendingValue>> iterator = pendingValues.entrySet().iterator();
+
+		while (batch.size() < maxBatchSize && iterator.hasNext()) {
+			Map.Entry<String, PendingValue> entry = iterator.next();
+			batch.put(entry.getKey(), entry.getValue());
+			iterator.remove();
+		}
+
+		return batch;
+	}
+
+	private void write(Map<String, PendingValue> values) {
+		if (values.isEmpty())
+			return;
+
+		ValueOnlyPayloadBuilder payload = new ValueOnlyPayloadBuilder();
+		values.forEach((idShortPath, pending) -> payload.add(idShortPath, pending.value));
+
+		try {
+			httpRequest.patchRequest(submodelEndpoint + API_V3_SUFFIX, payload.build());
+			logger.info("Transferred {} values in one batch to {}", values.size(), submodelEndpoint);
+
+			values.values().forEach(PendingValue::complete);
+		} catch (IOException | RuntimeException e) {
+			logger.error("Could not write batch of {} values to {}", values.size(), submodelEndpoint, e);
+
+			values.values().forEach(pending -> pending.completeExceptionally(e));
+		}
+	}
+
+	/**
+	 * Schedules the next flush of the pending values. A full batch is flushed
+	 * immediately, a partial batch after the batch window. At most one flush is
+	 * scheduled at any time.
+	 */
+	private void scheduleFlush() {
+		if (flushScheduled || pendingValues.isEmpty())
+			return;
+
+		if (pendingValues.size() >= maxBatchSize) {
+			cancelScheduledFlush();
+			flushScheduled = true;
+			scheduler.execute(this::flush);
+		} else if (scheduledFlush == null) {
+			scheduledFlush = scheduler.schedule(this::flush, batchWindow, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private void cancelScheduledFlush() {
+		if (scheduledFlush == null)
+			return;
+
+		scheduledFlush.cancel(false);
+		scheduledFlush = null;
+	}
+
+	/**
+	 * The latest value of one element together with the results of all updates
+	 * coalesced into it
+	 */
+	private static class PendingValue {
+		private final List<CompletableFuture<Void>> results = new ArrayList<>();
+		private String value;
+
+		private void update(String value, CompletableFuture<Void> result) {
+			this.value = value;
+			results.add(result);
+		}
+
+		private void complete() {
+			results.forEach(result -> result.complete(null));
+		}
+
+		private void completeExceptionally(Throwable e) {
+			results.forEach(result -> result.completeExceptionally(e));
+		}
+	}
+}
@@ -24,6 +24,8 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.databridge.aas.configuration;
 
+import java.util.Map;
+
 import org.eclipse.digitaltwin.basyx.databridge.aas.api.ApiType;
 import org.eclipse.digitaltwin.basyx.databridge.core.configuration.entity.DataSinkConfiguration;
 
@@ -40,6 +42,15 @@ public class AASDatasinkConfiguration extends DataSinkConfiguration {
 	private String submodelEndpoint;
 	private String idShortPath;
 	private String api;
+	private Integer maxConnectionsPerRoute;
+	private Integer maxTotalConnections;
+	private Boolean async;
+	private Integer maxInFlight;
+	private Integer maxQueued;
+	private Long batchWindow;
+	private Integer batchSize;
+	private Long metadataCacheTimeToLive;
+	private Map<String, String> propertyMapping;
 
 	public AASDatasinkConfiguration() {}
 	
@@ -87,15 +98,137 @@ public class AASDatasinkConfiguration extends DataSinkConfiguration {
 		this.api = api;
 	}
 
+	public Integer getMaxConnectionsPerRoute() {
+		return maxConnectionsPerRoute;
+	}
+
+	public void setMaxConnectionsPerRoute(Integer maxConnectionsPerRoute) {
+		this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+	}
+
+	public Integer getMaxTotalConnections() {
+		return maxTotalConnections;
+	}
+
+	public void setMaxTotalConnections(Integer maxTotalConnections) {
+		this.maxTotalConnections = maxTotalConnections;
+	}
+
+	public Boolean getAsync() {
+		return async;
+	}
+
+	public void setAsync(Boolean async) {
+		this.async = async;
+	}
+
+	public Integer getMaxInFlight() {
+		return maxInFlight;
+	}
+
+	public void setMaxInFlight(Integer maxInFlight) {
+		this.maxInFlight = maxInFlight;
+	}
+
+	public Integer getMaxQueued() {
+		return maxQueued;
+	}
+
+	public void setMaxQueued(Integer maxQueued) {
+		this.maxQueued = maxQueued;
+	}
+
+	public Long getBatchWindow() {
+		return batchWindow;
+	}
+
+	public void setBatchWindow(Long batchWindow) {
+		this.batchWindow = batchWindow;
+	}
+
+	public Integer getBatchSize() {
+		return batchSize;
+	}
+
+	public void setBatchSize(Integer batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	public Long getMetadataCacheTimeToLive() {
+		return metadataCacheTimeToLive;
+	}
+
+	public void setMetadataCacheTimeToLive(Long metadataCacheTimeToLive) {
+		this.metadataCacheTimeToLive = metadataCacheTimeToLive;
+	}
+
+	/**
+	 * The mapping of idShortPaths to JSON paths into the message, used to write
+	 * many elements of the submodel from one message. The idShortPath is ignored
+	 * if a mapping is configured.
+	 * 
+	 * @return the property mapping
+	 */
+	public Map<String, String> getPropertyMapping() {
+		return propertyMapping;
+	}
+
+	public void setPropertyMapping(Map<String, String> propertyMapping) {
+		this.propertyMapping = propertyMapping;
+	}
+
 	@Override
 	public String getConnectionURI() {
 		String endpointDefinition = "aas:";
 		endpointDefinition += this.submodelEndpoint;
-		endpointDefinition += "?propertyPath=" + this.idShortPath;
+		endpointDefinition += "?propertyPath=" + getIdShortPathIfConfigured();
 		endpointDefinition += "&api=" + getApiIfConfigured();
+
+		if (maxConnectionsPerRoute != null)
+			endpointDefinition += "&maxConnectionsPerRoute=" + maxConnectionsPerRoute;
+
+		if (maxTotalConnections != null)
+			endpointDefinition += "&maxTotalConnections=" + maxTotalConnections;
+
+		if (async != null)
+			endpointDefinition += "&async=" + async;
+
+		if (maxInFlight != null)
+			endpointDefinition += "&maxInFlight=" + maxInFlight;
+
+		if (maxQueued != null)
+			endpointDefinition += "&maxQueued=" + maxQueued;
+
+		if (batchWindow != null)
+			endpointDefinition += "&batchWindow=" + batchWindow;
+
+		if (batchSize != null)
+			endpointDefinition += "&batchSize=" + batchSize;
+
+		if (metadataCacheTimeToLive != null)
+			endpointDefinition += "&metadataCacheTimeToLive=" + metadataCacheTimeToLive;
+
+		if (propertyMapping != null)
+			endpointDefinition += getPropertyMappingParameters();
+
 		return endpointDefinition;
 	}
 
+	private String getPropertyMappingParameters() {
+		StringBuilder parameters = new StringBuilder();
+
+		propertyMapping.forEach((path, jsonPath) -> parameters.append("&mapping.").append(path).append("=RAW(").append(jsonPath).append(")"));
+
+		return parameters.toString();
+	}
+
+	private String getIdShortPathIfConfigured() {
+		if (idShortPath == null && propertyMapping != null)
+			return "";
+
+		return idShortPath;
+	}
+
 	private String getApiIfConfigured() {
 		return api != null ? api : ApiType.BASYX.getName();
 	}
@@ -38,6 +38,13 @@ public class AASPollingConsumerConfiguration extends DataSourceConfiguration {
 	private String idShortPath;
 	private String submodelEndpoint;
 	private String api;
+	private Boolean changeDetection;
+	private Boolean emitUnchanged;
+	private String eventBrokerUrl;
+	private String eventTopic;
+	private String eventClientId;
+	private Boolean fetchOnEvent;
+	private Long eventFetchTimeout;
 	
 	public AASPollingConsumerConfiguration(String uniqueId, String serverUrl, int serverPort, String idShortPath, String submodelEndpoint, String api) {
 		super(uniqueId, serverUrl, serverPort);
@@ -70,6 +77,62 @@ public class AASPollingConsumerConfiguration extends DataSourceConfiguration {
 		this.api = api;
 	}
 	
+	public Boolean getChangeDetection() {
+		return changeDetection;
+	}
+
+	public void setChangeDetection(Boolean changeDetection) {
+		this.changeDetection = changeDetection;
+	}
+
+	public Boolean getEmitUnchanged() {
+		return emitUnchanged;
+	}
+
+	public void setEmitUnchanged(Boolean emitUnchanged) {
+		this.emitUnchanged = emitUnchanged;
+	}
+
+	public String getEventBrokerUrl() {
+		return eventBrokerUrl;
+	}
+
+	public void setEventBrokerUrl(String eventBrokerUrl) {
+		this.eventBrokerUrl = eventBrokerUrl;
+	}
+
+	public String getEventTopic() {
+		return eventTopic;
+	}
+
+	public void setEventTopic(String eventTopic) {
+		this.eventTopic = eventTopic;
+	}
+
+	public String getEventClientId() {
+		return eventClientId;
+	}
+
+	public void setEventClientId(String eventClientId) {
+		this.eventClientId = eventClientId;
+	}
+
+	public Boolean getFetchOnEvent() {
+		return fetchOnEvent;
+	}
+
+	public void setFetchOnEvent(Boolean fetchOnEvent) {
+		this.fetchOnEvent = fetchOnEvent;
+	}
+
+	public Long getEventFetchTimeout() {
+		return eventFetchTimeout;
+	}
+
+	public void setEventFetchTimeout(Long eventFetchTimeout) {
+		this.eventFetchTimeout = eventFetchTimeout;
+	}
+
 	@Override
 	public String getConnectionURI() {
 		
@@ -80,10 +143,50 @@ public class AASPollingConsumerConfiguration extends DataSourceConfiguration {
 		endpointDefinition.append(this.idShortPath);
 		endpointDefinition.append("&api=");
 		endpointDefinition.append(getApiIfConfigured());
+
+		if (changeDetection != null) {
+			endpointDefinition.append("&changeDetection=");
+			endpointDefinition.append(changeDetection);
+		}
+
+		if (emitUnchanged != null) {
+			endpointDefinition.append("&emitUnchanged=");
+			endpointDefinition.append(emitUnchanged);
+		}
+
+		if (eventBrokerUrl != null || eventTopic != null)
+			appendEventParameters(endpointDefinition);
 		
 		return endpointDefinition.toString();
 	}
 
+	private void appendEventParameters(StringBuilder endpointDefinition) {
+		if (eventBrokerUrl == null || eventTopic == null)
+			throw new IllegalArgumentException("The AAS datasource " + getUniqueId() + " requires both eventBrokerUrl and eventTopic for event driven consumption");
+
+		endpointDefinition.append("&eventBrokerUrl=RAW(");
+		endpointDefinition.append(eventBrokerUrl);
+		endpointDefinition.append(")&eventTopic=RAW(");
+		endpointDefinition.append(eventTopic);
+		endpointDefinition.append(")");
+
+		if (eventClientId != null) {
+			endpointDefinition.append("&eventClientId=RAW(");
+			endpointDefinition.append(eventClientId);
+			endpointDefinition.append(")");
+		}
+
+		if (fetchOnEvent != null) {
+			endpointDefinition.append("&fetchOnEvent=");
+			endpointDefinition.append(fetchOnEvent);
+		}
+
+		if (eventFetchTimeout != null) {
+			endpointDefinition.append("&eventFetchTimeout=");
+			endpointDefinition.append(eventFetchTimeout);
+		}
+	}
+
 	private String getApiIfConfigured() {
 		return api != null ? api : ApiType.BASYX.getName();
 	}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.aas.http;
+
+import java.io.IOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+
+/**
+ * A helper class for sending non-blocking HTTP requests. The returned futures
+ * complete as soon as the server has answered the request, exceptionally with
+ * an {@link HTTPResponseException} if the status is not 2xx.
+ */
+public class AsyncHTTPRequest {
+	private final CloseableHttpAsyncClient client;
+
+	public AsyncHTTPRequest(CloseableHttpAsyncClient client) {
+		this.client = client;
+	}
+
+	public CompletableFuture<Void> patchRequest(String url, String content) throws IOException {
+		return execute(HTTPRequest.createPatchRequest(url, content));
+	}
+
+	public CompletableFuture<Void> putRequest(String url, String content) throws IOException {
+		return execute(HTTPRequest.createPutRequest(url, content));
+	}
+
+	private CompletableFuture<Void> execute(HttpUriRequest request) {
+		CompletableFuture<Void> result = new CompletableFuture<>();
+
+		client.execute(request, new FutureCallback<HttpResponse>() {
+
+			@Override
+			public void completed(HttpResponse response) {
+				try {
+					HTTPRequest.consumeResponse(request, response);
+					result.complete(null);
+				} catch (IOException e) {
+					result.completeExceptionally(e);
+				}
+			}
+
+			@Override
+			public void failed(Exception e) {
+				result.completeExceptionally(e);
+			}
+
+			@Override
+			public void cancelled() {
+				result.completeExceptionally(new CancellationException("Request to " + request.getURI() + " was cancelled"));
+			}
+		});
+
+		return result;
+	}
+}
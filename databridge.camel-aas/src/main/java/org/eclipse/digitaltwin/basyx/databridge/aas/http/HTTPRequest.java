@@ -26,36 +26,35 @@ package org.eclipse.digitaltwin.basyx.databridge.aas.http;
 
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
 
-import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPatch;
 import org.apache.http.client.methods.HttpPut;
+import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.util.EntityUtils;
 
 /**
- * A helper class for sending HTTP requests
+ * A helper class for sending HTTP requests over a shared, pooled HTTP client
  * 
  * @author danish
  *
  */
 public class HTTPRequest {
-	
-	public static void patchRequest(String url, String content) throws IOException {
-		CloseableHttpClient client = HttpClientBuilder.create().build();
-		HttpPatch patchRequest = createPatchRequest(url, content);
-		
-        HttpResponse response = client.execute(patchRequest);
-
-        HttpEntity responseEntity = response.getEntity();
+	private final CloseableHttpClient client;
 
-        EntityUtils.consume(responseEntity);
+	public HTTPRequest(CloseableHttpClient client) {
+		this.client = client;
+	}
+	
+	public void patchRequest(String url, String content) throws IOException {
+		execute(createPatchRequest(url, content));
 	}
 
-	private static HttpPatch createPatchRequest(String url, String content) throws UnsupportedEncodingException {
+	public static HttpPatch createPatchRequest(String url, String content) throws UnsupportedEncodingException {
 		HttpPatch patchRequest = new HttpPatch(url);
 
 		patchRequest.setHeader("Content-type", "application/json");
@@ -64,18 +63,11 @@ public class HTTPRequest {
 		return patchRequest;
 	}
 	
-	public static void putRequest(String url, String content) throws IOException {
-		CloseableHttpClient client = HttpClientBuilder.create().build();
-		HttpPut httpPutRequest = createPutRequest(url, content);
-		
-        HttpResponse response = client.execute(httpPutRequest);
-
-        HttpEntity responseEntity = response.getEntity();
-
-        EntityUtils.consume(responseEntity);
+	public void putRequest(String url, String content) throws IOException {
+		execute(createPutRequest(url, content));
 	}
 
-	private static HttpPut createPutRequest(String url, String content) throws UnsupportedEncodingException {
+	public static HttpPut createPutRequest(String url, String content) throws UnsupportedEncodingException {
 		HttpPut putRequest = new HttpPut(url);
 
 		putRequest.setHeader("Content-type", "application/json");
@@ -84,4 +76,67 @@ public class HTTPRequest {
 		return putRequest;
 	}
 
+	/**
+	 * Executes the request and fully consumes the response, so that the
+	 * connection is released back to the pool and can be kept alive
+	 * 
+	 * @param request
+	 * @throws IOException
+	 *             if the request fails or the server answers with a status other
+	 *             than 2xx
+	 */
+	private void execute(HttpUriRequest request) throws IOException {
+		try (CloseableHttpResponse response = client.execute(request)) {
+			consumeResponse(request, response);
+		}
+	}
+
+	/**
+	 * Fully consumes the response and checks its status
+	 * 
+	 * @param request
+	 * @param response
+	 * @throws HTTPResponseException
+	 *             if the status is not 2xx, containing the status and the
+	 *             response body
+	 * @throws IOException
+	 *             if the response cannot be read
+	 */
+	static void consumeResponse(HttpUriRequest request, HttpResponse response) throws IOException {
+		checkStatus(request, response);
+
+		EntityUtils.consume(response.getEntity());
+	}
+
+	/**
+	 * Reads the body of the response and checks its status
+	 * 
+	 * @param request
+	 * @param response
+	 * @return the response body, null if the response has no entity
+	 * @throws HTTPResponseException
+	 *             if the status is not 2xx, containing the status and the
+	 *             response body
+	 * @throws IOException
+	 *             if the response cannot be read
+	 */
+	public static String readResponse(HttpUriRequest request, HttpResponse response) throws IOException {
+		checkStatus(request, response);
+
+		return response.getEntity() == null ? null : EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8);
+	}
+
+	private static void checkStatus(HttpUriRequest request, HttpResponse response) throws IOException {
+		int statusCode = response.getStatusLine()
+				.getStatusCode();
+
+		if (statusCode >= 200 && statusCode < 300)
+			return;
+
+		String responseBody = response.getEntity() == null ? null : EntityUtils.toString(response.getEntity());
+
+		throw new HTTPResponseException(request.getMethod(), request.getURI()
+				.toString(), statusCode, responseBody);
+	}
+
 }
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.aas.metadata;
+
+import org.eclipse.basyx.submodel.metamodel.api.reference.enums.KeyElements;
+import org.eclipse.basyx.submodel.metamodel.map.submodelelement.dataelement.property.valuetype.ValueType;
+
+/**
+ * The metadata of a submodel element needed to write its value
+ */
+public class AASElementMetadata {
+	private final String modelType;
+	private final ValueType valueType;
+	private final long creationTime;
+
+	/**
+	 * @param modelType
+	 *            the model type name of the element
+	 * @param valueType
+	 *            the value type of the element, null if it is no property
+	 */
+	public AASElementMetadata(String modelType, ValueType valueType) {
+		this.modelType = modelType;
+		this.valueType = valueType;
+		this.creationTime = System.currentTimeMillis();
+	}
+
+	public String getModelType() {
+		return modelType;
+	}
+
+	public ValueType getValueType() {
+		return valueType;
+	}
+
+	public boolean isProperty() {
+		return KeyElements.PROPERTY.getStandardizedLiteral().equals(modelType);
+	}
+
+	/**
+	 * Checks whether the metadata is older than the given time to live
+	 * 
+	 * @param timeToLive
+	 *            the time to live in milliseconds, 0 means it never expires
+	 * @return
+	 */
+	public boolean isExpired(long timeToLive) {
+		return timeToLive > 0 && System.currentTimeMillis() - creationTime > timeToLive;
+	}
+}
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.aas.metadata;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Caches the metadata of submodel elements by their proxy url, so that writing
+ * a value does not require fetching the element first
+ */
+public class AASElementMetadataCache {
+	private final Map<String, AASElementMetadata> metadataByProxyUrl = new ConcurrentHashMap<>();
+
+	/**
+	 * Gets the cached metadata of the element or loads it if it is not cached
+	 * or expired
+	 * 
+	 * @param proxyUrl
+	 * @param timeToLive
+	 *            the time to live in milliseconds, 0 means it never expires
+	 * @param loader
+	 *            fetches the metadata from the server
+	 * @return
+	 */
+	public AASElementMetadata get(String proxyUrl, long timeToLive, Supplier<AASElementMetadata> loader) {
+		AASElementMetadata metadata = metadataByProxyUrl.get(proxyUrl);
+
+		if (metadata != null && !metadata.isExpired(timeToLive))
+			return metadata;
+
+		metadata = loader.get();
+		metadataByProxyUrl.put(proxyUrl, metadata);
+
+		return metadata;
+	}
+
+	public void put(String proxyUrl, AASElementMetadata metadata) {
+		metadataByProxyUrl.put(proxyUrl, metadata);
+	}
+
+	public void invalidate(String proxyUrl) {
+		metadataByProxyUrl.remove(proxyUrl);
+	}
+
+	public void invalidateAll() {
+		metadataByProxyUrl.clear();
+	}
+}
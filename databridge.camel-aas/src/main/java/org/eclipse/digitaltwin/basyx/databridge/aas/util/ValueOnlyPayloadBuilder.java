@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.aas.util;
+
+import java.util.Map;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Builds the ValueOnly serialization of a submodel from single element values.
+ * 
+ * e.g.,
+ * 
+ * <pre>
+ * temperature -> "72"
+ * motor.speed -> "1200"
+ * 
+ * {"temperature":"72","motor":{"speed":"1200"}}
+ * </pre>
+ */
+public class ValueOnlyPayloadBuilder {
+	private static final String ID_SHORT_PATH_SEPARATOR = "\\.";
+
+	private final JsonObject payload = new JsonObject();
+
+	/**
+	 * Checks whether the element addressed by the idShortPath can be written as
+	 * part of a ValueOnly payload. Elements inside of lists are addressed by index
+	 * and cannot be merged.
+	 * 
+	 * @param idShortPath
+	 * @return
+	 */
+	public static boolean isMergeable(String idShortPath) {
+		return idShortPath != null && !idShortPath.isEmpty() && !idShortPath.contains("[");
+	}
+
+	/**
+	 * Adds the value of the element addressed by the idShortPath. Values that are
+	 * no valid JSON are added as string.
+	 * 
+	 * @param idShortPath
+	 * @param value
+	 * @return this builder
+	 */
+	public ValueOnlyPayloadBuilder add(String idShortPath, String value) {
+		String[] idShorts = idShortPath.split(ID_SHORT_PATH_SEPARATOR);
+
+		JsonObject parent = payload;
+		for (int i = 0; i < idShorts.length - 1; i++) {
+			parent = getOrCreateCollection(parent, idShorts[i]);
+		}
+
+		parent.add(idShorts[idShorts.length - 1], parseValue(value));
+
+		return this;
+	}
+
+	public ValueOnlyPayloadBuilder addAll(Map<String, String> values) {
+		values.forEach(this::add);
+
+		return this;
+	}
+
+	public boolean isEmpty() {
+		return payload.size() == 0;
+	}
+
+	public String build() {
+		return payload.toString();
+	}
+
+	private static JsonObject getOrCreateCollection(JsonObject parent, String idShort) {
+		JsonElement child = parent.get(idShort);
+
+		if (child == null || !child.isJsonObject()) {
+			child = new JsonObject();
+			parent.add(idShort, child);
+		}
+
+		return child.getAsJsonObject();
+	}
+
+	private static JsonElement parseValue(String value) {
+		if (value == null || value.isEmpty())
+			return new JsonPrimitive("");
+
+		try {
+			return JsonParser.parseString(value);
+		} catch (JsonParseException e) {
+			return new JsonPrimitive(value);
+		}
+	}
+}
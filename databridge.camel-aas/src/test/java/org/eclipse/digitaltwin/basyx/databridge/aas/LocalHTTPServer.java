@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.aas;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * A local HTTP server recording the requests of a test and answering them by a
+ * configurable handler
+ *
+ */
+public class LocalHTTPServer implements AutoCloseable {
+	private final HttpServer server;
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private final List<RecordedRequest> requests = new CopyOnWriteArrayList<>();
+
+	private volatile Function<RecordedRequest, Response> handler = request -> new Response(200, "");
+
+	public LocalHTTPServer() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/", this::handle);
+		server.setExecutor(executor);
+		server.start();
+	}
+
+	public String getUrl() {
+		return "http://localhost:" + server.getAddress()
+				.getPort();
+	}
+
+	public void setHandler(Function<RecordedRequest, Response> handler) {
+		this.handler = handler;
+	}
+
+	public List<RecordedRequest> getRequests() {
+		return requests;
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		RecordedRequest request = new RecordedRequest(exchange);
+		requests.add(request);
+
+		Response response = handler.apply(request);
+
+		if (response.delayMillis > 0) {
+			try {
+				Thread.sleep(response.delayMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread()
+						.interrupt();
+			}
+		}
+
+		response.headers.forEach((name, value) -> exchange.getResponseHeaders()
+				.set(name, value));
+
+		byte[] body = response.body.getBytes(StandardCharsets.UTF_8);
+
+		if (body.length == 0) {
+			exchange.sendResponseHeaders(response.status, -1);
+		} else {
+			exchange.sendResponseHeaders(response.status, body.length);
+
+			try (OutputStream output = exchange.getResponseBody()) {
+				output.write(body);
+			}
+		}
+
+		exchange.close();
+	}
+
+	/**
+	 * A request received by the server
+	 */
+	public static class RecordedRequest {
+		public final String method;
+		public final String path;
+		public final String body;
+		public final Map<String, String> headers = new HashMap<>();
+		public final int remotePort;
+
+		private RecordedRequest(HttpExchange exchange) throws IOException {
+			method = exchange.getRequestMethod();
+			path = exchange.getRequestURI()
+					.toString();
+			body = read(exchange.getRequestBody());
+			exchange.getRequestHeaders()
+					.forEach((name, values) -> headers.put(name.toLowerCase(), values.get(0)));
+			remotePort = exchange.getRemoteAddress()
+					.getPort();
+		}
+
+		public String getHeader(String name) {
+			return headers.get(name.toLowerCase());
+		}
+
+		private static String read(InputStream input) throws IOException {
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			byte[] buffer = new byte[1024];
+			int read;
+
+			while ((read = input.read(buffer)) != -1)
+				output.write(buffer, 0, read);
+
+			return new String(output.toByteArray(), StandardCharsets.UTF_8);
+		}
+	}
+
+	/**
+	 * The answer to a request
+	 */
+	public static class Response {
+		private final int status;
+		private final String body;
+		private final Map<String, String> headers;
+		private final long delayMillis;
+
+		public Response(int status, String body) {
+			this(status, body, Collections.emptyMap(), 0);
+		}
+
+		public Response(int status, String body, Map<String, String> headers, long delayMillis) {
+			this.status = status;
+			this.body = body;
+			this.headers = headers;
+			this.delayMillis = delayMillis;
+		}
+	}
+}
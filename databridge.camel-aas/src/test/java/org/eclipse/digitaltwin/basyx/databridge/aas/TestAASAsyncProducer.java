@@ -0,0 +1,225 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.aas;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.eclipse.digitaltwin.basyx.databridge.aas.LocalHTTPServer.Response;
+import org.eclipse.digitaltwin.basyx.databridge.aas.http.HTTPResponseException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the completion and the backpressure of the asynchronous AAS producer
+ *
+ */
+public class TestAASAsyncProducer {
+	private static final long TIMEOUT_SECONDS = 5;
+
+	private LocalHTTPServer server;
+	private CamelContext context;
+	private AASComponent component;
+
+	@Before
+	public void setUp() throws Exception {
+		server = new LocalHTTPServer();
+
+		context = new DefaultCamelContext();
+		component = new AASComponent();
+		context.addComponent("aas", component);
+		context.start();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		context.stop();
+		server.close();
+	}
+
+	@Test
+	public void routeContinuesOnCompletionExecutor() throws Exception {
+		AASAsyncProducer producer = createProducer(server.getUrl() + "/submodels/sm1?propertyPath=temperature&api=DotAAS-V3&async=true");
+		RecordingCallback callback = new RecordingCallback();
+		Exchange exchange = createExchange("21");
+
+		assertFalse(producer.process(exchange, callback));
+		callback.await();
+
+		assertFalse(callback.doneSync);
+		assertTrue(callback.thread.getName().contains("AASAsyncProducer"));
+		assertNull(exchange.getException());
+		assertEquals("PATCH", server.getRequests().get(0).method);
+		assertEquals("/submodels/sm1/submodel-elements/temperature/$value", server.getRequests().get(0).path);
+		assertEquals(0, producer.getInFlightCount());
+	}
+
+	@Test
+	public void errorStatusFailsExchange() throws Exception {
+		server.setHandler(request -> new Response(500, "failure"));
+		AASAsyncProducer producer = createProducer(server.getUrl() + "/submodels/sm1?propertyPath=temperature&api=DotAAS-V3&async=true");
+		RecordingCallback callback = new RecordingCallback();
+		Exchange exchange = createExchange("21");
+
+		producer.process(exchange, callback);
+		callback.await();
+
+		assertTrue(exchange.getException() instanceof HTTPResponseException);
+		assertEquals(500, ((HTTPResponseException) exchange.getException()).getStatusCode());
+		assertEquals(0, producer.getInFlightCount());
+	}
+
+	@Test
+	public void exchangesBeyondMaxInFlightAreQueued() throws Exception {
+		ControlledEndpoint endpoint = new ControlledEndpoint(component, 1, 1);
+		AASAsyncProducer producer = new AASAsyncProducer(endpoint);
+		RecordingCallback first = new RecordingCallback();
+		RecordingCallback second = new RecordingCallback();
+
+		assertFalse(producer.process(createExchange("1"), first));
+		assertFalse(producer.process(createExchange("2"), second));
+
+		assertEquals(1, endpoint.writes.size());
+		assertEquals(1, producer.getInFlightCount());
+		assertEquals(1, producer.getQueuedCount());
+
+		endpoint.writes.get(0).complete(null);
+		first.await();
+
+		assertEquals(2, endpoint.writes.size());
+		assertEquals(0, producer.getQueuedCount());
+
+		endpoint.writes.get(1).complete(null);
+		second.await();
+
+		assertFalse(second.doneSync);
+		assertEquals(0, producer.getInFlightCount());
+	}
+
+	@Test
+	public void exchangesBeyondQueueFailWithoutBlocking() throws Exception {
+		ControlledEndpoint endpoint = new ControlledEndpoint(component, 1, 1);
+		AASAsyncProducer producer = new AASAsyncProducer(endpoint);
+		RecordingCallback rejected = new RecordingCallback();
+		Exchange exchange = createExchange("3");
+
+		producer.process(createExchange("1"), new RecordingCallback());
+		producer.process(createExchange("2"), new RecordingCallback());
+
+		assertTrue(producer.process(exchange, rejected));
+
+		assertTrue(rejected.doneSync);
+		assertTrue(exchange.getException() instanceof RejectedExecutionException);
+		assertEquals(1, endpoint.writes.size());
+	}
+
+	@Test
+	public void stopFailsQueuedExchanges() throws Exception {
+		ControlledEndpoint endpoint = new ControlledEndpoint(component, 1, 1);
+		AASAsyncProducer producer = new AASAsyncProducer(endpoint);
+		producer.start();
+		RecordingCallback queued = new RecordingCallback();
+		Exchange exchange = createExchange("2");
+
+		producer.process(createExchange("1"), new RecordingCallback());
+		producer.process(exchange, queued);
+		producer.stop();
+		queued.await();
+
+		assertTrue(exchange.getException() instanceof RejectedExecutionException);
+	}
+
+	private AASAsyncProducer createProducer(String uri) throws Exception {
+		AASAsyncProducer producer = (AASAsyncProducer) context.getEndpoint("aas:" + uri)
+				.createProducer();
+		producer.start();
+
+		return producer;
+	}
+
+	private Exchange createExchange(String body) {
+		Exchange exchange = context.getEndpoint("direct:test")
+				.createExchange();
+		exchange.getMessage().setBody(body);
+
+		return exchange;
+	}
+
+	private static class RecordingCallback implements AsyncCallback {
+		private final CountDownLatch done = new CountDownLatch(1);
+		private volatile boolean doneSync;
+		private volatile Thread thread;
+
+		@Override
+		public void done(boolean doneSync) {
+			this.doneSync = doneSync;
+			this.thread = Thread.currentThread();
+			done.countDown();
+		}
+
+		private void await() throws InterruptedException {
+			assertTrue(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+		}
+	}
+
+	/**
+	 * An endpoint whose writes are completed by the test
+	 */
+	private static class ControlledEndpoint extends AASEndpoint {
+		private final List<CompletableFuture<Void>> writes = new CopyOnWriteArrayList<>();
+
+		private ControlledEndpoint(AASComponent component, int maxInFlight, int maxQueued) {
+			super("aas:http://localhost:8081/submodels/sm1", component);
+			setMaxInFlight(maxInFlight);
+			setMaxQueued(maxQueued);
+		}
+
+		@Override
+		protected void connectToElement() {
+		}
+
+		@Override
+		public CompletableFuture<Void> setPropertyValueAsync(Object content) {
+			CompletableFuture<Void> write = new CompletableFuture<>();
+			writes.add(write);
+
+			return write;
+		}
+	}
+}
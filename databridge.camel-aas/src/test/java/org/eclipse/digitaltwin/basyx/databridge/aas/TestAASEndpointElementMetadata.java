@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.aas;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.eclipse.digitaltwin.basyx.databridge.aas.LocalHTTPServer.RecordedRequest;
+import org.eclipse.digitaltwin.basyx.databridge.aas.LocalHTTPServer.Response;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the element metadata cached by BaSyx API endpoints
+ *
+ */
+public class TestAASEndpointElementMetadata {
+	private static final String COLLECTION = "{\"modelType\":{\"name\":\"SubmodelElementCollection\"},\"idShort\":\"motor\",\"value\":[]}";
+
+	private LocalHTTPServer server;
+	private CamelContext context;
+
+	private final AtomicBoolean failWrites = new AtomicBoolean();
+
+	@Before
+	public void setUp() throws Exception {
+		server = new LocalHTTPServer();
+		server.setHandler(this::handle);
+
+		context = new DefaultCamelContext();
+		context.addComponent("aas", new AASComponent());
+		context.start();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		context.stop();
+		server.close();
+	}
+
+	@Test
+	public void metadataIsFetchedOnceForManyWrites() throws Exception {
+		AASEndpoint endpoint = createEndpoint(0);
+
+		endpoint.setPropertyValue("{}");
+		endpoint.setPropertyValue("{}");
+
+		assertEquals(1, countRequests("GET"));
+		assertEquals(2, countRequests("PUT"));
+	}
+
+	@Test
+	public void failedWriteInvalidatesMetadata() throws Exception {
+		AASEndpoint endpoint = createEndpoint(0);
+
+		failWrites.set(true);
+		assertThrows(IOException.class, () -> endpoint.setPropertyValue("{}"));
+		assertEquals(1, countRequests("GET"));
+
+		failWrites.set(false);
+		endpoint.setPropertyValue("{}");
+
+		assertEquals(2, countRequests("GET"));
+	}
+
+	@Test
+	public void expiredMetadataIsFetchedAgain() throws Exception {
+		long timeToLive = 50;
+		AASEndpoint endpoint = createEndpoint(timeToLive);
+
+		endpoint.setPropertyValue("{}");
+		Thread.sleep(timeToLive * 2);
+		endpoint.setPropertyValue("{}");
+
+		assertEquals(2, countRequests("GET"));
+	}
+
+	private AASEndpoint createEndpoint(long metadataCacheTimeToLive) {
+		AASEndpoint endpoint = (AASEndpoint) context.getEndpoint("aas:" + server.getUrl() + "/submodels/sm1?propertyPath=motor&api=BaSyx&metadataCacheTimeToLive=" + metadataCacheTimeToLive);
+		endpoint.connectToElement();
+
+		return endpoint;
+	}
+
+	private Response handle(RecordedRequest request) {
+		if (request.method.equals("GET"))
+			return new Response(200, COLLECTION);
+
+		if (failWrites.get())
+			return new Response(500, "unavailable");
+
+		return new Response(200, "");
+	}
+
+	private long countRequests(String method) {
+		return server.getRequests()
+				.stream()
+				.filter(request -> request.method.equals(method))
+				.count();
+	}
+}
@@ -0,0 +1,270 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.aas;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.PollingConsumer;
+import org.apache.camel.Processor;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.PollingConsumerSupport;
+import org.eclipse.digitaltwin.basyx.databridge.core.component.DataBridgeHeaders;
+import org.eclipse.paho.client.mqttv3.MqttClient;
+import org.eclipse.paho.client.mqttv3.MqttConnectOptions;
+import org.eclipse.paho.client.mqttv3.MqttException;
+import org.eclipse.paho.client.mqttv3.MqttMessage;
+import org.eclipse.paho.client.mqttv3.persist.MemoryPersistence;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the event driven AAS consumer without a broker
+ *
+ */
+public class TestAASEventConsumer {
+	private static final String BROKER_URL = "tcp://localhost:1883";
+	private static final String EVENT_TOPIC = "aas-repository/submodels/+/submodelElements/+/updated";
+	private static final String ELEMENT_TOPIC = "aas-repository/submodels/sm1/submodelElements/temperature/updated";
+	private static final String EVENT_PAYLOAD = "{\"idShort\":\"temperature\",\"value\":\"21\"}";
+	private static final String ELEMENT_CONTENT = "22";
+
+	private CamelContext context;
+	private AASComponent component;
+	private List<Exchange> processedExchanges;
+	private RecordingMqttClient mqttClient;
+	private TestConsumer consumer;
+
+	@Before
+	public void setUp() throws Exception {
+		context = new DefaultCamelContext();
+		context.start();
+
+		component = new AASComponent();
+		component.setCamelContext(context);
+
+		processedExchanges = new CopyOnWriteArrayList<>();
+		mqttClient = new RecordingMqttClient();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (consumer != null)
+			consumer.stop();
+
+		context.stop();
+	}
+
+	@Test
+	public void subscribesOnStart() throws Exception {
+		startConsumer(false, endpoint -> null);
+
+		assertTrue(mqttClient.connected);
+		assertEquals(1, mqttClient.subscriptions.size());
+		assertEquals(EVENT_TOPIC, mqttClient.subscriptions.get(0));
+	}
+
+	@Test
+	public void resubscribesAfterReconnect() throws Exception {
+		startConsumer(false, endpoint -> null);
+
+		consumer.connectionLost(new MqttException(MqttException.REASON_CODE_CONNECTION_LOST));
+		consumer.connectComplete(true, BROKER_URL);
+
+		assertEquals(2, mqttClient.subscriptions.size());
+		assertEquals(EVENT_TOPIC, mqttClient.subscriptions.get(1));
+	}
+
+	@Test
+	public void doesNotResubscribeOnInitialConnect() throws Exception {
+		startConsumer(false, endpoint -> null);
+
+		consumer.connectComplete(false, BROKER_URL);
+
+		assertEquals(1, mqttClient.subscriptions.size());
+	}
+
+	@Test
+	public void usesEventPayloadWithoutFetchOnEvent() throws Exception {
+		startConsumer(false, endpoint -> null);
+
+		consumer.messageArrived(ELEMENT_TOPIC, createMessage(EVENT_PAYLOAD));
+
+		assertEquals(1, processedExchanges.size());
+		assertEquals(EVENT_PAYLOAD, processedExchanges.get(0).getIn().getBody(String.class));
+		assertEquals(ELEMENT_TOPIC, processedExchanges.get(0).getIn().getHeader(AASEventConsumer.EVENT_TOPIC_HEADER));
+	}
+
+	@Test
+	public void readsElementWithFetchOnEvent() throws Exception {
+		startConsumer(true, endpoint -> createExchange(endpoint, ELEMENT_CONTENT));
+
+		consumer.messageArrived(ELEMENT_TOPIC, createMessage(EVENT_PAYLOAD));
+
+		assertEquals(1, processedExchanges.size());
+		assertEquals(ELEMENT_CONTENT, processedExchanges.get(0).getIn().getBody(String.class));
+		assertEquals(ELEMENT_TOPIC, processedExchanges.get(0).getIn().getHeader(AASEventConsumer.EVENT_TOPIC_HEADER));
+	}
+
+	@Test
+	public void skipsEventIfElementCouldNotBeRead() throws Exception {
+		startConsumer(true, endpoint -> null);
+
+		consumer.messageArrived(ELEMENT_TOPIC, createMessage(EVENT_PAYLOAD));
+
+		assertTrue(processedExchanges.isEmpty());
+	}
+
+	@Test
+	public void skipsEventIfElementIsUnchanged() throws Exception {
+		startConsumer(true, endpoint -> {
+			Exchange exchange = createExchange(endpoint, null);
+			exchange.getIn().setHeader(DataBridgeHeaders.SKIP_POLL, true);
+
+			return exchange;
+		});
+
+		consumer.messageArrived(ELEMENT_TOPIC, createMessage(EVENT_PAYLOAD));
+
+		assertTrue(processedExchanges.isEmpty());
+	}
+
+	@Test
+	public void disconnectsOnStop() throws Exception {
+		startConsumer(false, endpoint -> null);
+
+		consumer.stop();
+		consumer = null;
+
+		assertFalse(mqttClient.connected);
+		assertTrue(mqttClient.closed);
+	}
+
+	private void startConsumer(boolean fetchOnEvent, Function<Endpoint, Exchange> elementReader) throws Exception {
+		TestEndpoint endpoint = new TestEndpoint(component, elementReader);
+		endpoint.setEventBrokerUrl(BROKER_URL);
+		endpoint.setEventTopic(EVENT_TOPIC);
+		endpoint.setFetchOnEvent(fetchOnEvent);
+
+		consumer = new TestConsumer(endpoint, processedExchanges::add);
+		consumer.start();
+	}
+
+	private static Exchange createExchange(Endpoint endpoint, String body) {
+		Exchange exchange = endpoint.createExchange();
+		exchange.getIn().setBody(body);
+
+		return exchange;
+	}
+
+	private static MqttMessage createMessage(String payload) {
+		return new MqttMessage(payload.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private class TestConsumer extends AASEventConsumer {
+		public TestConsumer(AASEndpoint endpoint, Processor processor) {
+			super(endpoint, processor);
+		}
+
+		@Override
+		protected MqttClient createMqttClient() {
+			return mqttClient;
+		}
+	}
+
+	private static class TestEndpoint extends AASEndpoint {
+		private final Function<Endpoint, Exchange> elementReader;
+
+		public TestEndpoint(AASComponent component, Function<Endpoint, Exchange> elementReader) {
+			super("aas:http://localhost:8081/submodels/sm1?propertyPath=temperature", component);
+			this.elementReader = elementReader;
+		}
+
+		@Override
+		public PollingConsumer createPollingConsumer() {
+			return new PollingConsumerSupport(this) {
+				@Override
+				public Exchange receive() {
+					return elementReader.apply(getEndpoint());
+				}
+
+				@Override
+				public Exchange receiveNoWait() {
+					return receive();
+				}
+
+				@Override
+				public Exchange receive(long timeout) {
+					return receive();
+				}
+			};
+		}
+	}
+
+	private static class RecordingMqttClient extends MqttClient {
+		private final List<String> subscriptions = new CopyOnWriteArrayList<>();
+		private volatile boolean connected;
+		private volatile boolean closed;
+
+		public RecordingMqttClient() throws MqttException {
+			super(BROKER_URL, "test-client", new MemoryPersistence());
+		}
+
+		@Override
+		public void connect(MqttConnectOptions options) {
+			connected = true;
+		}
+
+		@Override
+		public void subscribe(String topicFilter, int qos) {
+			subscriptions.add(topicFilter);
+		}
+
+		@Override
+		public boolean isConnected() {
+			return connected;
+		}
+
+		@Override
+		public void disconnect() {
+			connected = false;
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+		}
+	}
+}
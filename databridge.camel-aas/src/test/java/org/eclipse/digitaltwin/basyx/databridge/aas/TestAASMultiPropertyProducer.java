@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.aas;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.InvalidPayloadException;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.eclipse.digitaltwin.basyx.databridge.aas.api.ApiType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests writing many elements of one submodel from a single message
+ *
+ */
+public class TestAASMultiPropertyProducer {
+	private LocalHTTPServer server;
+	private CamelContext context;
+	private AASComponent component;
+
+	@Before
+	public void setUp() throws Exception {
+		server = new LocalHTTPServer();
+
+		context = new DefaultCamelContext();
+		component = new AASComponent();
+		context.addComponent("aas", component);
+		context.start();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		context.stop();
+		server.close();
+	}
+
+	@Test
+	public void mappedValuesAreWrittenWithOnePatch() throws Exception {
+		AASMultiPropertyProducer producer = startProducer(createMapping("temperature", "$.temp", "motor.speed", "$.speed"));
+
+		producer.process(createExchange("{\"temp\":21,\"speed\":1200,\"other\":1}"));
+
+		assertEquals(1, server.getRequests().size());
+		assertEquals("/submodels/sm1/$value", server.getRequests().get(0).path);
+		assertEquals("{\"temperature\":\"21\",\"motor\":{\"speed\":\"1200\"}}", server.getRequests().get(0).body);
+	}
+
+	@Test
+	public void missingBodyIsRejected() throws Exception {
+		AASMultiPropertyProducer producer = startProducer(createMapping("temperature", "$.temp"));
+
+		assertThrows(InvalidPayloadException.class, () -> producer.process(createExchange(null)));
+		assertTrue(server.getRequests().isEmpty());
+	}
+
+	@Test
+	public void invalidJsonIsRejected() throws Exception {
+		AASMultiPropertyProducer producer = startProducer(createMapping("temperature", "$.temp"));
+
+		InvalidPayloadException e = assertThrows(InvalidPayloadException.class, () -> producer.process(createExchange("{\"temp\":")));
+
+		assertTrue(e.getCause() != null);
+		assertTrue(server.getRequests().isEmpty());
+	}
+
+	@Test
+	public void elementEndpointsFollowProducerLifecycle() throws Exception {
+		List<AASEndpoint> elementEndpoints = new ArrayList<>();
+		AASEndpoint endpoint = new AASEndpoint("aas:" + server.getUrl() + "/submodels/sm1", component) {
+			@Override
+			protected AASEndpoint createElementEndpoint(String idShortPath) {
+				AASEndpoint elementEndpoint = super.createElementEndpoint(idShortPath);
+				elementEndpoints.add(elementEndpoint);
+
+				return elementEndpoint;
+			}
+		};
+		endpoint.setApi(ApiType.DOT_AAS_V3);
+		endpoint.setPropertyMapping(createMapping("temperature", "$.temp", "limits[0]", "$.limit"));
+
+		AASMultiPropertyProducer producer = new AASMultiPropertyProducer(endpoint);
+		assertTrue(elementEndpoints.isEmpty());
+
+		producer.start();
+		assertEquals(1, elementEndpoints.size());
+		assertTrue(elementEndpoints.get(0).isStarted());
+
+		producer.stop();
+		assertTrue(elementEndpoints.get(0).isStopped());
+	}
+
+	private AASMultiPropertyProducer startProducer(Map<String, Object> mapping) throws Exception {
+		AASEndpoint endpoint = (AASEndpoint) context.getEndpoint("aas:" + server.getUrl() + "/submodels/sm1?api=DotAAS-V3");
+		endpoint.setPropertyMapping(mapping);
+
+		AASMultiPropertyProducer producer = (AASMultiPropertyProducer) endpoint.createProducer();
+		producer.start();
+
+		return producer;
+	}
+
+	private static Map<String, Object> createMapping(String... idShortPathsAndJsonPaths) {
+		Map<String, Object> mapping = new LinkedHashMap<>();
+
+		for (int i = 0; i < idShortPathsAndJsonPaths.length; i += 2)
+			mapping.put(idShortPathsAndJsonPaths[i], idShortPathsAndJsonPaths[i + 1]);
+
+		return mapping;
+	}
+
+	private Exchange createExchange(String body) {
+		Exchange exchange = context.getEndpoint("direct:test")
+				.createExchange();
+		exchange.getMessage().setBody(body);
+
+		return exchange;
+	}
+}
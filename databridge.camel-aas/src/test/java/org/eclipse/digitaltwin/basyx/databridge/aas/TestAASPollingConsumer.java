@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.aas;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.PollingConsumer;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.eclipse.digitaltwin.basyx.databridge.aas.LocalHTTPServer.Response;
+import org.eclipse.digitaltwin.basyx.databridge.core.component.DataBridgeHeaders;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests polling the DotAAS-V3 API with the AAS polling consumer, including
+ * the conditional polling with ETags and the fallback to content hashes
+ *
+ */
+public class TestAASPollingConsumer {
+	private static final String PROPERTY_VALUE = "{\"temperature\":21}";
+	private static final String CHANGED_PROPERTY_VALUE = "{\"temperature\":22}";
+	private static final long SLOW_RESPONSE_MILLIS = 3000;
+
+	private LocalHTTPServer server;
+	private CamelContext context;
+	private AASComponent component;
+
+	@Before
+	public void setUp() throws Exception {
+		server = new LocalHTTPServer();
+
+		context = new DefaultCamelContext();
+		component = new AASComponent();
+		context.addComponent("aas", component);
+		context.start();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		context.stop();
+		server.close();
+	}
+
+	@Test
+	public void pollReturnsContent() throws Exception {
+		server.setHandler(request -> new Response(200, PROPERTY_VALUE));
+		PollingConsumer consumer = createConsumer("");
+
+		Exchange exchange = consumer.receive(1000);
+
+		assertEquals(PROPERTY_VALUE, exchange.getIn().getBody(String.class));
+		assertEquals("/submodels/sm1/submodel-elements/temperature", server.getRequests().get(0).path);
+	}
+
+	@Test
+	public void timedOutPollIsAborted() throws Exception {
+		component.setConnectionRequestTimeout(500);
+		server.setHandler(request -> server.getRequests().size() == 1 ? new Response(200, PROPERTY_VALUE, Collections.emptyMap(), SLOW_RESPONSE_MILLIS) : new Response(200, PROPERTY_VALUE));
+		PollingConsumer consumer = createConsumer("&maxConnectionsPerRoute=1&maxTotalConnections=1");
+
+		long start = System.currentTimeMillis();
+		Exchange timedOut = consumer.receive(100);
+
+		assertTrue(System.currentTimeMillis() - start < SLOW_RESPONSE_MILLIS);
+		assertEquals("", timedOut.getIn().getBody(String.class));
+
+		// The only pooled connection is available again as the request was aborted
+		Exchange next = consumer.receive(1000);
+
+		assertEquals(PROPERTY_VALUE, next.getIn().getBody(String.class));
+	}
+
+	@Test
+	public void unchangedETagIsSkipped() throws Exception {
+		server.setHandler(request -> "\"v1\"".equals(request.getHeader("If-None-Match")) ? new Response(304, "") : new Response(200, PROPERTY_VALUE, Collections.singletonMap("ETag", "\"v1\""), 0));
+		PollingConsumer consumer = createConsumer("&changeDetection=true");
+
+		Exchange first = consumer.receive(1000);
+		Exchange second = consumer.receive(1000);
+
+		assertEquals(PROPERTY_VALUE, first.getIn().getBody(String.class));
+		assertNull(server.getRequests().get(0).getHeader("If-None-Match"));
+		assertEquals("\"v1\"", server.getRequests().get(1).getHeader("If-None-Match"));
+		assertTrue(second.getIn().getHeader(DataBridgeHeaders.SKIP_POLL, false, Boolean.class));
+		assertNull(second.getIn().getBody());
+	}
+
+	@Test
+	public void unchangedContentIsSkippedWithoutETag() throws Exception {
+		AtomicReference<String> content = new AtomicReference<>(PROPERTY_VALUE);
+		server.setHandler(request -> new Response(200, content.get()));
+		PollingConsumer consumer = createConsumer("&changeDetection=true");
+
+		Exchange first = consumer.receive(1000);
+		Exchange unchanged = consumer.receive(1000);
+		content.set(CHANGED_PROPERTY_VALUE);
+		Exchange changed = consumer.receive(1000);
+
+		assertEquals(PROPERTY_VALUE, first.getIn().getBody(String.class));
+		assertTrue(unchanged.getIn().getHeader(DataBridgeHeaders.SKIP_POLL, false, Boolean.class));
+		assertEquals(CHANGED_PROPERTY_VALUE, changed.getIn().getBody(String.class));
+		assertFalse(changed.getIn().getHeader(DataBridgeHeaders.SKIP_POLL, false, Boolean.class));
+		assertNull(server.getRequests().get(1).getHeader("If-None-Match"));
+	}
+
+	@Test
+	public void unchangedContentIsEmittedIfConfigured() throws Exception {
+		server.setHandler(request -> new Response(200, PROPERTY_VALUE));
+		PollingConsumer consumer = createConsumer("&changeDetection=true&emitUnchanged=true");
+
+		consumer.receive(1000);
+		Exchange unchanged = consumer.receive(1000);
+
+		assertEquals(PROPERTY_VALUE, unchanged.getIn().getBody(String.class));
+		assertTrue(unchanged.getIn().getHeader(AASPollingConsumer.UNCHANGED_HEADER, false, Boolean.class));
+		assertFalse(unchanged.getIn().getHeader(DataBridgeHeaders.SKIP_POLL, false, Boolean.class));
+	}
+
+	@Test
+	public void errorStatusFailsPoll() throws Exception {
+		AtomicReference<Response> response = new AtomicReference<>(new Response(200, PROPERTY_VALUE));
+		server.setHandler(request -> response.get());
+		PollingConsumer consumer = createConsumer("&changeDetection=true");
+
+		consumer.receive(1000);
+		response.set(new Response(500, "failure"));
+		Exchange failed = consumer.receive(1000);
+
+		assertEquals("", failed.getIn().getBody(String.class));
+		assertFalse(failed.getIn().getHeader(DataBridgeHeaders.SKIP_POLL, false, Boolean.class));
+	}
+
+	private PollingConsumer createConsumer(String options) throws Exception {
+		PollingConsumer consumer = context.getEndpoint("aas:" + server.getUrl() + "/submodels/sm1?propertyPath=temperature&api=DotAAS-V3" + options)
+				.createPollingConsumer();
+		consumer.start();
+
+		return consumer;
+	}
+}
@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.aas.batch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.digitaltwin.basyx.databridge.aas.http.HTTPRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the flushing of the submodel value batches by window and by size
+ *
+ */
+public class TestSubmodelValueBatchWriter {
+	private static final String SUBMODEL_ENDPOINT = "http://localhost:8081/submodels/sm1";
+	private static final long BATCH_WINDOW = 100;
+
+	private RecordingHTTPRequest httpRequest;
+	private ManualScheduler scheduler;
+
+	@Before
+	public void setUp() {
+		httpRequest = new RecordingHTTPRequest();
+		scheduler = new ManualScheduler();
+	}
+
+	@After
+	public void tearDown() {
+		scheduler.shutdownNow();
+	}
+
+	@Test
+	public void partialBatchIsFlushedAfterWindow() {
+		SubmodelValueBatchWriter writer = new SubmodelValueBatchWriter(SUBMODEL_ENDPOINT, BATCH_WINDOW, 10, httpRequest, scheduler);
+
+		CompletableFuture<Void> first = writer.submit("temperature", "21");
+		CompletableFuture<Void> second = writer.submit("pressure", "3");
+
+		assertEquals(1, scheduler.delayed.size());
+		assertEquals(BATCH_WINDOW, scheduler.delays.get(0).longValue());
+		assertTrue(scheduler.immediate.isEmpty());
+		assertTrue(httpRequest.patches.isEmpty());
+
+		scheduler.delayed.get(0).run();
+
+		assertEquals(1, httpRequest.patches.size());
+		assertEquals(SUBMODEL_ENDPOINT + "/$value", httpRequest.urls.get(0));
+		assertEquals("{\"temperature\":21,\"pressure\":3}", httpRequest.patches.get(0));
+		assertTrue(first.isDone() && !first.isCompletedExceptionally());
+		assertTrue(second.isDone() && !second.isCompletedExceptionally());
+	}
+
+	@Test
+	public void updatesOfOneElementAreCoalesced() {
+		SubmodelValueBatchWriter writer = new SubmodelValueBatchWriter(SUBMODEL_ENDPOINT, BATCH_WINDOW, 10, httpRequest, scheduler);
+
+		CompletableFuture<Void> first = writer.submit("temperature", "21");
+		CompletableFuture<Void> second = writer.submit("temperature", "22");
+		writer.flush();
+
+		assertEquals("{\"temperature\":22}", httpRequest.patches.get(0));
+		assertTrue(first.isDone());
+		assertTrue(second.isDone());
+	}
+
+	@Test
+	public void fullBatchIsFlushedOnce() {
+		SubmodelValueBatchWriter writer = new SubmodelValueBatchWriter(SUBMODEL_ENDPOINT, BATCH_WINDOW, 2, httpRequest, scheduler);
+
+		writer.submit("a", "1");
+		writer.submit("b", "2");
+		writer.submit("c", "3");
+		writer.submit("d", "4");
+		writer.submit("e", "5");
+
+		assertEquals(1, scheduler.immediate.size());
+		assertTrue(scheduler.delayedFutures.get(0).isCancelled());
+
+		scheduler.immediate.get(0).run();
+
+		assertEquals(1, httpRequest.patches.size());
+		assertEquals("{\"a\":1,\"b\":2}", httpRequest.patches.get(0));
+		assertEquals(2, scheduler.immediate.size());
+
+		scheduler.immediate.get(1).run();
+
+		assertEquals("{\"c\":3,\"d\":4}", httpRequest.patches.get(1));
+		assertEquals(2, scheduler.immediate.size());
+		assertEquals(2, scheduler.delayed.size());
+
+		scheduler.delayed.get(1).run();
+
+		assertEquals("{\"e\":5}", httpRequest.patches.get(2));
+		assertEquals(3, httpRequest.patches.size());
+	}
+
+	@Test
+	public void flushAllWritesRemainingBatches() {
+		SubmodelValueBatchWriter writer = new SubmodelValueBatchWriter(SUBMODEL_ENDPOINT, BATCH_WINDOW, 2, httpRequest, scheduler);
+
+		writer.submit("a", "1");
+		writer.submit("b", "2");
+		CompletableFuture<Void> last = writer.submit("c", "3");
+		writer.flushAll();
+
+		assertEquals(2, httpRequest.patches.size());
+		assertEquals("{\"c\":3}", httpRequest.patches.get(1));
+		assertTrue(last.isDone());
+	}
+
+	@Test
+	public void failedWriteCompletesResultsExceptionally() {
+		httpRequest.failure = new IOException("unreachable");
+		SubmodelValueBatchWriter writer = new SubmodelValueBatchWriter(SUBMODEL_ENDPOINT, BATCH_WINDOW, 10, httpRequest, scheduler);
+
+		CompletableFuture<Void> result = writer.submit("temperature", "21");
+		writer.flush();
+
+		assertTrue(result.isCompletedExceptionally());
+	}
+
+	/**
+	 * Records the patch requests instead of sending them
+	 */
+	private static class RecordingHTTPRequest extends HTTPRequest {
+		private final List<String> urls = new CopyOnWriteArrayList<>();
+		private final List<String> patches = new CopyOnWriteArrayList<>();
+		private IOException failure;
+
+		private RecordingHTTPRequest() {
+			super(null);
+		}
+
+		@Override
+		public void patchRequest(String url, String content) throws IOException {
+			if (failure != null)
+				throw failure;
+
+			urls.add(url);
+			patches.add(content);
+		}
+	}
+
+	/**
+	 * Records the scheduled flushes so that the test runs them explicitly
+	 */
+	private static class ManualScheduler extends ScheduledThreadPoolExecutor {
+		private final List<Runnable> immediate = new CopyOnWriteArrayList<>();
+		private final List<Runnable> delayed = new CopyOnWriteArrayList<>();
+		private final List<Long> delays = new CopyOnWriteArrayList<>();
+		private final List<ScheduledFuture<?>> delayedFutures = new CopyOnWriteArrayList<>();
+
+		private ManualScheduler() {
+			super(1);
+		}
+
+		@Override
+		public void execute(Runnable command) {
+			immediate.add(command);
+		}
+
+		@Override
+		public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+			delayed.add(command);
+			delays.add(unit.toMillis(delay));
+
+			ScheduledFuture<?> future = super.schedule(() -> {
+			}, 1, TimeUnit.HOURS);
+			delayedFutures.add(future);
+
+			return future;
+		}
+	}
+}
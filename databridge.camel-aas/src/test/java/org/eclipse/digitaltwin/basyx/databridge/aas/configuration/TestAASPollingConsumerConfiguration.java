@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.aas.configuration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+
+/**
+ * Tests the endpoint URI of the event driven AAS datasource configuration
+ *
+ */
+public class TestAASPollingConsumerConfiguration {
+	private static final String SUBMODEL_ENDPOINT = "http://localhost:8081/submodels/sm1";
+	private static final String BROKER_URL = "tcp://localhost:1883";
+	private static final String EVENT_TOPIC = "aas-repository/submodels/+/submodelElements/+/updated";
+
+	@Test
+	public void appendsEventParameters() {
+		AASPollingConsumerConfiguration configuration = createConfiguration();
+		configuration.setEventBrokerUrl(BROKER_URL);
+		configuration.setEventTopic(EVENT_TOPIC);
+		configuration.setEventClientId("databridge-1");
+		configuration.setFetchOnEvent(false);
+		configuration.setEventFetchTimeout(1000L);
+
+		assertEquals("aas:" + SUBMODEL_ENDPOINT + "?propertyPath=temperature&api=DotAAS-V3"
+				+ "&eventBrokerUrl=RAW(" + BROKER_URL + ")&eventTopic=RAW(" + EVENT_TOPIC + ")"
+				+ "&eventClientId=RAW(databridge-1)&fetchOnEvent=false&eventFetchTimeout=1000", configuration.getConnectionURI());
+	}
+
+	@Test
+	public void omitsEventParametersWithoutBroker() {
+		AASPollingConsumerConfiguration configuration = createConfiguration();
+		configuration.setFetchOnEvent(false);
+
+		assertEquals("aas:" + SUBMODEL_ENDPOINT + "?propertyPath=temperature&api=DotAAS-V3", configuration.getConnectionURI());
+	}
+
+	@Test
+	public void rejectsBrokerWithoutTopic() {
+		AASPollingConsumerConfiguration configuration = createConfiguration();
+		configuration.setEventBrokerUrl(BROKER_URL);
+
+		assertThrows(IllegalArgumentException.class, configuration::getConnectionURI);
+	}
+
+	@Test
+	public void rejectsTopicWithoutBroker() {
+		AASPollingConsumerConfiguration configuration = createConfiguration();
+		configuration.setEventTopic(EVENT_TOPIC);
+
+		assertThrows(IllegalArgumentException.class, configuration::getConnectionURI);
+	}
+
+	private static AASPollingConsumerConfiguration createConfiguration() {
+		return new AASPollingConsumerConfiguration("temperatureSource", "localhost", 8081, "temperature", SUBMODEL_ENDPOINT, "DotAAS-V3");
+	}
+}
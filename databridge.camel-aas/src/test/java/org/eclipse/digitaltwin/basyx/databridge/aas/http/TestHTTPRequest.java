@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.aas.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.digitaltwin.basyx.databridge.aas.AASComponent;
+import org.eclipse.digitaltwin.basyx.databridge.aas.LocalHTTPServer;
+import org.eclipse.digitaltwin.basyx.databridge.aas.LocalHTTPServer.Response;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the synchronous and asynchronous HTTP requests against a local server
+ *
+ */
+public class TestHTTPRequest {
+	private static final String CONTENT = "{\"value\":21}";
+
+	private LocalHTTPServer server;
+	private AASComponent component;
+
+	@Before
+	public void setUp() throws Exception {
+		server = new LocalHTTPServer();
+		component = new AASComponent();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		component.stop();
+		server.close();
+	}
+
+	@Test
+	public void pooledConnectionIsReused() throws Exception {
+		HTTPRequest request = new HTTPRequest(component.getHttpClient());
+
+		for (int i = 0; i < 3; i++)
+			request.patchRequest(server.getUrl() + "/submodels/sm1/$value", CONTENT);
+
+		assertEquals(3, server.getRequests().size());
+		assertEquals("PATCH", server.getRequests().get(0).method);
+		assertEquals(CONTENT, server.getRequests().get(0).body);
+		assertTrue(server.getRequests().stream().allMatch(recorded -> recorded.remotePort == server.getRequests().get(0).remotePort));
+	}
+
+	@Test
+	public void errorStatusIsThrown() throws Exception {
+		server.setHandler(recorded -> new Response(400, "invalid value"));
+		HTTPRequest request = new HTTPRequest(component.getHttpClient());
+
+		HTTPResponseException exception = assertThrows(HTTPResponseException.class, () -> request.putRequest(server.getUrl() + "/value", CONTENT));
+
+		assertEquals(400, exception.getStatusCode());
+		assertEquals("invalid value", exception.getResponseBody());
+	}
+
+	@Test
+	public void connectionIsReusedAfterErrorStatus() throws Exception {
+		server.setHandler(recorded -> new Response(500, "failure"));
+		HTTPRequest request = new HTTPRequest(component.getHttpClient());
+
+		for (int i = 0; i < 2; i++)
+			assertThrows(HTTPResponseException.class, () -> request.patchRequest(server.getUrl() + "/value", CONTENT));
+
+		assertEquals(server.getRequests().get(0).remotePort, server.getRequests().get(1).remotePort);
+	}
+
+	@Test
+	public void asyncRequestCompletes() throws Exception {
+		AsyncHTTPRequest request = new AsyncHTTPRequest(component.getHttpAsyncClient());
+
+		request.putRequest(server.getUrl() + "/value", CONTENT).get(5, TimeUnit.SECONDS);
+
+		assertEquals("PUT", server.getRequests().get(0).method);
+	}
+
+	@Test
+	public void asyncErrorStatusCompletesExceptionally() throws Exception {
+		server.setHandler(recorded -> new Response(503, "unavailable"));
+		AsyncHTTPRequest request = new AsyncHTTPRequest(component.getHttpAsyncClient());
+
+		ExecutionException exception = assertThrows(ExecutionException.class, () -> request.patchRequest(server.getUrl() + "/value", CONTENT).get(5, TimeUnit.SECONDS));
+
+		assertTrue(exception.getCause() instanceof HTTPResponseException);
+		assertEquals(503, ((HTTPResponseException) exception.getCause()).getStatusCode());
+		assertEquals("unavailable", ((HTTPResponseException) exception.getCause()).getResponseBody());
+	}
+}
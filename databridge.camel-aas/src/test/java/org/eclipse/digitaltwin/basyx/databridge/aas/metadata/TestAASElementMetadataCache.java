@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.aas.metadata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+/**
+ * Tests the expiry and the invalidation of the cached element metadata
+ *
+ */
+public class TestAASElementMetadataCache {
+	private static final String PROXY_URL = "http://localhost:4001/submodels/sm1/submodelElements/temperature";
+
+	private final AtomicInteger loads = new AtomicInteger();
+	private final Supplier<AASElementMetadata> loader = () -> {
+		loads.incrementAndGet();
+		return new AASElementMetadata("Property", null);
+	};
+
+	private final AASElementMetadataCache cache = new AASElementMetadataCache();
+
+	@Test
+	public void metadataIsLoadedOnce() {
+		AASElementMetadata first = cache.get(PROXY_URL, 0, loader);
+		AASElementMetadata second = cache.get(PROXY_URL, 0, loader);
+
+		assertSame(first, second);
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	public void expiredMetadataIsReloaded() throws InterruptedException {
+		long timeToLive = 50;
+
+		AASElementMetadata first = cache.get(PROXY_URL, timeToLive, loader);
+		assertSame(first, cache.get(PROXY_URL, timeToLive, loader));
+
+		Thread.sleep(timeToLive * 2);
+
+		cache.get(PROXY_URL, timeToLive, loader);
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	public void invalidatedMetadataIsReloaded() {
+		cache.get(PROXY_URL, 0, loader);
+		cache.invalidate(PROXY_URL);
+		cache.get(PROXY_URL, 0, loader);
+
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	public void invalidateAllReloadsEveryElement() {
+		String otherProxyUrl = PROXY_URL + "2";
+
+		cache.get(PROXY_URL, 0, loader);
+		cache.get(otherProxyUrl, 0, loader);
+		cache.invalidateAll();
+		cache.get(PROXY_URL, 0, loader);
+		cache.get(otherProxyUrl, 0, loader);
+
+		assertEquals(4, loads.get());
+	}
+}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.aas.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Tests the ValueOnly serialization built from single element values
+ *
+ */
+public class TestValueOnlyPayloadBuilder {
+
+	@Test
+	public void topLevelValues() {
+		String payload = new ValueOnlyPayloadBuilder().add("temperature", "72")
+				.add("name", "pump")
+				.build();
+
+		assertEquals("{\"temperature\":72,\"name\":\"pump\"}", payload);
+	}
+
+	@Test
+	public void nestedPathsShareCollections() {
+		Map<String, String> values = new LinkedHashMap<>();
+		values.put("motor.speed", "1200");
+		values.put("motor.bearing.temperature", "\"41.5\"");
+		values.put("status", "true");
+
+		String payload = new ValueOnlyPayloadBuilder().addAll(values)
+				.build();
+
+		assertEquals("{\"motor\":{\"speed\":1200,\"bearing\":{\"temperature\":\"41.5\"}},\"status\":true}", payload);
+	}
+
+	@Test
+	public void collectionValuesAreEmbedded() {
+		String payload = new ValueOnlyPayloadBuilder().add("motor", "{\"speed\":1200,\"direction\":\"cw\"}")
+				.add("limits", "[1,2,3]")
+				.build();
+
+		assertEquals("{\"motor\":{\"speed\":1200,\"direction\":\"cw\"},\"limits\":[1,2,3]}", payload);
+	}
+
+	@Test
+	public void elementOfCollectionValueIsMerged() {
+		String payload = new ValueOnlyPayloadBuilder().add("motor", "{\"speed\":1200}")
+				.add("motor.direction", "\"cw\"")
+				.build();
+
+		assertEquals("{\"motor\":{\"speed\":1200,\"direction\":\"cw\"}}", payload);
+	}
+
+	@Test
+	public void invalidJsonIsAddedAsString() {
+		String payload = new ValueOnlyPayloadBuilder().add("name", "not json {")
+				.add("empty", "")
+				.build();
+
+		assertEquals("{\"name\":\"not json {\",\"empty\":\"\"}", payload);
+	}
+
+	@Test
+	public void elementsInsideOfListsAreNotMergeable() {
+		assertTrue(ValueOnlyPayloadBuilder.isMergeable("motor.speed"));
+		assertFalse(ValueOnlyPayloadBuilder.isMergeable("limits[0]"));
+		assertFalse(ValueOnlyPayloadBuilder.isMergeable(""));
+		assertFalse(ValueOnlyPayloadBuilder.isMergeable(null));
+	}
+
+	@Test
+	public void emptyBuilder() {
+		ValueOnlyPayloadBuilder builder = new ValueOnlyPayloadBuilder();
+
+		assertTrue(builder.isEmpty());
+		assertEquals("{}", builder.build());
+	}
+}
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.aggregate;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.camel.Exchange;
+
+/**
+ * The exchange properties a message carries from its ingest into a route, i.e.,
+ * its ingest timestamp and the datasinks accepting it. A message aggregated
+ * from several messages, e.g., a batch or a window, carries the newest ingest
+ * timestamp of its members and is accepted by the datasinks accepting any of
+ * its members.
+ */
+public final class IngestProperties {
+	public static final String INGEST_TIMESTAMP_PROPERTY = "DataBridgeIngestTimestamp";
+	public static final String ACCEPTED_DATASINKS_PROPERTY = "DataBridgeAcceptedDataSinks";
+
+	private final Long ingestTimestamp;
+	private final Set<?> acceptedDataSinks;
+
+	private IngestProperties(Long ingestTimestamp, Set<?> acceptedDataSinks) {
+		this.ingestTimestamp = ingestTimestamp;
+		this.acceptedDataSinks = acceptedDataSinks;
+	}
+
+	/**
+	 * @param exchange
+	 * @return the properties of the exchange, which are empty if it was not
+	 *         stamped
+	 */
+	public static IngestProperties of(Exchange exchange) {
+		return new IngestProperties(exchange.getProperty(INGEST_TIMESTAMP_PROPERTY, Long.class), exchange.getProperty(ACCEPTED_DATASINKS_PROPERTY, Set.class));
+	}
+
+	/**
+	 * Merges the properties of a member into those of an aggregate
+	 * 
+	 * @param member
+	 * @param aggregate
+	 */
+	public static void merge(Exchange member, Exchange aggregate) {
+		of(aggregate).merge(of(member))
+				.applyTo(aggregate);
+	}
+
+	/**
+	 * Whether one of the given datasinks accepts the message. Messages without
+	 * evaluated conditions are accepted by all datasinks.
+	 * 
+	 * @param exchange
+	 * @param dataSinks
+	 *            the entry endpoints of the datasinks
+	 * @return true if the message is accepted
+	 */
+	public static boolean isAccepted(Exchange exchange, Collection<String> dataSinks) {
+		Set<?> accepted = exchange.getProperty(ACCEPTED_DATASINKS_PROPERTY, Set.class);
+
+		return accepted == null || dataSinks.stream()
+				.anyMatch(accepted::contains);
+	}
+
+	/**
+	 * Merges the properties of two members. A member without accepted datasinks
+	 * is accepted by all datasinks, so their union is, too.
+	 * 
+	 * @param other
+	 *            the properties of the other member, or null
+	 * @return the merged properties
+	 */
+	public IngestProperties merge(IngestProperties other) {
+		if (other == null)
+			return this;
+
+		return new IngestProperties(newest(ingestTimestamp, other.ingestTimestamp), union(acceptedDataSinks, other.acceptedDataSinks));
+	}
+
+	/**
+	 * Sets the properties on an exchange, replacing those it carries
+	 * 
+	 * @param exchange
+	 */
+	public void applyTo(Exchange exchange) {
+		if (ingestTimestamp != null)
+			exchange.setProperty(INGEST_TIMESTAMP_PROPERTY, ingestTimestamp);
+
+		if (acceptedDataSinks != null) {
+			exchange.setProperty(ACCEPTED_DATASINKS_PROPERTY, acceptedDataSinks);
+		} else {
+			exchange.removeProperty(ACCEPTED_DATASINKS_PROPERTY);
+		}
+	}
+
+	/**
+	 * @return the ingest timestamp in milliseconds, or null if not stamped
+	 */
+	public Long getIngestTimestamp() {
+		return ingestTimestamp;
+	}
+
+	/**
+	 * @return the datasinks accepting the message, or null if it is accepted by
+	 *         all datasinks
+	 */
+	public Set<?> getAcceptedDataSinks() {
+		return acceptedDataSinks;
+	}
+
+	private static Long newest(Long first, Long second) {
+		if (first == null)
+			return second;
+
+		if (second == null)
+			return first;
+
+		return Math.max(first, second);
+	}
+
+	private static Set<?> union(Set<?> first, Set<?> second) {
+		if (first == null || second == null)
+			return null;
+
+		Set<Object> union = new HashSet<>(first);
+		union.addAll(second);
+
+		return union;
+	}
+}
@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.aggregate;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Correlates the latest values of several datasources by key. Once each
+ * datasource delivered a value for a key within the window, every further
+ * value combines the latest values of all datasources to one JSON object, e.g.,
+ * 
+ * <pre>
+ * {"voltageSource":230.1,"currentSource":2.5}
+ * </pre>
+ * 
+ * At most maxKeys keys are kept, the least recently updated key is evicted
+ * first. Keys whose values all left the window are removed by
+ * {@link #sweep(long)}.
+ */
+public class JoinCorrelator {
+	private final List<String> dataSourceIds;
+	private final long window;
+	private final Map<Object, Map<String, LatestValue>> latestValues;
+
+	/**
+	 * @param dataSourceIds
+	 *            the ids of the joined datasources
+	 * @param window
+	 *            the maximum age in milliseconds of a joined value, no limit if
+	 *            0
+	 * @param maxKeys
+	 *            the maximum number of keys whose values are kept
+	 */
+	public JoinCorrelator(List<String> dataSourceIds, long window, int maxKeys) {
+		if (maxKeys < 1)
+			throw new IllegalArgumentException("A join requires a maximum of at least one key");
+
+		this.dataSourceIds = dataSourceIds;
+		this.window = window;
+		this.latestValues = new LinkedHashMap<Object, Map<String, LatestValue>>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object, Map<String, LatestValue>> eldest) {
+				return size() > maxKeys;
+			}
+		};
+	}
+
+	/**
+	 * Updates the latest value of a datasource and key
+	 * 
+	 * @param key
+	 * @param dataSourceId
+	 * @param body
+	 * @param timestamp
+	 *            the current time in milliseconds
+	 * @return the joined values as JSON, or null if a datasource has no value
+	 *         within the window
+	 */
+	public synchronized String update(Object key, String dataSourceId, String body, long timestamp) {
+		Map<String, LatestValue> values = latestValues.computeIfAbsent(key, k -> new HashMap<>());
+		values.put(dataSourceId, new LatestValue(parse(body), timestamp));
+
+		removeExpired(values, timestamp);
+
+		if (values.size() < dataSourceIds.size())
+			return null;
+
+		JsonObject joined = new JsonObject();
+		dataSourceIds.forEach(id -> joined.add(id, values.get(id).value));
+
+		return joined.toString();
+	}
+
+	/**
+	 * Removes the values which left the window and the keys without values
+	 * 
+	 * @param timestamp
+	 *            the current time in milliseconds
+	 */
+	public synchronized void sweep(long timestamp) {
+		if (window <= 0)
+			return;
+
+		Iterator<Map<String, LatestValue>> iterator = latestValues.values()
+				.iterator();
+
+		while (iterator.hasNext()) {
+			Map<String, LatestValue> values = iterator.next();
+			removeExpired(values, timestamp);
+
+			if (values.isEmpty())
+				iterator.remove();
+		}
+	}
+
+	/**
+	 * The number of keys with values
+	 * 
+	 * @return the number of keys
+	 */
+	public synchronized int getKeyCount() {
+		return latestValues.size();
+	}
+
+	private void removeExpired(Map<String, LatestValue> values, long timestamp) {
+		if (window > 0)
+			values.values()
+					.removeIf(value -> timestamp - value.timestamp > window);
+	}
+
+	private static JsonElement parse(String body) {
+		if (body == null)
+			return new JsonPrimitive("");
+
+		try {
+			return JsonParser.parseString(body);
+		} catch (JsonParseException e) {
+			return new JsonPrimitive(body);
+		}
+	}
+
+	private static class LatestValue {
+		private final JsonElement value;
+		private final long timestamp;
+
+		private LatestValue(JsonElement value, long timestamp) {
+			this.value = value;
+			this.timestamp = timestamp;
+		}
+	}
+}
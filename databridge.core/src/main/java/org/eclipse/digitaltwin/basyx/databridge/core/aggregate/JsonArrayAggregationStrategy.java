@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.aggregate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.Exchange;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Aggregates the bodies of a batch into one JSON array, e.g.,
+ * 
+ * <pre>
+ * {"temperature":20.5}
+ * {"temperature":21.0}
+ * 
+ * [{"temperature":20.5},{"temperature":21.0}]
+ * </pre>
+ * 
+ * Bodies which are no valid JSON are added as string. The number of aggregated
+ * messages is set as header {@link #BATCH_SIZE_HEADER}. The batch carries the
+ * merged {@link IngestProperties} of its messages, so it is as fresh as its
+ * newest message.
+ */
+public class JsonArrayAggregationStrategy implements AggregationStrategy {
+	public static final String BATCH_SIZE_HEADER = "DataBridgeBatchSize";
+
+	private static final String BODIES_PROPERTY = "DataBridgeBatchBodies";
+
+	@Override
+	public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+		String body = newExchange.getMessage().getBody(String.class);
+
+		if (oldExchange == null) {
+			List<String> bodies = new ArrayList<>();
+			bodies.add(body);
+			newExchange.setProperty(BODIES_PROPERTY, bodies);
+
+			return newExchange;
+		}
+
+		getBodies(oldExchange).add(body);
+		IngestProperties.merge(newExchange, oldExchange);
+
+		return oldExchange;
+	}
+
+	@Override
+	public void onCompletion(Exchange exchange) {
+		List<String> bodies = exchange == null ? null : getBodies(exchange);
+
+		if (bodies == null)
+			return;
+
+		exchange.removeProperty(BODIES_PROPERTY);
+
+		JsonArray batch = new JsonArray(bodies.size());
+		bodies.forEach(body -> batch.add(parse(body)));
+
+		exchange.getMessage().setBody(batch.toString());
+		exchange.getMessage().setHeader(BATCH_SIZE_HEADER, bodies.size());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<String> getBodies(Exchange exchange) {
+		return exchange.getProperty(BODIES_PROPERTY, List.class);
+	}
+
+	private static JsonElement parse(String body) {
+		if (body == null)
+			return new JsonPrimitive("");
+
+		try {
+			return JsonParser.parseString(body);
+		} catch (JsonParseException e) {
+			return new JsonPrimitive(body);
+		}
+	}
+}
@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.aggregate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Aggregates numeric values to count, min, max, avg and last per key and time
+ * window. Windows start at multiples of the slide and span the size, so
+ * tumbling windows have a slide equal to their size. The aggregates are
+ * accumulated incrementally, without keeping the values. A closed window
+ * carries the merged {@link IngestProperties} of its values.
+ */
+public class WindowAggregator {
+	private final long size;
+	private final long slide;
+
+	private final NavigableMap<Long, Map<Object, Accumulator>> windows = new TreeMap<>();
+	private long watermark = Long.MIN_VALUE;
+	private long closedUpTo = Long.MIN_VALUE;
+
+	/**
+	 * @param size
+	 *            the duration of a window in milliseconds
+	 * @param slide
+	 *            the duration between the starts of two windows in milliseconds
+	 */
+	public WindowAggregator(long size, long slide) {
+		if (size <= 0 || slide <= 0 || slide > size)
+			throw new IllegalArgumentException("A window requires a positive size and a slide not greater than its size");
+
+		this.size = size;
+		this.slide = slide;
+	}
+
+	/**
+	 * Adds a value without ingest properties
+	 * 
+	 * @see #add(Object, double, long, IngestProperties)
+	 */
+	public void add(Object key, double value, long timestamp) {
+		add(key, value, timestamp, null);
+	}
+
+	/**
+	 * Adds a value to all windows of its key containing the timestamp. Values of
+	 * already closed windows are ignored.
+	 * 
+	 * @param key
+	 * @param value
+	 * @param timestamp
+	 *            the time of the value in milliseconds
+	 * @param properties
+	 *            the ingest properties of the message of the value, or null
+	 */
+	public synchronized void add(Object key, double value, long timestamp, IngestProperties properties) {
+		watermark = Math.max(watermark, timestamp);
+
+		for (long start = Math.floorDiv(timestamp, slide) * slide; start > timestamp - size; start -= slide) {
+			if (start + size <= closedUpTo)
+				break;
+
+			windows.computeIfAbsent(start, s -> new LinkedHashMap<>())
+					.computeIfAbsent(key, k -> new Accumulator())
+					.add(value, properties);
+		}
+	}
+
+	/**
+	 * Closes all windows ending before or at the given time
+	 * 
+	 * @param time
+	 *            the current time in milliseconds
+	 * @return the closed windows, ordered by their start
+	 */
+	public synchronized List<ClosedWindow> close(long time) {
+		List<ClosedWindow> closed = new ArrayList<>();
+
+		if (time < Long.MIN_VALUE + size)
+			return closed;
+
+		Iterator<Map.Entry<Long, Map<Object, Accumulator>>> iterator = windows.headMap(time - size, true)
+				.entrySet()
+				.iterator();
+
+		while (iterator.hasNext()) {
+			Map.Entry<Long, Map<Object, Accumulator>> window = iterator.next();
+			long start = window.getKey();
+
+			window.getValue()
+					.forEach((key, accumulator) -> closed.add(new ClosedWindow(accumulator.toJson(key, start, start + size)
+							.toString(), accumulator.properties)));
+			iterator.remove();
+		}
+
+		closedUpTo = Math.max(closedUpTo, time);
+
+		return closed;
+	}
+
+	/**
+	 * The latest timestamp added, which closes the windows in event time
+	 * 
+	 * @return the watermark, or {@link Long#MIN_VALUE} if nothing was added
+	 */
+	public synchronized long getWatermark() {
+		return watermark;
+	}
+
+	/**
+	 * The aggregates of a closed window of a key
+	 */
+	public static class ClosedWindow {
+		private final String json;
+		private final IngestProperties properties;
+
+		private ClosedWindow(String json, IngestProperties properties) {
+			this.json = json;
+			this.properties = properties;
+		}
+
+		/**
+		 * @return the aggregates as JSON
+		 */
+		public String getJson() {
+			return json;
+		}
+
+		/**
+		 * @return the merged ingest properties of the values, or null if none
+		 *         of them had properties
+		 */
+		public IngestProperties getProperties() {
+			return properties;
+		}
+	}
+
+	private static class Accumulator {
+		private long count;
+		private double sum;
+		private double min = Double.POSITIVE_INFINITY;
+		private double max = Double.NEGATIVE_INFINITY;
+		private double last;
+		private IngestProperties properties;
+
+		private void add(double value, IngestProperties valueProperties) {
+			count++;
+			sum += value;
+			min = Math.min(min, value);
+			max = Math.max(max, value);
+			last = value;
+
+			if (valueProperties != null)
+				properties = valueProperties.merge(properties);
+		}
+
+		private JsonObject toJson(Object key, long start, long end) {
+			JsonObject json = new JsonObject();
+
+			if (key instanceof String)
+				json.addProperty("key", (String) key);
+
+			json.addProperty("start", start);
+			json.addProperty("end", end);
+			json.addProperty("count", count);
+			json.addProperty("min", min);
+			json.addProperty("max", max);
+			json.addProperty("avg", sum / count);
+			json.addProperty("last", last);
+
+			return json;
+		}
+	}
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.aggregate;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Processor;
+import org.eclipse.digitaltwin.basyx.databridge.core.aggregate.WindowAggregator.ClosedWindow;
+import org.eclipse.digitaltwin.basyx.databridge.core.util.NumericValues;
+
+/**
+ * Adds the numeric value of each message to the {@link WindowAggregator}.
+ * Messages without numeric value are ignored. Each closed window is turned
+ * into a message by {@link #restore(Exchange)}.
+ */
+public class WindowProcessor implements Processor {
+	private final WindowAggregator aggregator;
+	private final Expression key;
+	private final Expression value;
+	private final Expression timestamp;
+
+	/**
+	 * @param aggregator
+	 * @param key
+	 *            determines the key of a message
+	 * @param value
+	 *            determines the numeric value of a message
+	 * @param timestamp
+	 *            determines the event time of a message as epoch milliseconds
+	 *            or ISO-8601 instant, null for processing time
+	 */
+	public WindowProcessor(WindowAggregator aggregator, Expression key, Expression value, Expression timestamp) {
+		this.aggregator = aggregator;
+		this.key = key;
+		this.value = value;
+		this.timestamp = timestamp;
+	}
+
+	@Override
+	public void process(Exchange exchange) {
+		double numericValue = NumericValues.parse(value.evaluate(exchange, String.class));
+
+		if (Double.isNaN(numericValue))
+			return;
+
+		aggregator.add(key.evaluate(exchange, Object.class), numericValue, getTimestamp(exchange), IngestProperties.of(exchange));
+	}
+
+	/**
+	 * Replaces the body of an exchange split from the closed windows by the
+	 * aggregates of its window and sets the ingest properties of the window
+	 * 
+	 * @param exchange
+	 */
+	public static void restore(Exchange exchange) {
+		ClosedWindow window = exchange.getMessage()
+				.getBody(ClosedWindow.class);
+
+		exchange.getMessage()
+				.setBody(window.getJson());
+
+		if (window.getProperties() != null)
+			window.getProperties()
+					.applyTo(exchange);
+	}
+
+	private long getTimestamp(Exchange exchange) {
+		if (timestamp == null)
+			return System.currentTimeMillis();
+
+		return NumericValues.parseTimestamp(timestamp.evaluate(exchange, String.class), System.currentTimeMillis());
+	}
+}
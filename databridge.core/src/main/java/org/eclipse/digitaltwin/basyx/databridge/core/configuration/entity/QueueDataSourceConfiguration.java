@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.configuration.entity;
+
+/**
+ * A data source receiving the messages another route hands over through an
+ * in-process queue, e.g., the consumer route of a datasource shared by several
+ * routes
+ */
+public class QueueDataSourceConfiguration extends DataSourceConfiguration {
+	private final String connectionURI;
+
+	/**
+	 * @param uniqueId
+	 * @param connectionURI
+	 *            the uri of the queue endpoint
+	 */
+	public QueueDataSourceConfiguration(String uniqueId, String connectionURI) {
+		super(uniqueId, null, 0);
+		this.connectionURI = connectionURI;
+	}
+
+	@Override
+	public String getConnectionURI() {
+		return connectionURI;
+	}
+}
@@ -29,6 +29,7 @@ import java.util.List;
 
 import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core.RouteConfiguration;
 import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.event.EventRouteConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.join.JoinRouteConfiguration;
 import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.request.RequestRouteConfiguration;
 import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.timer.TimerRouteConfiguration;
 
@@ -79,6 +80,8 @@ public class RoutesConfigurationFactory extends ConfigurationFactory {
 				mapped.add(new TimerRouteConfiguration(configuration));
 			} else if (isRequestConfiguration(configuration)) {
 				mapped.add(new RequestRouteConfiguration(configuration));
+			} else if (isJoinConfiguration(configuration)) {
+				mapped.add(new JoinRouteConfiguration(configuration));
 			}
 		}
 
@@ -96,4 +99,8 @@ public class RoutesConfigurationFactory extends ConfigurationFactory {
 	private boolean isRequestConfiguration(RouteConfiguration configuration) {
 		return configuration.getRouteTrigger().equals(RequestRouteConfiguration.ROUTE_TRIGGER);
 	}
+
+	private boolean isJoinConfiguration(RouteConfiguration configuration) {
+		return configuration.getRouteTrigger().equals(JoinRouteConfiguration.ROUTE_TRIGGER);
+	}
 }
@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.builder;
+
+import org.apache.camel.model.ProcessorDefinition;
+import org.eclipse.digitaltwin.basyx.databridge.core.aggregate.JsonArrayAggregationStrategy;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.BatchConfiguration;
+
+/**
+ * Collects the messages to batches. A batch carries the newest ingest
+ * timestamp of its messages, so the maximum age of the route applies to its
+ * freshest message.
+ */
+public class BatchingStageBuilder implements RouteStageBuilder {
+	private final BatchConfiguration batching;
+
+	/**
+	 * @param batching
+	 */
+	public BatchingStageBuilder(BatchConfiguration batching) {
+		this.batching = batching;
+	}
+
+	/**
+	 * @return the definition processing the batches
+	 */
+	@Override
+	public ProcessorDefinition<?> configure(ProcessorDefinition<?> definition) {
+		return definition.aggregate(StageSupport.createCorrelationExpression(batching.getKey()), new JsonArrayAggregationStrategy())
+				.completionSize(batching.getSize())
+				.completionInterval(batching.getMaxLatency())
+				.forceCompletionOnStop();
+	}
+}
@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.builder;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.model.ProcessorDefinition;
+import org.apache.camel.support.ExpressionAdapter;
+import org.eclipse.digitaltwin.basyx.databridge.core.aggregate.IngestProperties;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core.RouteCreatorHelper;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.ChangeDetectionConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.ConflationConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.DataSinkStagesConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.filter.ChangeDetectionFilter;
+import org.eclipse.digitaltwin.basyx.databridge.core.filter.ConditionFilter;
+import org.eclipse.digitaltwin.basyx.databridge.core.filter.ConditionFilter.ParsedBody;
+import org.eclipse.digitaltwin.basyx.databridge.core.filter.StaleMessageFilter;
+import org.eclipse.digitaltwin.basyx.databridge.core.processor.TimeLimitedSendProcessor;
+import org.eclipse.digitaltwin.basyx.databridge.core.queue.ConflatingBlockingQueue;
+
+/**
+ * Creates the routes of the datasinks with stages, which apply the stages
+ * before writing to their datasink. The conditions of the datasinks are
+ * collected, so the route can evaluate them once on the untransformed message.
+ */
+public class DataSinkStagesBuilder {
+	private static final String CHANGE_DETECTION_SUFFIX = "-changeDetection";
+
+	private final StageSupport support;
+	private final StaleMessageFilter staleMessageFilter;
+	private final Map<String, ConditionFilter> dataSinkConditions = new LinkedHashMap<>();
+
+	/**
+	 * @param support
+	 * @param staleMessageFilter
+	 *            the filter of the maximum age of the route, or null
+	 */
+	public DataSinkStagesBuilder(StageSupport support, StaleMessageFilter staleMessageFilter) {
+		this.support = support;
+		this.staleMessageFilter = staleMessageFilter;
+	}
+
+	/**
+	 * Creates the route of a datasink with stages. The rate limit is applied
+	 * last, so messages dropped by the other stages do not consume its tokens.
+	 * 
+	 * @param name
+	 *            the id of the route
+	 * @param dataSinkEndpoint
+	 * @param stages
+	 * @return the entry endpoint of the route
+	 */
+	public String configure(String name, String dataSinkEndpoint, DataSinkStagesConfiguration stages) {
+		String entryEndpoint = createEntryEndpoint(name, stages);
+
+		ProcessorDefinition<?> definition = support.getRouteBuilder()
+				.from(entryEndpoint)
+				.routeId(name);
+
+		if (staleMessageFilter != null)
+			definition = definition.filter(staleMessageFilter);
+
+		if (stages.getWhen() != null) {
+			dataSinkConditions.put(entryEndpoint, ConditionFilter.compile(stages.getWhen()));
+			definition = definition.filter(exchange -> IngestProperties.isAccepted(exchange, Collections.singletonList(entryEndpoint)));
+		}
+
+		ChangeDetectionFilter changeDetectionFilter = createChangeDetectionFilter(name, stages.getChangeDetection());
+
+		if (stages.getDeadband() != null)
+			definition = definition.filter(StageSupport.createDeadbandFilter(stages.getDeadband()));
+
+		if (changeDetectionFilter != null)
+			definition = definition.filter(changeDetectionFilter);
+
+		if (stages.getRateLimit() != null)
+			definition = definition.filter(support.createRateLimitFilter(dataSinkEndpoint, stages.getRateLimit()));
+
+		if (stages.getTimeout() > 0) {
+			definition.process(new TimeLimitedSendProcessor(support.getRouteBuilder()
+					.getContext(), dataSinkEndpoint, stages.getTimeout()));
+		} else {
+			definition.to(dataSinkEndpoint);
+		}
+
+		if (changeDetectionFilter != null)
+			definition.process(changeDetectionFilter::onWritten);
+
+		return entryEndpoint;
+	}
+
+	/**
+	 * @return true if a datasink configures a condition
+	 */
+	public boolean hasConditions() {
+		return !dataSinkConditions.isEmpty();
+	}
+
+	/**
+	 * @return the entry endpoints of the datasinks configuring a condition
+	 */
+	public Set<String> getConditionalDataSinks() {
+		return Collections.unmodifiableSet(dataSinkConditions.keySet());
+	}
+
+	/**
+	 * Evaluates the conditions of the datasinks on the untransformed message,
+	 * parsing its body at most once
+	 * 
+	 * @return the expression of the entry endpoints of the datasinks accepting
+	 *         the message
+	 */
+	public Expression createAcceptedDataSinksExpression() {
+		Map<String, ConditionFilter> conditions = new LinkedHashMap<>(dataSinkConditions);
+
+		return new ExpressionAdapter() {
+			@Override
+			public Object evaluate(Exchange exchange) {
+				ParsedBody body = new ParsedBody(exchange);
+
+				return conditions.entrySet()
+						.stream()
+						.filter(condition -> condition.getValue()
+								.matches(exchange, body))
+						.map(Map.Entry::getKey)
+						.collect(Collectors.toSet());
+			}
+		};
+	}
+
+	/**
+	 * Creates the change detection filter of the datasink and binds it to the
+	 * registry, which exposes its counters
+	 * 
+	 * @return the filter, or null if not configured
+	 */
+	private ChangeDetectionFilter createChangeDetectionFilter(String name, ChangeDetectionConfiguration changeDetection) {
+		if (changeDetection == null)
+			return null;
+
+		ChangeDetectionFilter filter = new ChangeDetectionFilter(StageSupport.createCorrelationExpression(changeDetection.getKey()), changeDetection.getRefreshInterval());
+		support.bind(name + CHANGE_DETECTION_SUFFIX, filter);
+
+		return filter;
+	}
+
+	/**
+	 * The conflation or bulkhead queue of the datasink, or a direct endpoint
+	 * writing on the thread of the route
+	 */
+	private String createEntryEndpoint(String name, DataSinkStagesConfiguration stages) {
+		if (stages.getConflation() != null && stages.getBulkhead() != null)
+			throw new IllegalArgumentException("Datasink stages " + name + " can either configure a conflation or a bulkhead");
+
+		if (stages.getConflation() != null)
+			return createConflationEndpoint(name, stages.getConflation()) + "&waitForTaskToComplete=Never";
+
+		if (stages.getBulkhead() == null)
+			return "direct:" + name;
+
+		return RouteCreatorHelper.createQueueEndpoint(support.getRouteBuilder(), name, stages.getBulkhead()) + "&waitForTaskToComplete=Never";
+	}
+
+	/**
+	 * Creates the uri of a SEDA endpoint with a single consumer, whose queue keeps
+	 * the latest message per key. The queue is bound to the registry with the
+	 * given name.
+	 */
+	private String createConflationEndpoint(String name, ConflationConfiguration conflation) {
+		Expression key = StageSupport.createCorrelationExpression(conflation.getKey());
+		support.bind(name, new ConflatingBlockingQueue<Exchange>(exchange -> key.evaluate(exchange, Object.class)));
+
+		return "seda:" + name + "?concurrentConsumers=1&queue=#" + name;
+	}
+}
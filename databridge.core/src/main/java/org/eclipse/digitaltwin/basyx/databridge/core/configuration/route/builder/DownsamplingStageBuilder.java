@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.builder;
+
+import java.util.function.Supplier;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.model.ProcessorDefinition;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.DownsamplingConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.downsampling.Downsampler;
+import org.eclipse.digitaltwin.basyx.databridge.core.downsampling.DownsamplingProcessor;
+import org.eclipse.digitaltwin.basyx.databridge.core.downsampling.EveryNthDownsampler;
+import org.eclipse.digitaltwin.basyx.databridge.core.downsampling.LttbDownsampler;
+import org.eclipse.digitaltwin.basyx.databridge.core.downsampling.MinMaxDownsampler;
+import org.eclipse.digitaltwin.basyx.databridge.core.expression.KeyExpression;
+
+/**
+ * Reduces the messages to the points selected by the downsampling. The
+ * selected messages, including those flushed by a timer route once a series is
+ * idle, continue in a separate route.
+ */
+public class DownsamplingStageBuilder implements RouteStageBuilder {
+	private static final String DOWNSAMPLING_SUFFIX = "-downsampling";
+	private static final String FLUSH_SUFFIX = "-downsamplingFlush";
+	private static final long MIN_IDLE_CHECK_PERIOD = 100;
+	private static final long IDLE_CHECKS = 10;
+
+	private final StageSupport support;
+	private final String routeId;
+	private final DownsamplingConfiguration downsampling;
+
+	/**
+	 * @param support
+	 * @param routeId
+	 * @param downsampling
+	 */
+	public DownsamplingStageBuilder(StageSupport support, String routeId, DownsamplingConfiguration downsampling) {
+		if (downsampling.getIdleTimeout() < 0)
+			throw new IllegalArgumentException("The idle timeout of the downsampling of route " + routeId + " must not be negative");
+
+		this.support = support;
+		this.routeId = routeId;
+		this.downsampling = downsampling;
+	}
+
+	/**
+	 * @return the route processing the selected messages
+	 */
+	@Override
+	public ProcessorDefinition<?> configure(ProcessorDefinition<?> definition) {
+		RouteBuilder routeBuilder = support.getRouteBuilder();
+		Expression timestamp = downsampling.getTimestamp() == null ? null : KeyExpression.compile(downsampling.getTimestamp());
+		DownsamplingProcessor downsampler = new DownsamplingProcessor(createDownsamplerFactory(downsampling), StageSupport.createCorrelationExpression(downsampling.getKey()), KeyExpression.compile(downsampling.getValue()), timestamp, downsampling.getMaxKeys());
+
+		String downsamplingRouteId = routeId + DOWNSAMPLING_SUFFIX;
+		String downsamplingEndpoint = "direct:" + downsamplingRouteId;
+
+		definition.process(downsampler)
+				.split(routeBuilder.body())
+				.process(DownsamplingProcessor::restore)
+				.to(downsamplingEndpoint);
+
+		if (downsampling.getIdleTimeout() > 0) {
+			String flushRouteId = routeId + FLUSH_SUFFIX;
+			long idleCheckPeriod = Math.max(MIN_IDLE_CHECK_PERIOD, downsampling.getIdleTimeout() / IDLE_CHECKS);
+
+			routeBuilder.from("timer:" + flushRouteId + "?period=" + idleCheckPeriod)
+					.routeId(flushRouteId)
+					.process(exchange -> exchange.getMessage()
+							.setBody(downsampler.flushIdle(System.currentTimeMillis(), downsampling.getIdleTimeout())))
+					.split(routeBuilder.body())
+					.process(DownsamplingProcessor::restore)
+					.to(downsamplingEndpoint);
+		}
+
+		return routeBuilder.from(downsamplingEndpoint)
+				.routeId(downsamplingRouteId);
+	}
+
+	private static Supplier<Downsampler<Exchange>> createDownsamplerFactory(DownsamplingConfiguration downsampling) {
+		int factor = downsampling.getFactor();
+
+		switch (downsampling.getAlgorithm()) {
+		case DownsamplingConfiguration.LTTB:
+			return () -> new LttbDownsampler<>(factor);
+		case DownsamplingConfiguration.MIN_MAX:
+			return () -> new MinMaxDownsampler<>(factor);
+		case DownsamplingConfiguration.EVERY_NTH:
+			return () -> new EveryNthDownsampler<>(factor);
+		default:
+			throw new IllegalArgumentException("Unknown downsampling algorithm " + downsampling.getAlgorithm());
+		}
+	}
+}
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.builder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.apache.camel.model.MulticastDefinition;
+import org.apache.camel.model.ProcessorDefinition;
+import org.eclipse.digitaltwin.basyx.databridge.core.aggregate.IngestProperties;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core.TransformerChainTree;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.MulticastConfiguration;
+
+/**
+ * Multicasts the messages to the pipelines of the mapped datasinks and to the
+ * unmapped datasinks, using the multicast options of the route. Transformers
+ * shared by the beginning of several pipelines are evaluated once and their
+ * result is multicast to the diverging rest of the pipelines.
+ */
+public class MulticastBuilder {
+	private static final String THREAD_POOL_PREFIX = "DataBridgeMulticast-";
+
+	private final StageSupport support;
+	private final String routeId;
+	private final MulticastConfiguration options;
+	private final Set<String> conditionalDataSinks;
+	private ExecutorService executor;
+
+	/**
+	 * @param support
+	 * @param routeId
+	 * @param options
+	 *            the multicast options of the route, or null
+	 * @param conditionalDataSinks
+	 *            the entry endpoints of the datasinks configuring a condition
+	 */
+	public MulticastBuilder(StageSupport support, String routeId, MulticastConfiguration options, Set<String> conditionalDataSinks) {
+		this.support = support;
+		this.routeId = routeId;
+		this.options = options;
+		this.conditionalDataSinks = conditionalDataSinks;
+	}
+
+	/**
+	 * @param definition
+	 *            the definition receiving the messages
+	 * @param dataSinkEndpoints
+	 * @param dataSinkMapping
+	 *            the transformers of the mapped datasinks
+	 * @return the definition following the multicast
+	 */
+	public ProcessorDefinition<?> configure(ProcessorDefinition<?> definition, String[] dataSinkEndpoints, Map<String, String[]> dataSinkMapping) {
+		MulticastDefinition multicast = definition.multicast();
+		applyOptions(multicast);
+
+		addBranches(multicast, TransformerChainTree.build(dataSinkMapping));
+
+		getUnmappedEndpoints(dataSinkEndpoints, dataSinkMapping).forEach(dataSink -> multicast.to(dataSink)
+				.to("log: " + routeId));
+
+		return multicast.end();
+	}
+
+	private void addBranches(MulticastDefinition multicast, TransformerChainTree node) {
+		node.getChildren().forEach((transformer, child) -> addChain(startBranch(multicast, child).to(transformer), child));
+
+		node.getDataSinks().forEach(dataSink -> multicast.pipeline()
+				.to(dataSink)
+				.to("log:" + routeId));
+	}
+
+	/**
+	 * Starts the pipeline of a branch, which is skipped if none of its datasinks
+	 * accepts the message
+	 */
+	private ProcessorDefinition<?> startBranch(MulticastDefinition multicast, TransformerChainTree branch) {
+		List<String> dataSinks = branch.getAllDataSinks();
+
+		if (!conditionalDataSinks.containsAll(dataSinks))
+			return multicast.pipeline();
+
+		return multicast.pipeline()
+				.filter(exchange -> IngestProperties.isAccepted(exchange, dataSinks));
+	}
+
+	/**
+	 * Continues the pipeline with the transformers following the node as long as
+	 * they are not shared, and multicasts to the remaining branches otherwise
+	 */
+	private void addChain(ProcessorDefinition<?> pipeline, TransformerChainTree node) {
+		TransformerChainTree current = node;
+
+		while (current.getDataSinks().isEmpty() && current.getChildren().size() == 1) {
+			Map.Entry<String, TransformerChainTree> next = current.getChildren().entrySet().iterator().next();
+			pipeline.to(next.getKey());
+			current = next.getValue();
+		}
+
+		if (current.getBranchCount() == 1) {
+			pipeline.to(current.getDataSinks().get(0))
+					.to("log:" + routeId);
+			return;
+		}
+
+		MulticastDefinition multicast = pipeline.multicast();
+		applyOptions(multicast);
+		addBranches(multicast, current);
+	}
+
+	private void applyOptions(MulticastDefinition multicast) {
+		if (options == null)
+			return;
+
+		if (options.isParallelProcessing())
+			multicast.parallelProcessing().executorService(getExecutor());
+
+		if (options.getTimeout() > 0)
+			multicast.timeout(options.getTimeout());
+
+		if (options.isStopOnException())
+			multicast.stopOnException();
+	}
+
+	/**
+	 * Gets the bounded thread pool shared by the multicasts of the route. The pool
+	 * is shut down together with the camel context.
+	 */
+	private ExecutorService getExecutor() {
+		if (executor == null)
+			executor = support.newBoundedThreadPool(this, THREAD_POOL_PREFIX + routeId, options.getThreadPoolSize(), options.getMaxQueueSize());
+
+		return executor;
+	}
+
+	private static List<String> getUnmappedEndpoints(String[] dataSinkEndpoints, Map<String, String[]> dataSinkMapping) {
+		return Arrays.stream(dataSinkEndpoints)
+				.filter(Predicate.not(dataSinkMapping::containsKey))
+				.collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.builder;
+
+import java.util.function.Consumer;
+
+import org.apache.camel.model.ProcessorDefinition;
+import org.apache.camel.model.RouteDefinition;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.PartitionConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.expression.KeyExpression;
+import org.eclipse.digitaltwin.basyx.databridge.core.expression.LaneExpression;
+
+/**
+ * Distributes the messages by their key to lanes with a single consumer each,
+ * so messages with the same key keep their order while different keys are
+ * processed in parallel
+ */
+public class PartitionedLanesBuilder {
+	public static final String LANE_PROPERTY = "DataBridgeLane";
+
+	private static final String LANE_SUFFIX = "-lane-";
+
+	private final StageSupport support;
+	private final String routeId;
+	private final PartitionConfiguration partitioning;
+
+	/**
+	 * @param support
+	 * @param routeId
+	 * @param partitioning
+	 */
+	public PartitionedLanesBuilder(StageSupport support, String routeId, PartitionConfiguration partitioning) {
+		this.support = support;
+		this.routeId = routeId;
+		this.partitioning = partitioning;
+	}
+
+	/**
+	 * @param definition
+	 *            the definition distributing the messages to the lanes
+	 * @param processing
+	 *            configures the processing of a lane, it is called once per
+	 *            lane
+	 */
+	public void configure(ProcessorDefinition<?> definition, Consumer<ProcessorDefinition<?>> processing) {
+		String laneEndpointPrefix = "seda:" + routeId + LANE_SUFFIX;
+		String laneEndpointOptions = "?size=" + partitioning.getQueueSize() + "&blockWhenFull=true";
+
+		definition.setProperty(LANE_PROPERTY, new LaneExpression(KeyExpression.compile(partitioning.getKey()), partitioning.getLanes()))
+				.toD(laneEndpointPrefix + "${exchangeProperty." + LANE_PROPERTY + "}" + laneEndpointOptions);
+
+		for (int lane = 0; lane < partitioning.getLanes(); lane++) {
+			RouteDefinition laneRoute = support.getRouteBuilder()
+					.from(laneEndpointPrefix + lane + laneEndpointOptions)
+					.routeId(routeId + LANE_SUFFIX + lane);
+
+			processing.accept(laneRoute);
+		}
+	}
+}
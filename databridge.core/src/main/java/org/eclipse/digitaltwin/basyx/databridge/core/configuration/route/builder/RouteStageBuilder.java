@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.builder;
+
+import org.apache.camel.Predicate;
+import org.apache.camel.model.ProcessorDefinition;
+
+/**
+ * Wires one stage of a route. A stage may hand the messages over to a route of
+ * its own, e.g., behind a queue or a timer, so it returns the definition
+ * processing its output.
+ */
+@FunctionalInterface
+public interface RouteStageBuilder {
+
+	/**
+	 * @param definition
+	 *            the definition receiving the messages of the stage
+	 * @return the definition processing the output of the stage
+	 */
+	ProcessorDefinition<?> configure(ProcessorDefinition<?> definition);
+
+	/**
+	 * A stage passing the messages matching the predicate
+	 * 
+	 * @param predicate
+	 * @return the stage
+	 */
+	static RouteStageBuilder filter(Predicate predicate) {
+		return definition -> definition.filter(predicate);
+	}
+}
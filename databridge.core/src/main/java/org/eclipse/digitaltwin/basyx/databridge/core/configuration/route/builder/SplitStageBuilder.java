@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.builder;
+
+import org.apache.camel.model.ProcessorDefinition;
+import org.apache.camel.model.SplitDefinition;
+import org.eclipse.digitaltwin.basyx.databridge.core.aggregate.JsonArrayAggregationStrategy;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.SplitConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.expression.SplitExpression;
+
+/**
+ * Splits the messages into their elements. With aggregation, the transformers
+ * of the route are applied per element within the split and the results are
+ * aggregated into one JSON array.
+ */
+public class SplitStageBuilder implements RouteStageBuilder {
+	private static final String THREAD_POOL_PREFIX = "DataBridgeSplit-";
+
+	private final StageSupport support;
+	private final String routeId;
+	private final SplitConfiguration split;
+	private final String[] dataTransformerEndpoints;
+
+	/**
+	 * @param support
+	 * @param routeId
+	 * @param split
+	 * @param dataTransformerEndpoints
+	 *            the transformers applied per element with aggregation
+	 */
+	public SplitStageBuilder(StageSupport support, String routeId, SplitConfiguration split, String[] dataTransformerEndpoints) {
+		this.support = support;
+		this.routeId = routeId;
+		this.split = split;
+		this.dataTransformerEndpoints = dataTransformerEndpoints;
+	}
+
+	/**
+	 * Whether the transformers of a route are applied by its split stage
+	 * 
+	 * @param split
+	 *            the split configuration of the route, or null
+	 * @return true if the split aggregates the transformed elements
+	 */
+	public static boolean appliesTransformers(SplitConfiguration split) {
+		return split != null && split.isAggregate();
+	}
+
+	/**
+	 * @return the definition processing the elements or the aggregated elements
+	 */
+	@Override
+	public ProcessorDefinition<?> configure(ProcessorDefinition<?> definition) {
+		SplitDefinition splitDefinition = split.isAggregate() ? definition.split(new SplitExpression(), new JsonArrayAggregationStrategy()) : definition.split(new SplitExpression());
+
+		if (split.isParallelProcessing())
+			splitDefinition.parallelProcessing()
+					.executorService(support.newBoundedThreadPool(this, THREAD_POOL_PREFIX + routeId, split.getThreadPoolSize(), split.getMaxQueueSize()));
+
+		if (!split.isAggregate() || !split.isOrdered())
+			splitDefinition.streaming();
+
+		if (!split.isAggregate())
+			return splitDefinition;
+
+		if (dataTransformerEndpoints.length > 0)
+			splitDefinition.to(dataTransformerEndpoints);
+
+		return splitDefinition.end();
+	}
+}
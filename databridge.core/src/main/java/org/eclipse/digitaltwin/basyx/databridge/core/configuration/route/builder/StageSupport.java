@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.builder;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.builder.ThreadPoolProfileBuilder;
+import org.apache.camel.spi.Registry;
+import org.apache.camel.support.ExpressionAdapter;
+import org.apache.camel.support.builder.ExpressionBuilder;
+import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
+import org.eclipse.digitaltwin.basyx.databridge.core.aggregate.IngestProperties;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.DeadbandConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.RateLimitConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.expression.KeyExpression;
+import org.eclipse.digitaltwin.basyx.databridge.core.filter.DeadbandFilter;
+import org.eclipse.digitaltwin.basyx.databridge.core.filter.RateLimitFilter;
+import org.eclipse.digitaltwin.basyx.databridge.core.filter.StaleMessageFilter;
+import org.eclipse.digitaltwin.basyx.databridge.core.util.TokenBucket;
+
+/**
+ * Shared by the stage builders of a route. It gives access to the route builder
+ * creating the routes, binds the state of the stages to the registry, which
+ * exposes their counters, and creates their thread pools.
+ */
+public class StageSupport {
+	private static final String RATE_LIMIT_PREFIX = "rateLimit:";
+	private static final String MAX_AGE_SUFFIX = "-maxAge";
+
+	private final RouteBuilder routeBuilder;
+
+	/**
+	 * @param routeBuilder
+	 *            the route builder creating the routes of the stages
+	 */
+	public StageSupport(RouteBuilder routeBuilder) {
+		this.routeBuilder = routeBuilder;
+	}
+
+	public RouteBuilder getRouteBuilder() {
+		return routeBuilder;
+	}
+
+	/**
+	 * Binds the state of a stage to the registry
+	 * 
+	 * @param name
+	 * @param bean
+	 */
+	public void bind(String name, Object bean) {
+		routeBuilder.getContext()
+				.getRegistry()
+				.bind(name, bean);
+	}
+
+	/**
+	 * Creates the filter of the maximum age of a route and binds it to the
+	 * registry, which exposes its drop counter
+	 * 
+	 * @param routeId
+	 * @param maxAge
+	 *            the maximum age in milliseconds
+	 * @return the filter, or null if messages of the route never expire
+	 */
+	public StaleMessageFilter createStaleMessageFilter(String routeId, long maxAge) {
+		if (maxAge <= 0)
+			return null;
+
+		StaleMessageFilter filter = new StaleMessageFilter(IngestProperties.INGEST_TIMESTAMP_PROPERTY, maxAge);
+		bind(routeId + MAX_AGE_SUFFIX, filter);
+
+		return filter;
+	}
+
+	/**
+	 * Creates a rate limit filter using the token bucket bound to the registry
+	 * for the limited route or datasink endpoint, so filters limiting the same
+	 * one share their limit. Conflicting rates for the same one are rejected.
+	 * 
+	 * @param limited
+	 *            the id of the route or the endpoint of the datasink
+	 * @param rateLimit
+	 * @return the filter
+	 */
+	public RateLimitFilter createRateLimitFilter(String limited, RateLimitConfiguration rateLimit) {
+		String name = RATE_LIMIT_PREFIX + limited;
+		Registry registry = routeBuilder.getContext()
+				.getRegistry();
+		TokenBucket tokenBucket = registry.lookupByNameAndType(name, TokenBucket.class);
+
+		if (tokenBucket == null) {
+			tokenBucket = new TokenBucket(rateLimit.getRate(), rateLimit.getBurst(), System.nanoTime());
+			registry.bind(name, tokenBucket);
+		} else if (tokenBucket.getRate() != rateLimit.getRate() || tokenBucket.getCapacity() != rateLimit.getBurst()) {
+			throw new IllegalArgumentException("The shared rate limit " + name + " is configured with conflicting rates, " + tokenBucket.getRate() + "/s with burst " + tokenBucket.getCapacity() + " and " + rateLimit.getRate() + "/s with burst " + rateLimit.getBurst());
+		}
+
+		switch (rateLimit.getExcess()) {
+		case RateLimitConfiguration.DELAY:
+			return new RateLimitFilter(name, tokenBucket, false);
+		case RateLimitConfiguration.DROP:
+			return new RateLimitFilter(name, tokenBucket, true);
+		default:
+			throw new IllegalArgumentException("Unknown excess policy " + rateLimit.getExcess() + " of rate limit " + name);
+		}
+	}
+
+	/**
+	 * Creates a bounded thread pool, which runs tasks on the calling thread if
+	 * its queue is full. The pool is shut down together with the camel context.
+	 * 
+	 * @param source
+	 *            the stage using the pool
+	 * @param name
+	 * @param poolSize
+	 * @param maxQueueSize
+	 * @return the thread pool
+	 */
+	public ExecutorService newBoundedThreadPool(Object source, String name, int poolSize, int maxQueueSize) {
+		return routeBuilder.getContext()
+				.getExecutorServiceManager()
+				.newThreadPool(source, name, new ThreadPoolProfileBuilder(name).poolSize(poolSize)
+						.maxPoolSize(poolSize)
+						.maxQueueSize(maxQueueSize)
+						.rejectedPolicy(ThreadPoolRejectedPolicy.CallerRuns)
+						.build());
+	}
+
+	/**
+	 * Correlates the messages by the given key, or all messages if no key is
+	 * configured. Messages without key are correlated to one group.
+	 * 
+	 * @param key
+	 *            the key definition, see {@link KeyExpression}, or null
+	 * @return the correlation expression
+	 */
+	public static Expression createCorrelationExpression(String key) {
+		if (key == null)
+			return ExpressionBuilder.constantExpression(Boolean.TRUE);
+
+		KeyExpression keyExpression = KeyExpression.compile(key);
+
+		return new ExpressionAdapter() {
+			@Override
+			public Object evaluate(Exchange exchange) {
+				return Objects.toString(keyExpression.evaluate(exchange), "");
+			}
+		};
+	}
+
+	/**
+	 * @param deadband
+	 * @return the filter of the configured deadband
+	 */
+	public static DeadbandFilter createDeadbandFilter(DeadbandConfiguration deadband) {
+		KeyExpression key = deadband.getKey() == null ? null : KeyExpression.compile(deadband.getKey());
+
+		return new DeadbandFilter(key, KeyExpression.compile(deadband.getValue()), deadband.getAbsolute(), deadband.getPercent(), deadband.getHeartbeat(), deadband.getMaxKeys());
+	}
+}
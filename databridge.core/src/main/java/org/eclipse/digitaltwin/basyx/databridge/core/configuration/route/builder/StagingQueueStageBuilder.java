@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.builder;
+
+import org.apache.camel.model.ProcessorDefinition;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core.RouteCreatorHelper;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.QueueConfiguration;
+
+/**
+ * Hands the messages over to the staging queue of the route, which decouples
+ * the datasource from the processing according to the overflow policy of the
+ * queue
+ */
+public class StagingQueueStageBuilder implements RouteStageBuilder {
+	private static final String STAGING_SUFFIX = "-staging";
+
+	private final StageSupport support;
+	private final String routeId;
+	private final QueueConfiguration stagingQueue;
+
+	/**
+	 * @param support
+	 * @param routeId
+	 * @param stagingQueue
+	 */
+	public StagingQueueStageBuilder(StageSupport support, String routeId, QueueConfiguration stagingQueue) {
+		this.support = support;
+		this.routeId = routeId;
+		this.stagingQueue = stagingQueue;
+	}
+
+	/**
+	 * @return the route consuming the staging queue
+	 */
+	@Override
+	public ProcessorDefinition<?> configure(ProcessorDefinition<?> definition) {
+		String stagingEndpoint = RouteCreatorHelper.createQueueEndpoint(support.getRouteBuilder(), routeId + STAGING_SUFFIX, stagingQueue);
+		definition.to(stagingEndpoint);
+
+		return support.getRouteBuilder()
+				.from(stagingEndpoint)
+				.routeId(routeId + STAGING_SUFFIX);
+	}
+}
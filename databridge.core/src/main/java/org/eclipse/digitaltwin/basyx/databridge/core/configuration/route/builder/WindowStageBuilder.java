@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.builder;
+
+import org.apache.camel.Expression;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.model.ProcessorDefinition;
+import org.eclipse.digitaltwin.basyx.databridge.core.aggregate.WindowAggregator;
+import org.eclipse.digitaltwin.basyx.databridge.core.aggregate.WindowProcessor;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.WindowConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.expression.KeyExpression;
+
+/**
+ * Aggregates the messages per window. The windows are closed by a timer route,
+ * which continues with one message per closed window. It carries the newest
+ * ingest timestamp of the messages of the window and is accepted by the
+ * datasinks accepting any of them.
+ */
+public class WindowStageBuilder implements RouteStageBuilder {
+	private static final String WINDOW_SUFFIX = "-window";
+	private static final long MIN_CLOSE_PERIOD = 10;
+	private static final long CLOSE_CHECKS = 10;
+
+	private final StageSupport support;
+	private final String routeId;
+	private final WindowConfiguration window;
+
+	/**
+	 * @param support
+	 * @param routeId
+	 * @param window
+	 */
+	public WindowStageBuilder(StageSupport support, String routeId, WindowConfiguration window) {
+		this.support = support;
+		this.routeId = routeId;
+		this.window = window;
+	}
+
+	/**
+	 * @return the timer route processing the closed windows
+	 */
+	@Override
+	public ProcessorDefinition<?> configure(ProcessorDefinition<?> definition) {
+		RouteBuilder routeBuilder = support.getRouteBuilder();
+		WindowAggregator aggregator = new WindowAggregator(window.getSize(), window.getSlide());
+		Expression timestamp = window.getTimestamp() == null ? null : KeyExpression.compile(window.getTimestamp());
+
+		definition.process(new WindowProcessor(aggregator, StageSupport.createCorrelationExpression(window.getKey()), KeyExpression.compile(window.getValue()), timestamp));
+
+		String windowRouteId = routeId + WINDOW_SUFFIX;
+		long closePeriod = Math.max(MIN_CLOSE_PERIOD, window.getSlide() / CLOSE_CHECKS);
+
+		return routeBuilder.from("timer:" + windowRouteId + "?period=" + closePeriod)
+				.routeId(windowRouteId)
+				.process(exchange -> exchange.getMessage()
+						.setBody(aggregator.close(timestamp == null ? System.currentTimeMillis() : aggregator.getWatermark())))
+				.split(routeBuilder.body())
+				.process(WindowProcessor::restore);
+	}
+}
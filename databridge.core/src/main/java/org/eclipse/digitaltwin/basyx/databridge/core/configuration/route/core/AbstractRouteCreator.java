@@ -25,13 +25,43 @@
 
 package org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
+import org.apache.camel.Expression;
 import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.model.ProcessorDefinition;
+import org.apache.camel.model.RouteDefinition;
+import org.eclipse.digitaltwin.basyx.databridge.core.aggregate.IngestProperties;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.builder.BatchingStageBuilder;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.builder.DataSinkStagesBuilder;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.builder.DownsamplingStageBuilder;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.builder.MulticastBuilder;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.builder.PartitionedLanesBuilder;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.builder.RouteStageBuilder;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.builder.SplitStageBuilder;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.builder.StageSupport;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.builder.StagingQueueStageBuilder;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.builder.WindowStageBuilder;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.DataSinkStagesConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.filter.ConditionFilter;
+import org.eclipse.digitaltwin.basyx.databridge.core.filter.StaleMessageFilter;
 
 public abstract class AbstractRouteCreator implements IRouteCreator {
+	public static final String LANE_PROPERTY = PartitionedLanesBuilder.LANE_PROPERTY;
+	private static final String DATASINK_INFIX = "-datasink-";
+
 	private RouteBuilder routeBuilder;
 	private RoutesConfiguration routesConfiguration;
+	private StageSupport stageSupport;
+	private StaleMessageFilter staleMessageFilter;
+	private DataSinkStagesBuilder dataSinkStages;
+	private MulticastBuilder multicastBuilder;
 
 	/**
 	 * @param routeBuilder
@@ -40,6 +70,7 @@ public abstract class AbstractRouteCreator implements IRouteCreator {
 	public AbstractRouteCreator(RouteBuilder routeBuilder, RoutesConfiguration routesConfiguration) {
 		this.routeBuilder = routeBuilder;
 		this.routesConfiguration = routesConfiguration;
+		this.stageSupport = new StageSupport(routeBuilder);
 	}
 
 	protected RoutesConfiguration getRoutesConfiguration() {
@@ -53,11 +84,16 @@ public abstract class AbstractRouteCreator implements IRouteCreator {
 	@Override
 	public void addRouteToRouteBuilder(RouteConfiguration routeConfig) {
 		String dataSourceEndpoint = RouteCreatorHelper.getDataSourceEndpoint(routesConfiguration, routeConfig.getDatasource());
-		String[] dataSinkEndpoints = RouteCreatorHelper.getDataSinkEndpoints(routesConfiguration, routeConfig.getDatasinks());
-		String[] dataTransformerEndpoints = RouteCreatorHelper.getDataTransformerEndpoints(routesConfiguration, routeConfig.getTransformers());
-		Map<String, String[]> datasinkMapping = RouteCreatorHelper.getDataSinkMapping(routesConfiguration, routeConfig.getDatasinkMappingConfiguration());
+		String[] dataTransformerEndpoints = SplitStageBuilder.appliesTransformers(routeConfig.getSplit()) ? new String[0] : RouteCreatorHelper.getDataTransformerEndpoints(routesConfiguration, routeConfig.getTransformers());
 		String routeId = routeConfig.getRouteId();
 
+		staleMessageFilter = stageSupport.createStaleMessageFilter(routeId, routeConfig.getMaxAge());
+		dataSinkStages = new DataSinkStagesBuilder(stageSupport, staleMessageFilter);
+
+		Map<String, String> stagedDataSinkEndpoints = configureDataSinkStages(routeConfig);
+		String[] dataSinkEndpoints = replaceEndpoints(RouteCreatorHelper.getDataSinkEndpoints(routesConfiguration, routeConfig.getDatasinks()), stagedDataSinkEndpoints);
+		Map<String, String[]> datasinkMapping = replaceEndpoints(RouteCreatorHelper.getDataSinkMapping(routesConfiguration, routeConfig.getDatasinkMappingConfiguration()), stagedDataSinkEndpoints);
+
 		if (datasinkMapping == null || datasinkMapping.isEmpty()) {
 			configureRoute(routeConfig, dataSourceEndpoint, dataSinkEndpoints, dataTransformerEndpoints, routeId);
 		} else {
@@ -65,6 +101,163 @@ public abstract class AbstractRouteCreator implements IRouteCreator {
 		}
 	}
 
+	/**
+	 * Creates a route for each datasink with stages, which applies the stages
+	 * before writing to the datasink
+	 * 
+	 * @return the entry endpoints of these routes keyed by the endpoint of their
+	 *         datasink
+	 */
+	private Map<String, String> configureDataSinkStages(RouteConfiguration routeConfig) {
+		Map<String, String> stagedDataSinkEndpoints = new HashMap<>();
+
+		getDataSinkStages(routeConfig).forEach((dataSinkId, stages) -> {
+			String dataSinkEndpoint = RouteCreatorHelper.getDataSinkEndpoint(routesConfiguration, dataSinkId);
+			stagedDataSinkEndpoints.put(dataSinkEndpoint, dataSinkStages.configure(routeConfig.getRouteId() + DATASINK_INFIX + dataSinkId, dataSinkEndpoint, stages));
+		});
+
+		return stagedDataSinkEndpoints;
+	}
+
+	/**
+	 * The configured stages of the datasinks. With a maximum age, every datasink
+	 * gets a route, which drops stale messages before writing.
+	 */
+	private Map<String, DataSinkStagesConfiguration> getDataSinkStages(RouteConfiguration routeConfig) {
+		Map<String, DataSinkStagesConfiguration> stages = new LinkedHashMap<>();
+
+		if (staleMessageFilter != null) {
+			routeConfig.getDatasinks()
+					.forEach(dataSinkId -> stages.put(dataSinkId, new DataSinkStagesConfiguration()));
+
+			if (routeConfig.getDatasinkMappingConfiguration() != null)
+				routeConfig.getDatasinkMappingConfiguration()
+						.keySet()
+						.forEach(dataSinkId -> stages.put(dataSinkId, new DataSinkStagesConfiguration()));
+		}
+
+		if (routeConfig.getDatasinkStages() != null)
+			stages.putAll(routeConfig.getDatasinkStages());
+
+		return stages;
+	}
+
+	private static String[] replaceEndpoints(String[] endpoints, Map<String, String> replacements) {
+		return Arrays.stream(endpoints)
+				.map(endpoint -> replacements.getOrDefault(endpoint, endpoint))
+				.toArray(String[]::new);
+	}
+
+	private static Map<String, String[]> replaceEndpoints(Map<String, String[]> dataSinkMapping, Map<String, String> replacements) {
+		if (dataSinkMapping == null)
+			return null;
+
+		Map<String, String[]> replaced = new LinkedHashMap<>();
+		dataSinkMapping.forEach((dataSink, dataTransformers) -> replaced.put(replacements.getOrDefault(dataSink, dataSink), dataTransformers));
+
+		return replaced;
+	}
+
+	/**
+	 * Applies the optional stages of the route configuration to the route and
+	 * configures the processing of the messages, i.e., the transformers and
+	 * sinks. Each message is stamped with its ingest timestamp first.
+	 * 
+	 * @param routeConfig
+	 * @param routeDefinition
+	 *            the route receiving the messages of the datasource
+	 * @param processing
+	 *            configures the processing on the given definition, it may be
+	 *            called for several routes
+	 */
+	protected void configureProcessing(RouteConfiguration routeConfig, RouteDefinition routeDefinition, Consumer<ProcessorDefinition<?>> processing) {
+		ProcessorDefinition<?> definition = routeDefinition.process(exchange -> exchange.setProperty(IngestProperties.INGEST_TIMESTAMP_PROPERTY, System.currentTimeMillis()));
+
+		for (RouteStageBuilder stage : createStages(routeConfig))
+			definition = stage.configure(definition);
+
+		Consumer<ProcessorDefinition<?>> freshProcessing = dropStaleMessages(processing);
+
+		if (routeConfig.getPartitioning() == null) {
+			freshProcessing.accept(definition);
+			return;
+		}
+
+		new PartitionedLanesBuilder(stageSupport, routeConfig.getRouteId(), routeConfig.getPartitioning()).configure(definition, freshProcessing);
+	}
+
+	/**
+	 * The configured stages of the route in the order they are applied
+	 */
+	private List<RouteStageBuilder> createStages(RouteConfiguration routeConfig) {
+		String routeId = routeConfig.getRouteId();
+		List<RouteStageBuilder> stages = new ArrayList<>();
+
+		if (routeConfig.getFilter() != null)
+			stages.add(RouteStageBuilder.filter(ConditionFilter.compile(routeConfig.getFilter())));
+
+		if (routeConfig.getSplit() != null)
+			stages.add(new SplitStageBuilder(stageSupport, routeId, routeConfig.getSplit(), RouteCreatorHelper.getDataTransformerEndpoints(routesConfiguration, routeConfig.getTransformers())));
+
+		if (dataSinkStages.hasConditions()) {
+			Expression acceptedDataSinks = dataSinkStages.createAcceptedDataSinksExpression();
+			stages.add(definition -> definition.setProperty(IngestProperties.ACCEPTED_DATASINKS_PROPERTY, acceptedDataSinks));
+		}
+
+		if (routeConfig.getDeadband() != null)
+			stages.add(RouteStageBuilder.filter(StageSupport.createDeadbandFilter(routeConfig.getDeadband())));
+
+		if (routeConfig.getDownsampling() != null)
+			stages.add(new DownsamplingStageBuilder(stageSupport, routeId, routeConfig.getDownsampling()));
+
+		if (routeConfig.getWindow() != null)
+			stages.add(new WindowStageBuilder(stageSupport, routeId, routeConfig.getWindow()));
+
+		if (routeConfig.getBatching() != null)
+			stages.add(new BatchingStageBuilder(routeConfig.getBatching()));
+
+		if (routeConfig.getRateLimit() != null)
+			stages.add(RouteStageBuilder.filter(stageSupport.createRateLimitFilter(routeId, routeConfig.getRateLimit())));
+
+		if (routeConfig.getStagingQueue() != null)
+			stages.add(new StagingQueueStageBuilder(stageSupport, routeId, routeConfig.getStagingQueue()));
+
+		return stages;
+	}
+
+	/**
+	 * Drops stale messages before the processing, i.e., after they waited in
+	 * the staging queue or the lanes
+	 */
+	private Consumer<ProcessorDefinition<?>> dropStaleMessages(Consumer<ProcessorDefinition<?>> processing) {
+		if (staleMessageFilter == null)
+			return processing;
+
+		return definition -> processing.accept(definition.filter(staleMessageFilter));
+	}
+
+	/**
+	 * Correlates the messages by the given key, or all messages if no key is
+	 * configured. Messages without key are correlated to one group.
+	 */
+	protected static Expression createCorrelationExpression(String key) {
+		return StageSupport.createCorrelationExpression(key);
+	}
+
+	/**
+	 * Multicasts the messages to the pipelines of the mapped datasinks and to the
+	 * unmapped datasinks, using the multicast options of the route. The
+	 * multicasts of the route share their thread pool.
+	 * 
+	 * @return the definition following the multicast
+	 */
+	protected ProcessorDefinition<?> configureMulticast(RouteConfiguration routeConfig, ProcessorDefinition<?> definition, String[] dataSinkEndpoints, Map<String, String[]> dataSinkMapping, String routeId) {
+		if (multicastBuilder == null)
+			multicastBuilder = new MulticastBuilder(stageSupport, routeId, routeConfig.getMulticast(), dataSinkStages.getConditionalDataSinks());
+
+		return multicastBuilder.configure(definition, dataSinkEndpoints, dataSinkMapping);
+	}
+
 	protected abstract void configureRoute(RouteConfiguration routeConfig, String dataSourceEndpoint, String[] dataSinkEndpoints, String[] dataTransformerEndpoints, String routeId);
 
 	protected abstract void configureRoute(RouteConfiguration routeConfig, String dataSourceEndpoint, String[] dataSinkEndpoints, String[] dataTransformerEndpoints, Map<String, String[]> DataSinkMapping, String routeId);
@@ -29,6 +29,18 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.BatchConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.ConditionConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.DataSinkStagesConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.DeadbandConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.DownsamplingConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.MulticastConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.PartitionConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.QueueConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.RateLimitConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.SplitConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.WindowConfiguration;
+
 /**
  * @author DataBridge authors, jungjan
  */
@@ -39,6 +51,19 @@ public class RouteConfiguration {
 	private List<String> transformers = new ArrayList<>();
 	private List<String> datasinks = new ArrayList<>();
 	private Map<String, String[]> datasinkMappingConfiguration;
+	private PartitionConfiguration partitioning;
+	private MulticastConfiguration multicast;
+	private QueueConfiguration stagingQueue;
+	private QueueConfiguration sharedDatasource;
+	private Map<String, DataSinkStagesConfiguration> datasinkStages;
+	private BatchConfiguration batching;
+	private DeadbandConfiguration deadband;
+	private RateLimitConfiguration rateLimit;
+	private WindowConfiguration window;
+	private SplitConfiguration split;
+	private List<ConditionConfiguration> filter;
+	private DownsamplingConfiguration downsampling;
+	private long maxAge;
 
 	private Map<String, Object> triggerData = new HashMap<>();
 
@@ -98,6 +123,19 @@ public class RouteConfiguration {
 		this(configuration.getRouteTrigger(), configuration.getDatasource(), configuration.getTransformers(), configuration.getDatasinks(), configuration.getDatasinkMappingConfiguration());
 		setRouteId(configuration.getRouteId());
 		this.triggerData = configuration.triggerData;
+		this.partitioning = configuration.partitioning;
+		this.multicast = configuration.multicast;
+		this.stagingQueue = configuration.stagingQueue;
+		this.sharedDatasource = configuration.sharedDatasource;
+		this.datasinkStages = configuration.datasinkStages;
+		this.batching = configuration.batching;
+		this.deadband = configuration.deadband;
+		this.rateLimit = configuration.rateLimit;
+		this.window = configuration.window;
+		this.split = configuration.split;
+		this.filter = configuration.filter;
+		this.downsampling = configuration.downsampling;
+		this.maxAge = configuration.maxAge;
 	}
 
 	protected Map<String, Object> getTriggerData() {
@@ -144,4 +182,187 @@ public class RouteConfiguration {
 		this.datasinkMappingConfiguration = datasinkMappingConfiguration;
 	}
 
+	/**
+	 * The optional partitioning of the route, null if messages are processed on
+	 * the thread of the datasource
+	 * 
+	 * @return the partition configuration
+	 */
+	public PartitionConfiguration getPartitioning() {
+		return partitioning;
+	}
+
+	public void setPartitioning(PartitionConfiguration partitioning) {
+		this.partitioning = partitioning;
+	}
+
+	/**
+	 * The optional options of the multicast to the mapped datasinks, null for a
+	 * sequential multicast
+	 * 
+	 * @return the multicast configuration
+	 */
+	public MulticastConfiguration getMulticast() {
+		return multicast;
+	}
+
+	public void setMulticast(MulticastConfiguration multicast) {
+		this.multicast = multicast;
+	}
+
+	/**
+	 * The optional staging queue between the datasource and the processing of
+	 * the route, null if messages are processed on the thread of the datasource
+	 * 
+	 * @return the staging queue configuration
+	 */
+	public QueueConfiguration getStagingQueue() {
+		return stagingQueue;
+	}
+
+	public void setStagingQueue(QueueConfiguration stagingQueue) {
+		this.stagingQueue = stagingQueue;
+	}
+
+	/**
+	 * The optional queue through which the event route receives the messages of
+	 * a datasource it shares with other event routes, null if the route has its
+	 * own consumer of the datasource. One consumer of the datasource hands every
+	 * message over to the queues of all event routes sharing it.
+	 * 
+	 * @return the queue configuration of the shared datasource
+	 */
+	public QueueConfiguration getSharedDatasource() {
+		return sharedDatasource;
+	}
+
+	public void setSharedDatasource(QueueConfiguration sharedDatasource) {
+		this.sharedDatasource = sharedDatasource;
+	}
+
+	/**
+	 * The optional stages applied in front of the datasinks, keyed by the id of
+	 * the datasink
+	 * 
+	 * @return the stages of the datasinks
+	 */
+	public Map<String, DataSinkStagesConfiguration> getDatasinkStages() {
+		return datasinkStages;
+	}
+
+	public void setDatasinkStages(Map<String, DataSinkStagesConfiguration> datasinkStages) {
+		this.datasinkStages = datasinkStages;
+	}
+
+	/**
+	 * The optional batching of the messages before they are transformed, null if
+	 * each message is processed on its own
+	 * 
+	 * @return the batch configuration
+	 */
+	public BatchConfiguration getBatching() {
+		return batching;
+	}
+
+	public void setBatching(BatchConfiguration batching) {
+		this.batching = batching;
+	}
+
+	/**
+	 * The optional deadband applied to the messages of the datasource, before
+	 * they are transformed
+	 * 
+	 * @return the deadband configuration
+	 */
+	public DeadbandConfiguration getDeadband() {
+		return deadband;
+	}
+
+	public void setDeadband(DeadbandConfiguration deadband) {
+		this.deadband = deadband;
+	}
+
+	/**
+	 * The optional rate limit of the messages processed by the route
+	 * 
+	 * @return the rate limit configuration
+	 */
+	public RateLimitConfiguration getRateLimit() {
+		return rateLimit;
+	}
+
+	public void setRateLimit(RateLimitConfiguration rateLimit) {
+		this.rateLimit = rateLimit;
+	}
+
+	/**
+	 * The optional window aggregation of the messages of the datasource, null if
+	 * each message is processed
+	 * 
+	 * @return the window configuration
+	 */
+	public WindowConfiguration getWindow() {
+		return window;
+	}
+
+	public void setWindow(WindowConfiguration window) {
+		this.window = window;
+	}
+
+	/**
+	 * The optional split of the messages into their elements, null if messages
+	 * are processed as a whole
+	 * 
+	 * @return the split configuration
+	 */
+	public SplitConfiguration getSplit() {
+		return split;
+	}
+
+	public void setSplit(SplitConfiguration split) {
+		this.split = split;
+	}
+
+	/**
+	 * The optional conditions a message of the datasource has to match to be
+	 * processed, evaluated before any other stage
+	 * 
+	 * @return the filter conditions
+	 */
+	public List<ConditionConfiguration> getFilter() {
+		return filter;
+	}
+
+	public void setFilter(List<ConditionConfiguration> filter) {
+		this.filter = filter;
+	}
+
+	/**
+	 * The optional downsampling of the messages of the datasource, null if every
+	 * message is processed
+	 * 
+	 * @return the downsampling configuration
+	 */
+	public DownsamplingConfiguration getDownsampling() {
+		return downsampling;
+	}
+
+	public void setDownsampling(DownsamplingConfiguration downsampling) {
+		this.downsampling = downsampling;
+	}
+
+	/**
+	 * The maximum age in milliseconds of a message since it was received from the
+	 * datasource. Older messages are dropped before the transformers and before
+	 * each datasink. 0 if messages never expire.
+	 * 
+	 * @return the maximum age
+	 */
+	public long getMaxAge() {
+		return maxAge;
+	}
+
+	public void setMaxAge(long maxAge) {
+		this.maxAge = maxAge;
+	}
 }
@@ -25,11 +25,17 @@
 package org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.QueueConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.queue.DropOldestBlockingQueue;
+
 /**
  * @author DataBridge authors, jungjan
  */
@@ -74,7 +80,33 @@ public class RouteCreatorHelper {
 						.get(dataSinkId)
 						.getConnectionURI()));
 
-		return dataSinkIds.stream()
-				.collect(Collectors.toMap(resolvedDataSinkEndpoints::get, dataSinkId -> getDataTransformerEndpoints(routesConfiguration, Arrays.asList(datasinkMappingConfiguration.get(dataSinkId)))));
+		Map<String, String[]> dataSinkMapping = new LinkedHashMap<>();
+		dataSinkIds.forEach(dataSinkId -> dataSinkMapping.put(resolvedDataSinkEndpoints.get(dataSinkId), getDataTransformerEndpoints(routesConfiguration, Arrays.asList(datasinkMappingConfiguration.get(dataSinkId)))));
+
+		return dataSinkMapping;
+	}
+
+	/**
+	 * Creates the uri of a SEDA endpoint implementing the given queue
+	 * configuration. Queues dropping their oldest messages are bound to the
+	 * registry with the given name.
+	 */
+	public static String createQueueEndpoint(RouteBuilder routeBuilder, String name, QueueConfiguration queue) {
+		String endpoint = "seda:" + name + "?concurrentConsumers=" + queue.getConsumers();
+
+		switch (queue.getOverflowPolicy()) {
+		case QueueConfiguration.BLOCK:
+			return endpoint + "&size=" + queue.getCapacity() + "&blockWhenFull=true&offerTimeout=" + queue.getOfferTimeout();
+		case QueueConfiguration.DROP_NEWEST:
+			return endpoint + "&size=" + queue.getCapacity() + "&discardWhenFull=true";
+		case QueueConfiguration.DROP_OLDEST:
+			routeBuilder.getContext()
+					.getRegistry()
+					.bind(name, new DropOldestBlockingQueue<Exchange>(queue.getCapacity()));
+
+			return endpoint + "&queue=#" + name;
+		default:
+			throw new IllegalArgumentException("Unknown overflow policy " + queue.getOverflowPolicy() + " of queue " + name);
+		}
 	}
 }
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prefix tree of the transformer chains of mapped datasinks. Datasinks whose
+ * chains start with the same transformers share the nodes of these
+ * transformers, so the common prefix is evaluated once per message.
+ * 
+ * e.g.,
+ * 
+ * <pre>
+ * sinkA -> [normalize, toAas]
+ * sinkB -> [normalize, toMqtt]
+ * sinkC -> [normalize]
+ * 
+ * normalize -+- toAas -- sinkA
+ *            +- toMqtt -- sinkB
+ *            +- sinkC
+ * </pre>
+ */
+public class TransformerChainTree {
+	private final Map<String, TransformerChainTree> children = new LinkedHashMap<>();
+	private final List<String> dataSinks = new ArrayList<>();
+
+	/**
+	 * Builds the tree of the given datasink mapping
+	 * 
+	 * @param dataSinkMapping
+	 *            the transformer endpoints keyed by datasink endpoint
+	 * @return the root of the tree
+	 */
+	public static TransformerChainTree build(Map<String, String[]> dataSinkMapping) {
+		TransformerChainTree root = new TransformerChainTree();
+
+		dataSinkMapping.forEach(root::add);
+
+		return root;
+	}
+
+	private void add(String dataSink, String[] transformers) {
+		TransformerChainTree node = this;
+
+		for (String transformer : transformers) {
+			node = node.children.computeIfAbsent(transformer, t -> new TransformerChainTree());
+		}
+
+		node.dataSinks.add(dataSink);
+	}
+
+	/**
+	 * The subtrees keyed by the transformer endpoint following this node
+	 * 
+	 * @return the children
+	 */
+	public Map<String, TransformerChainTree> getChildren() {
+		return children;
+	}
+
+	/**
+	 * The datasinks receiving the result of the chain ending at this node
+	 * 
+	 * @return the datasink endpoints
+	 */
+	public List<String> getDataSinks() {
+		return dataSinks;
+	}
+
+	/**
+	 * The datasinks receiving the result of this node or one of its descendants
+	 * 
+	 * @return the datasink endpoints of the subtree
+	 */
+	public List<String> getAllDataSinks() {
+		List<String> allDataSinks = new ArrayList<>(dataSinks);
+		children.values()
+				.forEach(child -> allDataSinks.addAll(child.getAllDataSinks()));
+
+		return allDataSinks;
+	}
+
+	/**
+	 * The number of branches the result of this node is sent to
+	 * 
+	 * @return the number of children and datasinks
+	 */
+	public int getBranchCount() {
+		return children.size() + dataSinks.size();
+	}
+}
@@ -24,14 +24,9 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.event;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.Map;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import org.apache.camel.builder.RouteBuilder;
-import org.apache.camel.model.MulticastDefinition;
 import org.apache.camel.model.RouteDefinition;
 import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core.AbstractRouteCreator;
 import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core.RouteConfiguration;
@@ -44,35 +39,20 @@ public class EventRouteCreator extends AbstractRouteCreator {
 
 	@Override
 	protected void configureRoute(RouteConfiguration routeConfiguration, String dataSourceEndpoint, String[] dataSinkEndpoints, String[] dataTransformerEndpoints, String routeId) {
-		RouteDefinition routeDefinition = startRouteDefinition(dataSourceEndpoint, routeId);
+		configureProcessing(routeConfiguration, startRouteDefinition(dataSourceEndpoint, routeId), route -> {
+			if (!(dataTransformerEndpoints == null || dataTransformerEndpoints.length == 0)) {
+				route.to(dataTransformerEndpoints)
+						.to("log:" + routeId);
+			}
 
-		if (!(dataTransformerEndpoints == null || dataTransformerEndpoints.length == 0)) {
-			routeDefinition.to(dataTransformerEndpoints)
+			route.to(dataSinkEndpoints)
 					.to("log:" + routeId);
-		}
-
-		routeDefinition.to(dataSinkEndpoints)
-				.to("log:" + routeId);
+		});
 	}
 
 	@Override
 	protected void configureRoute(RouteConfiguration routeConfig, String dataSourceEndpoint, String[] dataSinkEndpoints, String[] dataTransformerEndpoints, Map<String, String[]> dataSinkMapping, String routeId) {
-		MulticastDefinition routeDefinition = startRouteDefinition(dataSourceEndpoint, routeId).multicast();
-		dataSinkMapping.forEach((dataSink, dataTransformers) -> routeDefinition.pipeline()
-				.to(dataTransformers)
-				.to(dataSink)
-				.to("log:" + routeId));
-
-		getUnmappedEndpoints(dataSinkEndpoints, dataSinkMapping).forEach(dataSink -> routeDefinition.to(dataSink)
-				.to("log: " + routeId));
-
-		routeDefinition.end();
-	}
-
-	private List<String> getUnmappedEndpoints(String[] dataSinkEndpoints, Map<String, String[]> dataSinkMapping) {
-		return Arrays.stream(dataSinkEndpoints)
-				.filter(Predicate.not(dataSinkMapping::containsKey))
-				.collect(Collectors.toList());
+		configureProcessing(routeConfig, startRouteDefinition(dataSourceEndpoint, routeId), route -> configureMulticast(routeConfig, route, dataSinkEndpoints, dataSinkMapping, routeId));
 	}
 
 	private RouteDefinition startRouteDefinition(String dataSourceEndpoint, String routeId) {
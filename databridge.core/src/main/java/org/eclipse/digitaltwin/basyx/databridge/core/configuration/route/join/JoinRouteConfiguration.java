@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.join;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core.RouteConfiguration;
+
+/**
+ * A connection of a route joining several datasources, whose latest values
+ * are correlated by key within a time window, e.g.,
+ * 
+ * <pre>
+ * "trigger": "join",
+ * "triggerData": {
+ *   "datasources": ["voltageSource", "currentSource"],
+ *   "key": "$.deviceId",
+ *   "window": 5000,
+ *   "maxKeys": 10000
+ * }
+ * </pre>
+ */
+public class JoinRouteConfiguration extends RouteConfiguration {
+	public static final String ROUTE_TRIGGER = "join";
+	private static final String DATASOURCES = "datasources";
+	private static final String KEY = "key";
+	private static final String WINDOW = "window";
+	private static final String MAX_KEYS = "maxKeys";
+	private static final int DEFAULT_MAX_KEYS = 10000;
+
+	private List<String> datasources = new ArrayList<>();
+	private String key;
+	private long joinWindow;
+	private int maxKeys = DEFAULT_MAX_KEYS;
+
+	public JoinRouteConfiguration(List<String> datasources, List<String> transformers, List<String> datasinks) {
+		super(ROUTE_TRIGGER, datasources.get(0), transformers, datasinks);
+		this.datasources = datasources;
+	}
+
+	public JoinRouteConfiguration(List<String> datasources, List<String> transformers, List<String> datasinks, Map<String, String[]> datasinkMapping) {
+		super(ROUTE_TRIGGER, datasources.get(0), transformers, datasinks, datasinkMapping);
+		this.datasources = datasources;
+	}
+
+	public JoinRouteConfiguration(RouteConfiguration configuration) {
+		super(configuration);
+
+		Object configuredDatasources = getTriggerData().get(DATASOURCES);
+
+		if (!(configuredDatasources instanceof List) || ((List<?>) configuredDatasources).size() < 2)
+			throw new IllegalArgumentException("The join route " + getRouteId() + " requires at least two datasources");
+
+		((List<?>) configuredDatasources).forEach(datasource -> datasources.add(String.valueOf(datasource)));
+
+		Object configuredKey = getTriggerData().get(KEY);
+
+		if (configuredKey != null && !(configuredKey instanceof String))
+			throw new IllegalArgumentException("The key " + configuredKey + " of join route " + getRouteId() + " is no string");
+
+		key = (String) configuredKey;
+
+		Object configuredWindow = getTriggerData().get(WINDOW);
+
+		if (configuredWindow != null)
+			joinWindow = getNonNegativeNumber(WINDOW, configuredWindow).longValue();
+
+		Object configuredMaxKeys = getTriggerData().get(MAX_KEYS);
+
+		if (configuredMaxKeys != null)
+			maxKeys = getNonNegativeNumber(MAX_KEYS, configuredMaxKeys).intValue();
+
+		if (maxKeys < 1)
+			throw new IllegalArgumentException("The maxKeys of join route " + getRouteId() + " must be at least 1");
+
+		if (getDatasource() == null)
+			setDatasource(datasources.get(0));
+	}
+
+	public List<String> getDatasources() {
+		return datasources;
+	}
+
+	public void setDatasources(List<String> datasources) {
+		this.datasources = datasources;
+	}
+
+	/**
+	 * The optional key definition, see
+	 * {@link org.eclipse.digitaltwin.basyx.databridge.core.expression.KeyExpression}
+	 * 
+	 * @return the key definition
+	 */
+	public String getKey() {
+		return key;
+	}
+
+	public void setKey(String key) {
+		this.key = key;
+	}
+
+	/**
+	 * The maximum age in milliseconds of a joined value, 0 if values never expire
+	 * 
+	 * @return the window
+	 */
+	public long getJoinWindow() {
+		return joinWindow;
+	}
+
+	public void setJoinWindow(long joinWindow) {
+		this.joinWindow = joinWindow;
+	}
+
+	/**
+	 * The maximum number of keys whose latest values are kept, the least
+	 * recently updated key is dropped first
+	 * 
+	 * @return the maximum number of keys
+	 */
+	public int getMaxKeys() {
+		return maxKeys;
+	}
+
+	public void setMaxKeys(int maxKeys) {
+		this.maxKeys = maxKeys;
+	}
+
+	private Number getNonNegativeNumber(String name, Object value) {
+		if (!(value instanceof Number) || ((Number) value).doubleValue() < 0)
+			throw new IllegalArgumentException("The " + name + " " + value + " of join route " + getRouteId() + " is no non-negative number");
+
+		return (Number) value;
+	}
+
+	@Override
+	public String getRouteTrigger() {
+		return ROUTE_TRIGGER;
+	}
+}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.join;
+
+import java.util.Map;
+
+import org.apache.camel.Expression;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.model.RouteDefinition;
+import org.eclipse.digitaltwin.basyx.databridge.core.aggregate.JoinCorrelator;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core.AbstractRouteCreator;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core.RouteConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core.RouteCreatorHelper;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core.RoutesConfiguration;
+
+/**
+ * Creates a route for each joined datasource, which updates the latest values
+ * and hands the joined values over to the processing route. Joins with a
+ * window additionally get a timer route removing expired values.
+ */
+public class JoinRouteCreator extends AbstractRouteCreator {
+	private static final String JOIN_INFIX = "-join-";
+	private static final String SWEEP_SUFFIX = "-joinSweep";
+	private static final long MIN_SWEEP_PERIOD = 1000;
+
+	public JoinRouteCreator(RouteBuilder routeBuilder, RoutesConfiguration routesConfiguration) {
+		super(routeBuilder, routesConfiguration);
+	}
+
+	@Override
+	protected void configureRoute(RouteConfiguration routeConfig, String dataSourceEndpoint, String[] dataSinkEndpoints, String[] dataTransformerEndpoints, String routeId) {
+		configureProcessing(routeConfig, startRouteDefinition((JoinRouteConfiguration) routeConfig, routeId), route -> {
+			if (!(dataTransformerEndpoints == null || dataTransformerEndpoints.length == 0)) {
+				route.to(dataTransformerEndpoints)
+						.to("log:" + routeId);
+			}
+
+			route.to(dataSinkEndpoints)
+					.to("log:" + routeId);
+		});
+	}
+
+	@Override
+	protected void configureRoute(RouteConfiguration routeConfig, String dataSourceEndpoint, String[] dataSinkEndpoints, String[] dataTransformerEndpoints, Map<String, String[]> dataSinkMapping, String routeId) {
+		configureProcessing(routeConfig, startRouteDefinition((JoinRouteConfiguration) routeConfig, routeId), route -> configureMulticast(routeConfig, route, dataSinkEndpoints, dataSinkMapping, routeId));
+	}
+
+	private RouteDefinition startRouteDefinition(JoinRouteConfiguration joinRouteConfig, String routeId) {
+		String joinEndpoint = "direct:" + routeId;
+		JoinCorrelator correlator = new JoinCorrelator(joinRouteConfig.getDatasources(), joinRouteConfig.getJoinWindow(), joinRouteConfig.getMaxKeys());
+		Expression key = createCorrelationExpression(joinRouteConfig.getKey());
+
+		for (String dataSourceId : joinRouteConfig.getDatasources()) {
+			getRouteBuilder().from(RouteCreatorHelper.getDataSourceEndpoint(getRoutesConfiguration(), dataSourceId))
+					.routeId(routeId + JOIN_INFIX + dataSourceId)
+					.process(exchange -> exchange.getMessage()
+							.setBody(correlator.update(key.evaluate(exchange, Object.class), dataSourceId, exchange.getMessage()
+									.getBody(String.class), System.currentTimeMillis())))
+					.filter(getRouteBuilder().body()
+							.isNotNull())
+					.to(joinEndpoint);
+		}
+
+		if (joinRouteConfig.getJoinWindow() > 0) {
+			getRouteBuilder().from("timer:" + routeId + SWEEP_SUFFIX + "?period=" + Math.max(MIN_SWEEP_PERIOD, joinRouteConfig.getJoinWindow()))
+					.routeId(routeId + SWEEP_SUFFIX)
+					.process(exchange -> correlator.sweep(System.currentTimeMillis()));
+		}
+
+		return getRouteBuilder().from(joinEndpoint)
+				.routeId(routeId)
+				.to("log:" + routeId);
+	}
+}
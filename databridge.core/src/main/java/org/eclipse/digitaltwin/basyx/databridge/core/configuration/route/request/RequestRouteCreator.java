@@ -24,14 +24,9 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.request;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.Map;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import org.apache.camel.builder.RouteBuilder;
-import org.apache.camel.model.MulticastDefinition;
 import org.apache.camel.model.RouteDefinition;
 import org.eclipse.digitaltwin.basyx.databridge.core.configuration.delegator.handler.ResponseOkCodeHandler;
 import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core.AbstractRouteCreator;
@@ -53,35 +48,20 @@ public class RequestRouteCreator extends AbstractRouteCreator {
 
 	@Override
 	protected void configureRoute(RouteConfiguration routeConfig, String dataSourceEndpoint, String[] dataSinkEndpoints, String[] dataTransformerEndpoints, String routeId) {
-		RouteDefinition routeDefinition = startRouteDefinition((RequestRouteConfiguration) routeConfig, dataSourceEndpoint, routeId);
-
-		if (!(dataTransformerEndpoints == null || dataTransformerEndpoints.length == 0)) {
-			routeDefinition.to(dataTransformerEndpoints)
-					.log("Transformer : " + routeId);
-		}
-		routeDefinition.to(dataSinkEndpoints)
-				.bean(new ResponseOkCodeHandler());
+		configureProcessing(routeConfig, startRouteDefinition((RequestRouteConfiguration) routeConfig, dataSourceEndpoint, routeId), route -> {
+			if (!(dataTransformerEndpoints == null || dataTransformerEndpoints.length == 0)) {
+				route.to(dataTransformerEndpoints)
+						.log("Transformer : " + routeId);
+			}
+			route.to(dataSinkEndpoints)
+					.bean(new ResponseOkCodeHandler());
+		});
 	}
 
 	@Override
 	protected void configureRoute(RouteConfiguration routeConfig, String dataSourceEndpoint, String[] dataSinkEndpoints, String[] dataTransformerEndpoints, Map<String, String[]> dataSinkMapping, String routeId) {
-		MulticastDefinition routeDefinition = startRouteDefinition((RequestRouteConfiguration) routeConfig, dataSourceEndpoint, routeId).multicast();
-		dataSinkMapping.forEach((dataSink, dataTransformers) -> routeDefinition.pipeline()
-				.to(dataTransformers)
-				.to(dataSink)
-				.to("log:" + routeId));
-
-		getUnmappedEndpoints(dataSinkEndpoints, dataSinkMapping).forEach(dataSink -> routeDefinition.to(dataSink)
-				.to("log: " + routeId));
-
-		routeDefinition.end()
-				.bean(new ResponseOkCodeHandler());
-	}
-
-	private List<String> getUnmappedEndpoints(String[] dataSinkEndpoints, Map<String, String[]> dataSinkMapping) {
-		return Arrays.stream(dataSinkEndpoints)
-				.filter(Predicate.not(dataSinkMapping::containsKey))
-				.collect(Collectors.toList());
+		configureProcessing(routeConfig, startRouteDefinition((RequestRouteConfiguration) routeConfig, dataSourceEndpoint, routeId), route -> configureMulticast(routeConfig, route, dataSinkEndpoints, dataSinkMapping, routeId)
+				.bean(new ResponseOkCodeHandler()));
 	}
 
 	private RouteDefinition startRouteDefinition(RequestRouteConfiguration requestRouteConfig, String dataSourceEndpoint, String routeId) {
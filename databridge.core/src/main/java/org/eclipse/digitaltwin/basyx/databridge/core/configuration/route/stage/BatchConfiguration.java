@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage;
+
+/**
+ * Configuration of the batching of a route. Messages are collected until the
+ * batch is full or the maximum latency has elapsed and processed as one JSON
+ * array. With a key, messages with different keys are batched separately.
+ * 
+ * e.g.,
+ * 
+ * <pre>
+ * "batching": {
+ *   "size": 100,
+ *   "maxLatency": 1000,
+ *   "key": "$.deviceId"
+ * }
+ * </pre>
+ */
+public class BatchConfiguration {
+	private static final int DEFAULT_SIZE = 100;
+	private static final long DEFAULT_MAX_LATENCY = 1000;
+
+	private int size = DEFAULT_SIZE;
+	private long maxLatency = DEFAULT_MAX_LATENCY;
+	private String key;
+
+	/**
+	 * The maximum number of messages of a batch
+	 * 
+	 * @return the batch size
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	public void setSize(int size) {
+		this.size = size;
+	}
+
+	/**
+	 * The time in milliseconds after which incomplete batches are processed
+	 * 
+	 * @return the maximum latency
+	 */
+	public long getMaxLatency() {
+		return maxLatency;
+	}
+
+	public void setMaxLatency(long maxLatency) {
+		this.maxLatency = maxLatency;
+	}
+
+	/**
+	 * The optional key definition grouping the batches, see
+	 * {@link org.eclipse.digitaltwin.basyx.databridge.core.expression.KeyExpression}
+	 * 
+	 * @return the key definition
+	 */
+	public String getKey() {
+		return key;
+	}
+
+	public void setKey(String key) {
+		this.key = key;
+	}
+}
@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage;
+
+/**
+ * Configuration of the change detection in front of a datasink. Messages equal
+ * to the last value written to the datasink are skipped, unless the refresh
+ * interval elapsed since the last write.
+ * 
+ * e.g.,
+ * 
+ * <pre>
+ * "changeDetection": {
+ *   "key": "header:property",
+ *   "refreshInterval": 60000
+ * }
+ * </pre>
+ */
+public class ChangeDetectionConfiguration {
+	private String key;
+	private long refreshInterval;
+
+	/**
+	 * The optional key definition, see
+	 * {@link org.eclipse.digitaltwin.basyx.databridge.core.expression.KeyExpression}.
+	 * Without key, one value is cached for the datasink.
+	 * 
+	 * @return the key definition
+	 */
+	public String getKey() {
+		return key;
+	}
+
+	public void setKey(String key) {
+		this.key = key;
+	}
+
+	/**
+	 * The time in milliseconds after which an unchanged value is written again,
+	 * 0 if unchanged values are never written again
+	 * 
+	 * @return the refresh interval
+	 */
+	public long getRefreshInterval() {
+		return refreshInterval;
+	}
+
+	public void setRefreshInterval(long refreshInterval) {
+		this.refreshInterval = refreshInterval;
+	}
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage;
+
+/**
+ * Configuration of a condition on a header or JSON field of a message, e.g.,
+ * 
+ * <pre>
+ * { "field": "$.status", "operator": "equals", "value": "active" }
+ * { "field": "header:kafka.TOPIC", "operator": "matches", "value": "plant1/.*" }
+ * { "field": "$.temperature", "operator": "greaterThan", "value": "80" }
+ * </pre>
+ */
+public class ConditionConfiguration {
+	public static final String EXISTS = "exists";
+	public static final String NOT_EXISTS = "notExists";
+	public static final String EQUALS = "equals";
+	public static final String NOT_EQUALS = "notEquals";
+	public static final String CONTAINS = "contains";
+	public static final String MATCHES = "matches";
+	public static final String GREATER_THAN = "greaterThan";
+	public static final String GREATER_OR_EQUAL = "greaterOrEqual";
+	public static final String LESS_THAN = "lessThan";
+	public static final String LESS_OR_EQUAL = "lessOrEqual";
+
+	private String field;
+	private String operator = EQUALS;
+	private String value;
+
+	/**
+	 * The definition of the field, i.e., header:&lt;name&gt;, body or a JSON path
+	 * into the body
+	 * 
+	 * @return the field definition
+	 */
+	public String getField() {
+		return field;
+	}
+
+	public void setField(String field) {
+		this.field = field;
+	}
+
+	/**
+	 * The comparison of the field with the value, {@link #EQUALS} by default
+	 * 
+	 * @return the operator
+	 */
+	public String getOperator() {
+		return operator;
+	}
+
+	public void setOperator(String operator) {
+		this.operator = operator;
+	}
+
+	/**
+	 * The value compared with the field, a number for the ordering operators and a
+	 * regular expression for {@link #MATCHES}
+	 * 
+	 * @return the value
+	 */
+	public String getValue() {
+		return value;
+	}
+
+	public void setValue(String value) {
+		this.value = value;
+	}
+}
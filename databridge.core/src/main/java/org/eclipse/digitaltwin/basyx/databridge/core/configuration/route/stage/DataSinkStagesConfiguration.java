@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage;
+
+import java.util.List;
+
+/**
+ * Configuration of the stages a route applies in front of one of its datasinks
+ * 
+ * e.g.,
+ * 
+ * <pre>
+ * "datasinkStages": {
+ *   "opcuaSink": {
+ *     "bulkhead": { "capacity": 100 },
+ *     "timeout": 5000
+ *   },
+ *   "aasSink": {
+ *     "when": [{ "field": "$.type", "value": "temperature" }],
+ *     "conflation": { "key": "header:property" },
+ *     "changeDetection": { "refreshInterval": 60000 },
+ *     "deadband": { "absolute": 0.5, "heartbeat": 60000 },
+ *     "rateLimit": { "rate": 50 }
+ *   }
+ * }
+ * </pre>
+ */
+public class DataSinkStagesConfiguration {
+	private List<ConditionConfiguration> when;
+	private BulkheadConfiguration bulkhead;
+	private ConflationConfiguration conflation;
+	private ChangeDetectionConfiguration changeDetection;
+	private DeadbandConfiguration deadband;
+	private RateLimitConfiguration rateLimit;
+	private long timeout;
+
+	/**
+	 * The optional conditions a message of the datasource has to match to be
+	 * written to the datasink. They are evaluated before the transformers, so
+	 * transformer chains of mapped datasinks are skipped if none of their
+	 * datasinks accepts the message.
+	 * 
+	 * @return the conditions
+	 */
+	public List<ConditionConfiguration> getWhen() {
+		return when;
+	}
+
+	public void setWhen(List<ConditionConfiguration> when) {
+		this.when = when;
+	}
+
+	/**
+	 * The optional bulkhead of the datasink, null if the datasink is written on
+	 * the thread of the route
+	 * 
+	 * @return the bulkhead configuration
+	 */
+	public BulkheadConfiguration getBulkhead() {
+		return bulkhead;
+	}
+
+	public void setBulkhead(BulkheadConfiguration bulkhead) {
+		this.bulkhead = bulkhead;
+	}
+
+	/**
+	 * The optional conflation of the datasink, which replaces the bulkhead
+	 * 
+	 * @return the conflation configuration
+	 */
+	public ConflationConfiguration getConflation() {
+		return conflation;
+	}
+
+	public void setConflation(ConflationConfiguration conflation) {
+		this.conflation = conflation;
+	}
+
+	/**
+	 * The optional change detection of the datasink, null if every message is
+	 * written
+	 * 
+	 * @return the change detection configuration
+	 */
+	public ChangeDetectionConfiguration getChangeDetection() {
+		return changeDetection;
+	}
+
+	public void setChangeDetection(ChangeDetectionConfiguration changeDetection) {
+		this.changeDetection = changeDetection;
+	}
+
+	/**
+	 * The optional deadband of the datasink, applied to the transformed messages
+	 * 
+	 * @return the deadband configuration
+	 */
+	public DeadbandConfiguration getDeadband() {
+		return deadband;
+	}
+
+	public void setDeadband(DeadbandConfiguration deadband) {
+		this.deadband = deadband;
+	}
+
+	/**
+	 * The optional rate limit of the datasink. The limit is shared by all routes
+	 * limiting the same datasink endpoint, which therefore have to configure the
+	 * same rate and burst. It applies to the messages passing all other stages.
+	 * 
+	 * @return the rate limit configuration
+	 */
+	public RateLimitConfiguration getRateLimit() {
+		return rateLimit;
+	}
+
+	public void setRateLimit(RateLimitConfiguration rateLimit) {
+		this.rateLimit = rateLimit;
+	}
+
+	/**
+	 * The time in milliseconds a write to the datasink may take before the
+	 * message fails, 0 waits indefinitely. With a bulkhead, a write that never
+	 * returns no longer blocks the worker of the bulkhead.
+	 * 
+	 * @return the write timeout
+	 */
+	public long getTimeout() {
+		return timeout;
+	}
+
+	public void setTimeout(long timeout) {
+		this.timeout = timeout;
+	}
+}
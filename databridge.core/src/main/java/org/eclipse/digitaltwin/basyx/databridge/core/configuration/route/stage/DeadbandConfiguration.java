@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage;
+
+/**
+ * Configuration of a numeric deadband. Messages whose value changed less than
+ * the deadband since the last passed value are skipped, unless the heartbeat
+ * elapsed. If both an absolute and a percentage deadband are configured, a
+ * change has to exceed both.
+ * 
+ * e.g.,
+ * 
+ * <pre>
+ * "deadband": {
+ *   "value": "$.temperature",
+ *   "key": "$.sensorId",
+ *   "absolute": 0.5,
+ *   "percent": 1,
+ *   "heartbeat": 60000,
+ *   "maxKeys": 10000
+ * }
+ * </pre>
+ */
+public class DeadbandConfiguration {
+	private static final String DEFAULT_VALUE = "body";
+	private static final int DEFAULT_MAX_KEYS = 10000;
+
+	private String value = DEFAULT_VALUE;
+	private String key;
+	private double absolute;
+	private double percent;
+	private long heartbeat;
+	private int maxKeys = DEFAULT_MAX_KEYS;
+
+	/**
+	 * The definition of the numeric value, see
+	 * {@link org.eclipse.digitaltwin.basyx.databridge.core.expression.KeyExpression},
+	 * the whole body by default
+	 * 
+	 * @return the value definition
+	 */
+	public String getValue() {
+		return value;
+	}
+
+	public void setValue(String value) {
+		this.value = value;
+	}
+
+	/**
+	 * The optional key definition, see
+	 * {@link org.eclipse.digitaltwin.basyx.databridge.core.expression.KeyExpression}.
+	 * Without key, all messages share one reference value.
+	 * 
+	 * @return the key definition
+	 */
+	public String getKey() {
+		return key;
+	}
+
+	public void setKey(String key) {
+		this.key = key;
+	}
+
+	/**
+	 * The absolute deadband, 0 if not used
+	 * 
+	 * @return the absolute deadband
+	 */
+	public double getAbsolute() {
+		return absolute;
+	}
+
+	public void setAbsolute(double absolute) {
+		this.absolute = absolute;
+	}
+
+	/**
+	 * The deadband in percent of the last passed value, 0 if not used
+	 * 
+	 * @return the percentage deadband
+	 */
+	public double getPercent() {
+		return percent;
+	}
+
+	public void setPercent(double percent) {
+		this.percent = percent;
+	}
+
+	/**
+	 * The time in milliseconds after which a value passes even within the
+	 * deadband, 0 if there is no heartbeat
+	 * 
+	 * @return the heartbeat
+	 */
+	public long getHeartbeat() {
+		return heartbeat;
+	}
+
+	public void setHeartbeat(long heartbeat) {
+		this.heartbeat = heartbeat;
+	}
+
+	/**
+	 * The maximum number of keys whose reference values are kept. The next
+	 * value of the key dropped as least recently used passes.
+	 * 
+	 * @return the maximum number of keys
+	 */
+	public int getMaxKeys() {
+		return maxKeys;
+	}
+
+	public void setMaxKeys(int maxKeys) {
+		this.maxKeys = maxKeys;
+	}
+}
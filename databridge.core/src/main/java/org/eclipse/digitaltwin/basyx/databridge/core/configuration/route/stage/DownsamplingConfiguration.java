@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage;
+
+/**
+ * Configuration of the downsampling of a route. One of
+ * 
+ * <pre>
+ * lttb     -> the most significant point of each bucket, by Largest-Triangle-Three-Buckets
+ * minMax   -> the points with the minimum and maximum value of each bucket
+ * everyNth -> the first of every n points
+ * </pre>
+ * 
+ * e.g.,
+ * 
+ * <pre>
+ * "downsampling": {
+ *   "algorithm": "lttb",
+ *   "factor": 20,
+ *   "value": "$.value",
+ *   "key": "$.nodeId",
+ *   "timestamp": "$.sourceTimestamp",
+ *   "idleTimeout": 10000,
+ *   "maxKeys": 10000
+ * }
+ * </pre>
+ */
+public class DownsamplingConfiguration {
+	public static final String LTTB = "lttb";
+	public static final String MIN_MAX = "minMax";
+	public static final String EVERY_NTH = "everyNth";
+
+	private static final int DEFAULT_FACTOR = 10;
+	private static final String DEFAULT_VALUE = "body";
+	private static final long DEFAULT_IDLE_TIMEOUT = 10000;
+	private static final int DEFAULT_MAX_KEYS = 10000;
+
+	private String algorithm = LTTB;
+	private int factor = DEFAULT_FACTOR;
+	private String value = DEFAULT_VALUE;
+	private String key;
+	private String timestamp;
+	private long idleTimeout = DEFAULT_IDLE_TIMEOUT;
+	private int maxKeys = DEFAULT_MAX_KEYS;
+
+	/**
+	 * The downsampling algorithm, one of {@link #LTTB}, {@link #MIN_MAX} and
+	 * {@link #EVERY_NTH}
+	 * 
+	 * @return the algorithm
+	 */
+	public String getAlgorithm() {
+		return algorithm;
+	}
+
+	public void setAlgorithm(String algorithm) {
+		this.algorithm = algorithm;
+	}
+
+	/**
+	 * The number of points per bucket, i.e., n for {@link #EVERY_NTH}
+	 * 
+	 * @return the downsampling factor
+	 */
+	public int getFactor() {
+		return factor;
+	}
+
+	public void setFactor(int factor) {
+		this.factor = factor;
+	}
+
+	/**
+	 * The definition of the numeric value, see
+	 * {@link org.eclipse.digitaltwin.basyx.databridge.core.expression.KeyExpression},
+	 * the whole body by default
+	 * 
+	 * @return the value definition
+	 */
+	public String getValue() {
+		return value;
+	}
+
+	public void setValue(String value) {
+		this.value = value;
+	}
+
+	/**
+	 * The optional key definition separating the series, see
+	 * {@link org.eclipse.digitaltwin.basyx.databridge.core.expression.KeyExpression}
+	 * 
+	 * @return the key definition
+	 */
+	public String getKey() {
+		return key;
+	}
+
+	public void setKey(String key) {
+		this.key = key;
+	}
+
+	/**
+	 * The optional definition of the time of a point as epoch milliseconds or
+	 * ISO-8601 instant, null for processing time
+	 * 
+	 * @return the timestamp definition
+	 */
+	public String getTimestamp() {
+		return timestamp;
+	}
+
+	public void setTimestamp(String timestamp) {
+		this.timestamp = timestamp;
+	}
+
+	/**
+	 * The time in milliseconds without new points after which the pending
+	 * points of a series are selected and the series is dropped, 0 to keep
+	 * pending points until further points arrive
+	 * 
+	 * @return the idle timeout
+	 */
+	public long getIdleTimeout() {
+		return idleTimeout;
+	}
+
+	public void setIdleTimeout(long idleTimeout) {
+		this.idleTimeout = idleTimeout;
+	}
+
+	/**
+	 * The maximum number of keys whose series are kept. The pending points of
+	 * the least recently updated series are selected before it is dropped.
+	 * 
+	 * @return the maximum number of keys
+	 */
+	public int getMaxKeys() {
+		return maxKeys;
+	}
+
+	public void setMaxKeys(int maxKeys) {
+		this.maxKeys = maxKeys;
+	}
+}
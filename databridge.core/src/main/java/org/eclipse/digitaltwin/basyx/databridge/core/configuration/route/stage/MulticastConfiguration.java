@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage;
+
+/**
+ * Configuration of the multicast to the mapped datasinks of a route
+ * 
+ * e.g.,
+ * 
+ * <pre>
+ * "multicast": {
+ *   "parallelProcessing": true,
+ *   "threadPoolSize": 8,
+ *   "timeout": 2000,
+ *   "stopOnException": false
+ * }
+ * </pre>
+ */
+public class MulticastConfiguration {
+	private static final int DEFAULT_THREAD_POOL_SIZE = 10;
+	private static final int DEFAULT_MAX_QUEUE_SIZE = 1000;
+
+	private boolean parallelProcessing;
+	private int threadPoolSize = DEFAULT_THREAD_POOL_SIZE;
+	private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+	private long timeout;
+	private boolean stopOnException;
+
+	/**
+	 * Whether the pipelines of the mapped datasinks run in parallel
+	 * 
+	 * @return true if the multicast runs in parallel
+	 */
+	public boolean isParallelProcessing() {
+		return parallelProcessing;
+	}
+
+	public void setParallelProcessing(boolean parallelProcessing) {
+		this.parallelProcessing = parallelProcessing;
+	}
+
+	/**
+	 * The number of threads of the route's multicast thread pool
+	 * 
+	 * @return the thread pool size
+	 */
+	public int getThreadPoolSize() {
+		return threadPoolSize;
+	}
+
+	public void setThreadPoolSize(int threadPoolSize) {
+		this.threadPoolSize = threadPoolSize;
+	}
+
+	/**
+	 * The number of pipelines waiting for a thread, further pipelines run on the
+	 * calling thread
+	 * 
+	 * @return the maximum queue size
+	 */
+	public int getMaxQueueSize() {
+		return maxQueueSize;
+	}
+
+	public void setMaxQueueSize(int maxQueueSize) {
+		this.maxQueueSize = maxQueueSize;
+	}
+
+	/**
+	 * The time in milliseconds to wait for all pipelines of a parallel multicast,
+	 * 0 waits indefinitely
+	 * 
+	 * @return the timeout
+	 */
+	public long getTimeout() {
+		return timeout;
+	}
+
+	public void setTimeout(long timeout) {
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Whether the remaining pipelines are skipped once a pipeline failed
+	 * 
+	 * @return true if the multicast stops on exceptions
+	 */
+	public boolean isStopOnException() {
+		return stopOnException;
+	}
+
+	public void setStopOnException(boolean stopOnException) {
+		this.stopOnException = stopOnException;
+	}
+}
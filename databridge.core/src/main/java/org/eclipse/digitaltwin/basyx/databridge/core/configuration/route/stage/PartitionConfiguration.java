@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage;
+
+/**
+ * Configuration of the partitioned processing of a route. Messages are
+ * distributed to a fixed number of lanes by their key, each lane processes its
+ * messages in order on its own thread.
+ * 
+ * e.g.,
+ * 
+ * <pre>
+ * "partitioning": {
+ *   "key": "$.deviceId",
+ *   "lanes": 4
+ * }
+ * </pre>
+ */
+public class PartitionConfiguration {
+	private static final int DEFAULT_LANES = 4;
+	private static final int DEFAULT_QUEUE_SIZE = 1000;
+
+	private String key;
+	private int lanes = DEFAULT_LANES;
+	private int queueSize = DEFAULT_QUEUE_SIZE;
+
+	public PartitionConfiguration() {
+	}
+
+	public PartitionConfiguration(String key, int lanes) {
+		this.key = key;
+		this.lanes = lanes;
+	}
+
+	/**
+	 * The key definition, see
+	 * {@link org.eclipse.digitaltwin.basyx.databridge.core.expression.KeyExpression}
+	 * 
+	 * @return the key definition
+	 */
+	public String getKey() {
+		return key;
+	}
+
+	public void setKey(String key) {
+		this.key = key;
+	}
+
+	public int getLanes() {
+		return lanes;
+	}
+
+	public void setLanes(int lanes) {
+		this.lanes = lanes;
+	}
+
+	/**
+	 * The number of messages each lane can hold before the route blocks
+	 * 
+	 * @return the queue size of a lane
+	 */
+	public int getQueueSize() {
+		return queueSize;
+	}
+
+	public void setQueueSize(int queueSize) {
+		this.queueSize = queueSize;
+	}
+}
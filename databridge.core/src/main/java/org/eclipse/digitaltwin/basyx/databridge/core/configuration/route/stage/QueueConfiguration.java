@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage;
+
+/**
+ * Configuration of a bounded queue decoupling two parts of a route, e.g., the
+ * staging queue of a route. The datasource hands its messages over to the
+ * staging queue and the transformers and datasinks run on the consumers of the
+ * queue, so a stalled sink does not block the datasource.
+ * 
+ * e.g.,
+ * 
+ * <pre>
+ * "stagingQueue": {
+ *   "capacity": 10000,
+ *   "consumers": 2,
+ *   "overflowPolicy": "dropOldest"
+ * }
+ * </pre>
+ */
+public class QueueConfiguration {
+	public static final String BLOCK = "block";
+	public static final String DROP_OLDEST = "dropOldest";
+	public static final String DROP_NEWEST = "dropNewest";
+
+	private static final int DEFAULT_CAPACITY = 1000;
+
+	private int capacity = DEFAULT_CAPACITY;
+	private int consumers = 1;
+	private String overflowPolicy = BLOCK;
+	private long offerTimeout;
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	public void setCapacity(int capacity) {
+		this.capacity = capacity;
+	}
+
+	/**
+	 * The number of threads consuming the queue. Messages are processed in order
+	 * with a single consumer only.
+	 * 
+	 * @return the number of consumers
+	 */
+	public int getConsumers() {
+		return consumers;
+	}
+
+	public void setConsumers(int consumers) {
+		this.consumers = consumers;
+	}
+
+	/**
+	 * What happens to new messages if the queue is full, one of
+	 * {@value #BLOCK}, {@value #DROP_OLDEST} or {@value #DROP_NEWEST}
+	 * 
+	 * @return the overflow policy
+	 */
+	public String getOverflowPolicy() {
+		return overflowPolicy;
+	}
+
+	public void setOverflowPolicy(String overflowPolicy) {
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	/**
+	 * The time in milliseconds a message waits for room in a full queue with the
+	 * overflow policy {@value #BLOCK}, 0 waits indefinitely. The message fails if
+	 * the timeout elapses.
+	 * 
+	 * @return the offer timeout
+	 */
+	public long getOfferTimeout() {
+		return offerTimeout;
+	}
+
+	public void setOfferTimeout(long offerTimeout) {
+		this.offerTimeout = offerTimeout;
+	}
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage;
+
+/**
+ * Configuration of a token bucket rate limit. Excess messages are either
+ * delayed until the rate allows them or dropped.
+ * 
+ * e.g.,
+ * 
+ * <pre>
+ * "rateLimit": {
+ *   "rate": 50,
+ *   "burst": 100,
+ *   "excess": "delay"
+ * }
+ * </pre>
+ */
+public class RateLimitConfiguration {
+	public static final String DELAY = "delay";
+	public static final String DROP = "drop";
+
+	private double rate;
+	private double burst;
+	private String excess = DELAY;
+
+	/**
+	 * The permitted number of messages per second
+	 * 
+	 * @return the rate
+	 */
+	public double getRate() {
+		return rate;
+	}
+
+	public void setRate(double rate) {
+		this.rate = rate;
+	}
+
+	/**
+	 * The number of messages permitted at once after a pause, the rate rounded up
+	 * to at least one message by default
+	 * 
+	 * @return the burst size
+	 */
+	public double getBurst() {
+		return burst > 0 ? burst : Math.max(1, Math.ceil(rate));
+	}
+
+	public void setBurst(double burst) {
+		this.burst = burst;
+	}
+
+	/**
+	 * What happens to messages exceeding the rate, one of {@link #DELAY} and
+	 * {@link #DROP}
+	 * 
+	 * @return the excess policy
+	 */
+	public String getExcess() {
+		return excess;
+	}
+
+	public void setExcess(String excess) {
+		this.excess = excess;
+	}
+}
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage;
+
+/**
+ * Configuration of the split of a route. JSON arrays and lists, e.g., SQL
+ * select results, are split into one message per element, which is processed
+ * on its own. With aggregation, the transformers of the route are applied per
+ * element and the datasinks receive the transformed elements as one JSON array.
+ * 
+ * e.g.,
+ * 
+ * <pre>
+ * "split": {
+ *   "parallelProcessing": true,
+ *   "threadPoolSize": 8,
+ *   "aggregate": true,
+ *   "ordered": true
+ * }
+ * </pre>
+ */
+public class SplitConfiguration {
+	private static final int DEFAULT_THREAD_POOL_SIZE = 10;
+	private static final int DEFAULT_MAX_QUEUE_SIZE = 1000;
+
+	private boolean parallelProcessing;
+	private int threadPoolSize = DEFAULT_THREAD_POOL_SIZE;
+	private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+	private boolean aggregate;
+	private boolean ordered = true;
+
+	/**
+	 * Whether the elements are processed in parallel
+	 * 
+	 * @return true if the elements are processed in parallel
+	 */
+	public boolean isParallelProcessing() {
+		return parallelProcessing;
+	}
+
+	public void setParallelProcessing(boolean parallelProcessing) {
+		this.parallelProcessing = parallelProcessing;
+	}
+
+	/**
+	 * The number of threads processing the elements in parallel
+	 * 
+	 * @return the thread pool size
+	 */
+	public int getThreadPoolSize() {
+		return threadPoolSize;
+	}
+
+	public void setThreadPoolSize(int threadPoolSize) {
+		this.threadPoolSize = threadPoolSize;
+	}
+
+	/**
+	 * The number of elements waiting for a thread, further elements are
+	 * processed by the splitting thread
+	 * 
+	 * @return the maximum queue size
+	 */
+	public int getMaxQueueSize() {
+		return maxQueueSize;
+	}
+
+	public void setMaxQueueSize(int maxQueueSize) {
+		this.maxQueueSize = maxQueueSize;
+	}
+
+	/**
+	 * Whether the transformed elements are aggregated to one JSON array for the
+	 * datasinks
+	 * 
+	 * @return true if the elements are aggregated
+	 */
+	public boolean isAggregate() {
+		return aggregate;
+	}
+
+	public void setAggregate(boolean aggregate) {
+		this.aggregate = aggregate;
+	}
+
+	/**
+	 * Whether the aggregated array keeps the order of the elements. Unordered
+	 * splits read the elements on demand and aggregate them as they complete.
+	 * 
+	 * @return true if the order is kept
+	 */
+	public boolean isOrdered() {
+		return ordered;
+	}
+
+	public void setOrdered(boolean ordered) {
+		this.ordered = ordered;
+	}
+}
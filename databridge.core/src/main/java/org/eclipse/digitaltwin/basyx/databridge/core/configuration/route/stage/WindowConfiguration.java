@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage;
+
+/**
+ * Configuration of the window aggregation of a route. Instead of each message,
+ * the route processes one message per closed window and key with the count,
+ * min, max, avg and last value, e.g.,
+ * 
+ * <pre>
+ * {"key":"sensor1","start":1700000000000,"end":1700000010000,"count":100,"min":20.1,"max":21.3,"avg":20.7,"last":21.0}
+ * </pre>
+ * 
+ * Windows are tumbling without slide and sliding with a slide smaller than the
+ * size. Without timestamp, windows close in processing time. With timestamp,
+ * they close once a message with a later event time arrived.
+ * 
+ * e.g.,
+ * 
+ * <pre>
+ * "window": {
+ *   "size": 10000,
+ *   "slide": 5000,
+ *   "value": "$.temperature",
+ *   "key": "$.sensorId",
+ *   "timestamp": "$.time"
+ * }
+ * </pre>
+ */
+public class WindowConfiguration {
+	private static final String DEFAULT_VALUE = "body";
+
+	private long size;
+	private long slide;
+	private String value = DEFAULT_VALUE;
+	private String key;
+	private String timestamp;
+
+	/**
+	 * The duration of a window in milliseconds
+	 * 
+	 * @return the window size
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	public void setSize(long size) {
+		this.size = size;
+	}
+
+	/**
+	 * The duration between the starts of two windows in milliseconds, the size
+	 * for tumbling windows by default
+	 * 
+	 * @return the window slide
+	 */
+	public long getSlide() {
+		return slide > 0 ? slide : size;
+	}
+
+	public void setSlide(long slide) {
+		this.slide = slide;
+	}
+
+	/**
+	 * The definition of the numeric value, see
+	 * {@link org.eclipse.digitaltwin.basyx.databridge.core.expression.KeyExpression},
+	 * the whole body by default
+	 * 
+	 * @return the value definition
+	 */
+	public String getValue() {
+		return value;
+	}
+
+	public void setValue(String value) {
+		this.value = value;
+	}
+
+	/**
+	 * The optional key definition, see
+	 * {@link org.eclipse.digitaltwin.basyx.databridge.core.expression.KeyExpression}
+	 * 
+	 * @return the key definition
+	 */
+	public String getKey() {
+		return key;
+	}
+
+	public void setKey(String key) {
+		this.key = key;
+	}
+
+	/**
+	 * The optional definition of the event time as epoch milliseconds or ISO-8601
+	 * instant, null for processing time
+	 * 
+	 * @return the timestamp definition
+	 */
+	public String getTimestamp() {
+		return timestamp;
+	}
+
+	public void setTimestamp(String timestamp) {
+		this.timestamp = timestamp;
+	}
+}
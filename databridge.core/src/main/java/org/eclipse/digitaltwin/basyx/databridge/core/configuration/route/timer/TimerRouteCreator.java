@@ -24,15 +24,11 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.timer;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.Map;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import org.apache.camel.builder.RouteBuilder;
-import org.apache.camel.model.MulticastDefinition;
 import org.apache.camel.model.RouteDefinition;
+import org.eclipse.digitaltwin.basyx.databridge.core.component.DataBridgeHeaders;
 import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core.AbstractRouteCreator;
 import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core.RouteConfiguration;
 import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core.RouteCreatorHelper;
@@ -49,42 +45,42 @@ public class TimerRouteCreator extends AbstractRouteCreator {
 
 	@Override
 	protected void configureRoute(RouteConfiguration routeConfig, String dataSourceEndpoint, String[] dataSinkEndpoints, String[] dataTransformerEndpoints, String routeId) {
-		RouteDefinition routeDefinition = startRouteDefinition((TimerRouteConfiguration) routeConfig, dataSourceEndpoint, routeId);
+		configureProcessing(routeConfig, startRouteDefinition((TimerRouteConfiguration) routeConfig, dataSourceEndpoint, routeId), route -> {
+			if (!(dataTransformerEndpoints == null || dataTransformerEndpoints.length == 0)) {
+				route.to(dataTransformerEndpoints)
+						.to("log:" + routeId);
+			}
 
-		if (!(dataTransformerEndpoints == null || dataTransformerEndpoints.length == 0)) {
-			routeDefinition.to(dataTransformerEndpoints)
+			route.to(dataSinkEndpoints)
 					.to("log:" + routeId);
-		}
-
-		routeDefinition.to(dataSinkEndpoints)
-				.to("log:" + routeId);
+		});
 	}
 
 	@Override
 	protected void configureRoute(RouteConfiguration routeConfig, String dataSourceEndpoint, String[] dataSinkEndpoints, String[] dataTransformerEndpoints, Map<String, String[]> dataSinkMapping, String routeId) {
-		MulticastDefinition routeDefinition = startRouteDefinition((TimerRouteConfiguration) routeConfig, dataSourceEndpoint, routeId).multicast();
-		dataSinkMapping.forEach((dataSink, dataTransformers) -> routeDefinition.pipeline()
-				.to(dataTransformers)
-				.to(dataSink)
-				.to("log:" + routeId));
-
-		getUnmappedEndpoints(dataSinkEndpoints, dataSinkMapping).forEach(dataSink -> routeDefinition.to(dataSink)
-				.to("log: " + routeId));
-
-		routeDefinition.end();
-	}
-
-	private List<String> getUnmappedEndpoints(String[] dataSinkEndpoints, Map<String, String[]> dataSinkMapping) {
-		return Arrays.stream(dataSinkEndpoints)
-				.filter(Predicate.not(dataSinkMapping::containsKey))
-				.collect(Collectors.toList());
+		configureProcessing(routeConfig, startRouteDefinition((TimerRouteConfiguration) routeConfig, dataSourceEndpoint, routeId), route -> configureMulticast(routeConfig, route, dataSinkEndpoints, dataSinkMapping, routeId));
 	}
 
 	private RouteDefinition startRouteDefinition(TimerRouteConfiguration timerRouteConfig, String dataSourceEndpoint, String routeId) {
 		String timerEndpoint = RouteCreatorHelper.getDataSourceEndpoint(getRoutesConfiguration(), timerRouteConfig.getTimerName());
-		return getRouteBuilder().from(timerEndpoint)
+		RouteDefinition routeDefinition = getRouteBuilder().from(timerEndpoint)
 				.pollEnrich(dataSourceEndpoint, TIMEOUT)
-				.routeId(routeId)
-				.to("log:" + routeId);
+				.routeId(routeId);
+
+		skipIfNothingPolled(routeDefinition);
+
+		return routeDefinition.to("log:" + routeId);
+	}
+
+	/**
+	 * Stops the exchange if the datasource marked it with
+	 * {@link DataBridgeHeaders#SKIP_POLL}, e.g. when a polling consumer
+	 * suppressed an unchanged result. Empty results of other datasources still
+	 * reach the datasinks.
+	 */
+	private void skipIfNothingPolled(RouteDefinition routeDefinition) {
+		routeDefinition.filter(getRouteBuilder().header(DataBridgeHeaders.SKIP_POLL).isEqualTo(true))
+				.stop()
+				.end();
 	}
 }
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.downsampling;
+
+import java.util.List;
+
+/**
+ * Reduces a series of points while preserving its shape. Points are added one
+ * by one and the selected points are returned as soon as they are determined.
+ * 
+ * @param <T>
+ *            the type of the payload of a point, e.g., its message
+ */
+public interface Downsampler<T> {
+
+	/**
+	 * Adds a point of the series
+	 * 
+	 * @param x
+	 *            the time of the point
+	 * @param y
+	 *            the value of the point
+	 * @param point
+	 *            the payload of the point
+	 * @return the payloads of the selected points in time order, empty if no
+	 *         point was selected
+	 */
+	List<T> add(double x, double y, T point);
+
+	/**
+	 * Selects the points of the incomplete buckets, e.g., once the series is
+	 * idle. Further points continue the series.
+	 * 
+	 * @return the payloads of the selected points in time order
+	 */
+	List<T> flush();
+}
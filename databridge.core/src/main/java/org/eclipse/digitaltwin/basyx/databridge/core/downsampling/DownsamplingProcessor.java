@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.downsampling;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Message;
+import org.apache.camel.Processor;
+import org.eclipse.digitaltwin.basyx.databridge.core.aggregate.IngestProperties;
+import org.eclipse.digitaltwin.basyx.databridge.core.util.NumericValues;
+
+/**
+ * Adds a copy of each message to the {@link Downsampler} of its key and
+ * replaces the body by the list of selected copies, which is empty if no
+ * message was selected. Messages without numeric value are kept. Each selected
+ * copy is turned back into a message by {@link #restore(Exchange)}, so it
+ * keeps its own headers and properties. A selected copy represents the
+ * messages of its series received since the previous selection, so it carries
+ * their merged {@link IngestProperties}.
+ * 
+ * At most maxKeys series are kept. The least recently updated series is
+ * flushed and dropped first, and {@link #flushIdle(long, long)} flushes and
+ * drops idle series.
+ */
+public class DownsamplingProcessor implements Processor {
+	private final Supplier<Downsampler<Exchange>> downsamplerFactory;
+	private final Expression key;
+	private final Expression value;
+	private final Expression timestamp;
+	private final int maxKeys;
+
+	private final Map<Object, Series> series = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * @param downsamplerFactory
+	 *            creates the downsampler of a key
+	 * @param key
+	 *            determines the key of a message
+	 * @param value
+	 *            determines the numeric value of a message
+	 * @param timestamp
+	 *            determines the time of a message as epoch milliseconds or
+	 *            ISO-8601 instant, null for processing time
+	 * @param maxKeys
+	 *            the maximum number of keys whose series are kept
+	 */
+	public DownsamplingProcessor(Supplier<Downsampler<Exchange>> downsamplerFactory, Expression key, Expression value, Expression timestamp, int maxKeys) {
+		if (maxKeys < 1)
+			throw new IllegalArgumentException("Downsampling requires a maximum of at least one key");
+
+		this.downsamplerFactory = downsamplerFactory;
+		this.key = key;
+		this.value = value;
+		this.timestamp = timestamp;
+		this.maxKeys = maxKeys;
+	}
+
+	@Override
+	public void process(Exchange exchange) {
+		double numericValue = NumericValues.parse(value.evaluate(exchange, String.class));
+
+		if (Double.isNaN(numericValue)) {
+			exchange.getMessage()
+					.setBody(Collections.singletonList(exchange.copy()));
+			return;
+		}
+
+		List<Exchange> selected = add(key.evaluate(exchange, Object.class), getTimestamp(exchange), numericValue, exchange.copy(), System.currentTimeMillis());
+
+		exchange.getMessage()
+				.setBody(selected);
+	}
+
+	/**
+	 * Flushes and drops the series which were not updated within the idle
+	 * timeout
+	 * 
+	 * @param now
+	 *            the current time in milliseconds
+	 * @param idleTimeout
+	 *            in milliseconds
+	 * @return the selected copies
+	 */
+	public synchronized List<Exchange> flushIdle(long now, long idleTimeout) {
+		List<Exchange> selected = new ArrayList<>();
+		Iterator<Series> iterator = series.values()
+				.iterator();
+
+		while (iterator.hasNext()) {
+			Series idle = iterator.next();
+
+			if (now - idle.lastUpdate < idleTimeout)
+				continue;
+
+			selected.addAll(idle.release(idle.downsampler.flush()));
+			iterator.remove();
+		}
+
+		return selected;
+	}
+
+	/**
+	 * The number of keys with a series
+	 * 
+	 * @return the number of keys
+	 */
+	public synchronized int getKeyCount() {
+		return series.size();
+	}
+
+	/**
+	 * Replaces the message and the properties of an exchange split from the
+	 * selected copies by those of its copy
+	 * 
+	 * @param exchange
+	 */
+	public static void restore(Exchange exchange) {
+		Exchange point = exchange.getMessage()
+				.getBody(Exchange.class);
+		Message message = exchange.getMessage();
+
+		message.getHeaders()
+				.clear();
+		message.getHeaders()
+				.putAll(point.getMessage()
+						.getHeaders());
+		message.setBody(point.getMessage()
+				.getBody());
+		exchange.getProperties()
+				.putAll(point.getProperties());
+	}
+
+	private synchronized List<Exchange> add(Object seriesKey, double x, double y, Exchange point, long now) {
+		List<Exchange> selected = new ArrayList<>();
+		Series keySeries = series.get(seriesKey);
+
+		if (keySeries == null) {
+			if (series.size() >= maxKeys)
+				selected.addAll(evictLeastRecentlyUpdated());
+
+			keySeries = new Series(downsamplerFactory.get());
+			series.put(seriesKey, keySeries);
+		}
+
+		keySeries.lastUpdate = now;
+		keySeries.pending = IngestProperties.of(point)
+				.merge(keySeries.pending);
+		selected.addAll(keySeries.release(keySeries.downsampler.add(x, y, point)));
+
+		return selected;
+	}
+
+	private List<Exchange> evictLeastRecentlyUpdated() {
+		Iterator<Series> iterator = series.values()
+				.iterator();
+		Series leastRecentlyUpdated = iterator.next();
+		List<Exchange> flushed = leastRecentlyUpdated.release(leastRecentlyUpdated.downsampler.flush());
+		iterator.remove();
+
+		return flushed;
+	}
+
+	private long getTimestamp(Exchange exchange) {
+		if (timestamp == null)
+			return System.currentTimeMillis();
+
+		return NumericValues.parseTimestamp(timestamp.evaluate(exchange, String.class), System.currentTimeMillis());
+	}
+
+	private static class Series {
+		private final Downsampler<Exchange> downsampler;
+		private long lastUpdate;
+		private IngestProperties pending;
+
+		private Series(Downsampler<Exchange> downsampler) {
+			this.downsampler = downsampler;
+		}
+
+		/**
+		 * Sets the properties of the messages received since the previous
+		 * selection on the selected copies
+		 */
+		private List<Exchange> release(List<Exchange> selected) {
+			if (selected.isEmpty() || pending == null)
+				return selected;
+
+			selected.forEach(pending::applyTo);
+			pending = null;
+
+			return selected;
+		}
+	}
+}
@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.downsampling;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Selects the first of every n points, so no point is pending on a flush
+ */
+public class EveryNthDownsampler<T> implements Downsampler<T> {
+	private final int n;
+	private int count;
+
+	public EveryNthDownsampler(int n) {
+		if (n < 1)
+			throw new IllegalArgumentException("Every n-th downsampling requires n of at least one");
+
+		this.n = n;
+	}
+
+	@Override
+	public List<T> add(double x, double y, T point) {
+		boolean selected = count == 0;
+		count = (count + 1) % n;
+
+		return selected ? Collections.singletonList(point) : Collections.emptyList();
+	}
+
+	@Override
+	public List<T> flush() {
+		return Collections.emptyList();
+	}
+}
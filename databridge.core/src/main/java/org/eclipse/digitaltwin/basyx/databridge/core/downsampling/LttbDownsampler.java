@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.downsampling;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Streaming Largest-Triangle-Three-Buckets downsampling. The series is divided
+ * into buckets of n points. Once the bucket following the current bucket is
+ * complete, the point of the current bucket forming the largest triangle with
+ * the last selected point and the average of the following bucket is
+ * selected. The first point is always selected. A flush treats the pending
+ * points as the end of the series, so their last point is selected as well.
+ * 
+ * The points of two buckets are kept in preallocated arrays, which are reused
+ * for all buckets.
+ */
+public class LttbDownsampler<T> implements Downsampler<T> {
+	private final int bucketSize;
+
+	private boolean hasSelected;
+	private double selectedX;
+	private double selectedY;
+
+	private Bucket current;
+	private Bucket next;
+
+	public LttbDownsampler(int bucketSize) {
+		if (bucketSize < 1)
+			throw new IllegalArgumentException("LTTB downsampling requires a bucket size of at least one");
+
+		this.bucketSize = bucketSize;
+		this.current = new Bucket(bucketSize);
+		this.next = new Bucket(bucketSize);
+	}
+
+	@Override
+	public List<T> add(double x, double y, T point) {
+		if (!hasSelected) {
+			select(x, y);
+			return Collections.singletonList(point);
+		}
+
+		if (current.count < bucketSize) {
+			current.add(x, y, point);
+			return Collections.emptyList();
+		}
+
+		next.add(x, y, point);
+
+		if (next.count < bucketSize)
+			return Collections.emptyList();
+
+		T selectedPoint = selectFromCurrent(next.sumX / next.count, next.sumY / next.count);
+
+		Bucket emptied = current;
+		emptied.clear();
+		current = next;
+		next = emptied;
+
+		return Collections.singletonList(selectedPoint);
+	}
+
+	@Override
+	public List<T> flush() {
+		List<T> selected = new ArrayList<>(2);
+
+		if (next.count > 0) {
+			selected.add(selectFromCurrent(next.sumX / next.count, next.sumY / next.count));
+			selected.add(selectLast(next));
+		} else if (current.count > 0) {
+			selected.add(selectLast(current));
+		}
+
+		current.clear();
+		next.clear();
+
+		return selected;
+	}
+
+	private T selectFromCurrent(double averageX, double averageY) {
+		int largest = 0;
+		double largestArea = -1;
+
+		for (int i = 0; i < current.count; i++) {
+			double area = Math.abs((selectedX - averageX) * (current.y[i] - selectedY) - (selectedX - current.x[i]) * (averageY - selectedY));
+
+			if (area > largestArea) {
+				largestArea = area;
+				largest = i;
+			}
+		}
+
+		return select(current, largest);
+	}
+
+	private T selectLast(Bucket bucket) {
+		return select(bucket, bucket.count - 1);
+	}
+
+	@SuppressWarnings("unchecked")
+	private T select(Bucket bucket, int index) {
+		select(bucket.x[index], bucket.y[index]);
+
+		return (T) bucket.points[index];
+	}
+
+	private void select(double x, double y) {
+		hasSelected = true;
+		selectedX = x;
+		selectedY = y;
+	}
+
+	private static class Bucket {
+		private final double[] x;
+		private final double[] y;
+		private final Object[] points;
+		private int count;
+		private double sumX;
+		private double sumY;
+
+		private Bucket(int size) {
+			x = new double[size];
+			y = new double[size];
+			points = new Object[size];
+		}
+
+		private void add(double pointX, double pointY, Object point) {
+			x[count] = pointX;
+			y[count] = pointY;
+			points[count] = point;
+			count++;
+			sumX += pointX;
+			sumY += pointY;
+		}
+
+		private void clear() {
+			Arrays.fill(points, 0, count, null);
+			count = 0;
+			sumX = 0;
+			sumY = 0;
+		}
+	}
+}
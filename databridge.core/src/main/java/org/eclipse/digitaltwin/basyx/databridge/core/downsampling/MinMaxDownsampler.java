@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.downsampling;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Selects the points with the minimum and the maximum value of each bucket of
+ * n points in their order of arrival, so peaks are preserved. A flush closes
+ * the incomplete bucket.
+ */
+public class MinMaxDownsampler<T> implements Downsampler<T> {
+	private final int bucketSize;
+	private int count;
+
+	private int minIndex;
+	private double minY;
+	private T minPoint;
+	private int maxIndex;
+	private double maxY;
+	private T maxPoint;
+
+	public MinMaxDownsampler(int bucketSize) {
+		if (bucketSize < 1)
+			throw new IllegalArgumentException("Min-max downsampling requires a bucket size of at least one");
+
+		this.bucketSize = bucketSize;
+	}
+
+	@Override
+	public List<T> add(double x, double y, T point) {
+		if (count == 0 || y < minY) {
+			minIndex = count;
+			minY = y;
+			minPoint = point;
+		}
+
+		if (count == 0 || y > maxY) {
+			maxIndex = count;
+			maxY = y;
+			maxPoint = point;
+		}
+
+		if (++count < bucketSize)
+			return Collections.emptyList();
+
+		return closeBucket();
+	}
+
+	@Override
+	public List<T> flush() {
+		if (count == 0)
+			return Collections.emptyList();
+
+		return closeBucket();
+	}
+
+	private List<T> closeBucket() {
+		List<T> selected;
+
+		if (minIndex == maxIndex)
+			selected = Collections.singletonList(minPoint);
+		else
+			selected = minIndex < maxIndex ? Arrays.asList(minPoint, maxPoint) : Arrays.asList(maxPoint, minPoint);
+
+		count = 0;
+		minPoint = null;
+		maxPoint = null;
+
+		return selected;
+	}
+}
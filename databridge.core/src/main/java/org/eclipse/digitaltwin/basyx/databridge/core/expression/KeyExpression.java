@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.expression;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.support.ExpressionAdapter;
+import org.eclipse.digitaltwin.basyx.databridge.core.filter.ConditionFilter.ParsedBody;
+import org.eclipse.digitaltwin.basyx.databridge.core.util.JsonPath;
+
+import com.google.gson.JsonElement;
+
+/**
+ * Selects the key of a message, e.g., the device id or the property path the
+ * message belongs to. The definition is compiled once when the route is built.
+ * 
+ * <pre>
+ * header:deviceId  -> the value of the header deviceId
+ * body             -> the whole body
+ * $.device.id      -> the JSON path into the body
+ * </pre>
+ * 
+ * Messages without the key, e.g. bodies which are no valid JSON, have the key
+ * null.
+ */
+public class KeyExpression extends ExpressionAdapter {
+	private static final String HEADER_PREFIX = "header:";
+	private static final String BODY = "body";
+
+	private final String definition;
+	private final String headerName;
+	private final JsonPath jsonPath;
+
+	private KeyExpression(String definition, String headerName, JsonPath jsonPath) {
+		this.definition = definition;
+		this.headerName = headerName;
+		this.jsonPath = jsonPath;
+	}
+
+	/**
+	 * Compiles the given key definition
+	 * 
+	 * @param definition
+	 * @return the compiled key expression
+	 * @throws IllegalArgumentException
+	 *             if the definition is malformed
+	 */
+	public static KeyExpression compile(String definition) {
+		if (definition == null || definition.trim().isEmpty())
+			throw new IllegalArgumentException("The key definition must not be empty");
+
+		String trimmed = definition.trim();
+
+		if (trimmed.startsWith(HEADER_PREFIX))
+			return new KeyExpression(trimmed, trimmed.substring(HEADER_PREFIX.length()), null);
+
+		if (trimmed.equals(BODY))
+			return new KeyExpression(trimmed, null, null);
+
+		return new KeyExpression(trimmed, null, JsonPath.compile(trimmed));
+	}
+
+	@Override
+	public Object evaluate(Exchange exchange) {
+		return evaluate(exchange, new ParsedBody(exchange));
+	}
+
+	/**
+	 * Evaluates the expression on a body, which may already have been parsed
+	 * by another expression
+	 * 
+	 * @param exchange
+	 * @param body
+	 *            the body of the exchange, parsed on first use
+	 * @return the key, or null if the message has none
+	 */
+	public Object evaluate(Exchange exchange, ParsedBody body) {
+		if (headerName != null)
+			return exchange.getMessage().getHeader(headerName);
+
+		if (jsonPath == null)
+			return exchange.getMessage().getBody(String.class);
+
+		JsonElement document = body.get();
+
+		return document == null ? null : jsonPath.evaluateAsString(document);
+	}
+
+	@Override
+	public String toString() {
+		return definition;
+	}
+}
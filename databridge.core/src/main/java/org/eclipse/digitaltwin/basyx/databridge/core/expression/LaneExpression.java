@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.expression;
+
+import java.util.Objects;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.support.ExpressionAdapter;
+
+/**
+ * Assigns each message to one of a fixed number of lanes by the hash of its
+ * key. Messages with the same key always get the same lane.
+ */
+public class LaneExpression extends ExpressionAdapter {
+	private final KeyExpression keyExpression;
+	private final int lanes;
+
+	public LaneExpression(KeyExpression keyExpression, int lanes) {
+		if (lanes < 1)
+			throw new IllegalArgumentException("The number of lanes must be at least 1");
+
+		this.keyExpression = keyExpression;
+		this.lanes = lanes;
+	}
+
+	@Override
+	public Object evaluate(Exchange exchange) {
+		Object key = keyExpression.evaluate(exchange);
+
+		return Math.floorMod(Objects.hashCode(key), lanes);
+	}
+
+	@Override
+	public String toString() {
+		return "lane(" + keyExpression + ")";
+	}
+}
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.expression;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.support.ExpressionAdapter;
+
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Splits the body of a message into its elements. Collections and arrays, e.g.,
+ * the rows of a SQL select, are split as they are. JSON arrays are read
+ * element by element, so each element is parsed on demand. Any other body is
+ * a single element.
+ */
+public class SplitExpression extends ExpressionAdapter {
+
+	@Override
+	public Object evaluate(Exchange exchange) {
+		Object body = exchange.getMessage().getBody();
+
+		if (body == null || body instanceof Iterable || body.getClass().isArray())
+			return body;
+
+		String json = exchange.getMessage().getBody(String.class);
+
+		try {
+			JsonReader reader = new JsonReader(new StringReader(json));
+
+			if (reader.peek() != JsonToken.BEGIN_ARRAY)
+				return Collections.singletonList(body);
+
+			reader.beginArray();
+
+			return new JsonArrayIterator(reader);
+		} catch (IOException | IllegalStateException e) {
+			return Collections.singletonList(body);
+		}
+	}
+
+	/**
+	 * Iterates over the elements of a JSON array as JSON text. A malformed
+	 * element fails with a {@link JsonParseException}.
+	 */
+	private static class JsonArrayIterator implements Iterator<String> {
+		private final JsonReader reader;
+
+		private JsonArrayIterator(JsonReader reader) {
+			this.reader = reader;
+		}
+
+		@Override
+		public boolean hasNext() {
+			try {
+				return reader.hasNext();
+			} catch (IOException e) {
+				throw new JsonIOException(e);
+			}
+		}
+
+		@Override
+		public String next() {
+			if (!hasNext())
+				throw new NoSuchElementException();
+
+			return JsonParser.parseReader(reader)
+					.toString();
+		}
+	}
+}
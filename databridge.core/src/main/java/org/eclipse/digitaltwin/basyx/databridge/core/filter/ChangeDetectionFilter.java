@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.filter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Filters messages whose body equals the last value written to the datasink.
+ * Bodies are compared as JSON, so formatting and number representation do not
+ * count as change. The written values are cached per key after the write
+ * succeeded, see {@link #onWritten(Exchange)}.
+ */
+public class ChangeDetectionFilter implements Predicate {
+	private static final String KEY_PROPERTY = "DataBridgeChangeDetectionKey";
+	private static final String VALUE_PROPERTY = "DataBridgeChangeDetectionValue";
+	private static final Object NO_KEY = new Object();
+
+	private final Expression key;
+	private final long refreshInterval;
+
+	private final Map<Object, WrittenValue> writtenValues = new ConcurrentHashMap<>();
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * @param key
+	 *            determines the key of the cached value of a message
+	 * @param refreshInterval
+	 *            the time in milliseconds after which an unchanged value is
+	 *            written again, no refresh if 0
+	 */
+	public ChangeDetectionFilter(Expression key, long refreshInterval) {
+		this.key = key;
+		this.refreshInterval = refreshInterval;
+	}
+
+	@Override
+	public boolean matches(Exchange exchange) {
+		Object valueKey = getKey(exchange);
+		JsonElement value = normalize(exchange.getMessage()
+				.getBody(String.class));
+
+		WrittenValue written = writtenValues.get(valueKey);
+
+		if (written != null && written.value.equals(value) && !isRefreshDue(written)) {
+			hits.increment();
+			return false;
+		}
+
+		misses.increment();
+		exchange.setProperty(KEY_PROPERTY, valueKey);
+		exchange.setProperty(VALUE_PROPERTY, value);
+
+		return true;
+	}
+
+	/**
+	 * Caches the value of a message, which has been written to the datasink
+	 * 
+	 * @param exchange
+	 *            a message which matched this filter
+	 */
+	public void onWritten(Exchange exchange) {
+		Object valueKey = exchange.removeProperty(KEY_PROPERTY);
+		JsonElement value = (JsonElement) exchange.removeProperty(VALUE_PROPERTY);
+
+		if (valueKey != null && value != null)
+			writtenValues.put(valueKey, new WrittenValue(value, System.currentTimeMillis()));
+	}
+
+	/**
+	 * The number of messages filtered, since their value was already written
+	 * 
+	 * @return the number of cache hits
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * The number of messages passed, since their value changed or was due for
+	 * refresh
+	 * 
+	 * @return the number of cache misses
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * The key of the message, messages without key share one cached value
+	 */
+	private Object getKey(Exchange exchange) {
+		Object valueKey = key.evaluate(exchange, Object.class);
+
+		return valueKey != null ? valueKey : NO_KEY;
+	}
+
+	private boolean isRefreshDue(WrittenValue written) {
+		return refreshInterval > 0 && System.currentTimeMillis() - written.writtenAt >= refreshInterval;
+	}
+
+	private static JsonElement normalize(String body) {
+		if (body == null)
+			return new JsonPrimitive("");
+
+		try {
+			return JsonParser.parseString(body);
+		} catch (JsonParseException e) {
+			return new JsonPrimitive(body);
+		}
+	}
+
+	private static class WrittenValue {
+		private final JsonElement value;
+		private final long writtenAt;
+
+		private WrittenValue(JsonElement value, long writtenAt) {
+			this.value = value;
+			this.writtenAt = writtenAt;
+		}
+	}
+}
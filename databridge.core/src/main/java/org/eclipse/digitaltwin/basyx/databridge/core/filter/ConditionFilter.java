@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.filter;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.apache.camel.Exchange;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.ConditionConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.util.JsonPath;
+import org.eclipse.digitaltwin.basyx.databridge.core.util.NumericValues;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+/**
+ * Passes messages matching all of its conditions. The conditions are compiled
+ * once, and the body of a message is parsed at most once for all conditions.
+ */
+public class ConditionFilter implements org.apache.camel.Predicate {
+	private static final String HEADER_PREFIX = "header:";
+	private static final String BODY = "body";
+
+	private final List<BiPredicate<Exchange, ParsedBody>> conditions;
+
+	private ConditionFilter(List<BiPredicate<Exchange, ParsedBody>> conditions) {
+		this.conditions = conditions;
+	}
+
+	/**
+	 * Compiles the given conditions
+	 * 
+	 * @param conditions
+	 * @return the filter passing messages matching all conditions
+	 * @throws IllegalArgumentException
+	 *             if a condition is malformed
+	 */
+	public static ConditionFilter compile(List<ConditionConfiguration> conditions) {
+		return new ConditionFilter(conditions.stream()
+				.map(ConditionFilter::compile)
+				.collect(Collectors.toList()));
+	}
+
+	@Override
+	public boolean matches(Exchange exchange) {
+		return matches(exchange, new ParsedBody(exchange));
+	}
+
+	/**
+	 * Matches the message using a body parsed by previous filters
+	 * 
+	 * @param exchange
+	 * @param body
+	 * @return true if all conditions match
+	 */
+	public boolean matches(Exchange exchange, ParsedBody body) {
+		for (BiPredicate<Exchange, ParsedBody> condition : conditions) {
+			if (!condition.test(exchange, body))
+				return false;
+		}
+
+		return true;
+	}
+
+	private static BiPredicate<Exchange, ParsedBody> compile(ConditionConfiguration condition) {
+		if (condition.getField() == null || condition.getField().trim().isEmpty())
+			throw new IllegalArgumentException("The field of a condition must not be empty");
+
+		if (condition.getOperator() == null || condition.getOperator().trim().isEmpty())
+			throw new IllegalArgumentException("The operator of the condition on " + condition.getField() + " must not be empty");
+
+		FieldSource source = compileSource(condition.getField().trim());
+		Predicate<String> comparison = compileComparison(condition.getOperator().trim(), condition.getValue());
+
+		return (exchange, body) -> comparison.test(source.get(exchange, body));
+	}
+
+	private static FieldSource compileSource(String field) {
+		if (field.startsWith(HEADER_PREFIX)) {
+			String headerName = field.substring(HEADER_PREFIX.length());
+
+			return (exchange, body) -> Objects.toString(exchange.getMessage()
+					.getHeader(headerName), null);
+		}
+
+		if (field.equals(BODY))
+			return (exchange, body) -> exchange.getMessage()
+					.getBody(String.class);
+
+		JsonPath jsonPath = JsonPath.compile(field);
+
+		return (exchange, body) -> body.get() == null ? null : jsonPath.evaluateAsString(body.get());
+	}
+
+	private static Predicate<String> compileComparison(String operator, String value) {
+		switch (operator) {
+		case ConditionConfiguration.EXISTS:
+			return Objects::nonNull;
+		case ConditionConfiguration.NOT_EXISTS:
+			return Objects::isNull;
+		case ConditionConfiguration.EQUALS:
+			requireValue(operator, value);
+			return actual -> actual != null && actual.equals(value);
+		case ConditionConfiguration.NOT_EQUALS:
+			requireValue(operator, value);
+			return actual -> actual == null || !actual.equals(value);
+		case ConditionConfiguration.CONTAINS:
+			requireValue(operator, value);
+			return actual -> actual != null && actual.contains(value);
+		case ConditionConfiguration.MATCHES:
+			requireValue(operator, value);
+			Pattern pattern = Pattern.compile(value);
+			return actual -> actual != null && pattern.matcher(actual)
+					.matches();
+		case ConditionConfiguration.GREATER_THAN:
+			double lowerBound = parseNumericValue(value);
+			return actual -> NumericValues.parse(actual) > lowerBound;
+		case ConditionConfiguration.GREATER_OR_EQUAL:
+			double minimum = parseNumericValue(value);
+			return actual -> NumericValues.parse(actual) >= minimum;
+		case ConditionConfiguration.LESS_THAN:
+			double upperBound = parseNumericValue(value);
+			return actual -> NumericValues.parse(actual) < upperBound;
+		case ConditionConfiguration.LESS_OR_EQUAL:
+			double maximum = parseNumericValue(value);
+			return actual -> NumericValues.parse(actual) <= maximum;
+		default:
+			throw new IllegalArgumentException("Unknown operator " + operator + " of condition");
+		}
+	}
+
+	private static void requireValue(String operator, String value) {
+		if (value == null)
+			throw new IllegalArgumentException("A condition with operator " + operator + " requires a value");
+	}
+
+	private static double parseNumericValue(String value) {
+		double number = NumericValues.parse(value);
+
+		if (Double.isNaN(number))
+			throw new IllegalArgumentException("The value " + value + " of a numeric condition is no number");
+
+		return number;
+	}
+
+	/**
+	 * The body of a message, parsed as JSON on first access
+	 */
+	public static class ParsedBody {
+		private final Exchange exchange;
+		private boolean parsed;
+		private JsonElement document;
+
+		public ParsedBody(Exchange exchange) {
+			this.exchange = exchange;
+		}
+
+		/**
+		 * @return the parsed body, or null if it is no valid JSON
+		 */
+		public JsonElement get() {
+			if (!parsed) {
+				parsed = true;
+				document = parse(exchange.getMessage()
+						.getBody(String.class));
+			}
+
+			return document;
+		}
+
+		private static JsonElement parse(String body) {
+			if (body == null)
+				return null;
+
+			try {
+				return JsonParser.parseString(body);
+			} catch (JsonParseException e) {
+				return null;
+			}
+		}
+	}
+
+	@FunctionalInterface
+	private interface FieldSource {
+		String get(Exchange exchange, ParsedBody body);
+	}
+}
@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.filter;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Predicate;
+import org.eclipse.digitaltwin.basyx.databridge.core.expression.KeyExpression;
+import org.eclipse.digitaltwin.basyx.databridge.core.filter.ConditionFilter.ParsedBody;
+import org.eclipse.digitaltwin.basyx.databridge.core.util.NumericValues;
+
+/**
+ * Filters numeric messages whose value changed less than the configured
+ * deadband since the last passed value of their key. A message exceeding the
+ * deadband, or arriving after the heartbeat elapsed, passes and becomes the
+ * new reference value. Messages without numeric value always pass. The body
+ * is parsed at most once for the key and the value.
+ * 
+ * At most maxKeys reference values are kept. The least recently used one is
+ * dropped first, so the next value of its key passes like a first value.
+ */
+public class DeadbandFilter implements Predicate {
+	private final KeyExpression key;
+	private final KeyExpression value;
+	private final double absolute;
+	private final double percent;
+	private final long heartbeat;
+	private final int maxKeys;
+
+	private final Map<Object, PassedValue> passedValues = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * @param key
+	 *            determines the key of the reference value of a message, null
+	 *            if all messages share one reference value
+	 * @param value
+	 *            determines the numeric value of a message
+	 * @param absolute
+	 *            the absolute deadband, 0 if not used
+	 * @param percent
+	 *            the deadband in percent of the reference value, 0 if not used
+	 * @param heartbeat
+	 *            the time in milliseconds after which a value passes even
+	 *            within the deadband, no heartbeat if 0
+	 * @param maxKeys
+	 *            the maximum number of keys whose reference values are kept
+	 */
+	public DeadbandFilter(KeyExpression key, KeyExpression value, double absolute, double percent, long heartbeat, int maxKeys) {
+		if (maxKeys < 1)
+			throw new IllegalArgumentException("A deadband requires a maximum of at least one key");
+
+		this.key = key;
+		this.value = value;
+		this.absolute = absolute;
+		this.percent = percent;
+		this.heartbeat = heartbeat;
+		this.maxKeys = maxKeys;
+	}
+
+	@Override
+	public boolean matches(Exchange exchange) {
+		ParsedBody body = new ParsedBody(exchange);
+		double numericValue = NumericValues.parse(Objects.toString(value.evaluate(exchange, body), null));
+
+		if (Double.isNaN(numericValue))
+			return true;
+
+		return accept(getKey(exchange, body), numericValue, System.currentTimeMillis());
+	}
+
+	/**
+	 * Decides whether the value of the given key passes the deadband and records
+	 * it as reference value if so
+	 * 
+	 * @param valueKey
+	 * @param numericValue
+	 * @param timestamp
+	 *            the current time in milliseconds
+	 * @return true if the value passes
+	 */
+	public synchronized boolean accept(Object valueKey, double numericValue, long timestamp) {
+		PassedValue passed = passedValues.get(valueKey);
+
+		if (passed == null) {
+			if (passedValues.size() >= maxKeys)
+				evictLeastRecentlyUsed();
+
+			passed = new PassedValue();
+			passedValues.put(valueKey, passed);
+		}
+
+		if (passed.initialized && !exceedsDeadband(passed.value, numericValue) && !isHeartbeatDue(passed.passedAt, timestamp))
+			return false;
+
+		passed.initialized = true;
+		passed.value = numericValue;
+		passed.passedAt = timestamp;
+
+		return true;
+	}
+
+	/**
+	 * The number of keys with a reference value
+	 * 
+	 * @return the number of keys
+	 */
+	public synchronized int getKeyCount() {
+		return passedValues.size();
+	}
+
+	/**
+	 * Without key expression, all messages share one reference value. Messages
+	 * missing their key share the reference value of the empty key.
+	 */
+	private Object getKey(Exchange exchange, ParsedBody body) {
+		if (key == null)
+			return Boolean.TRUE;
+
+		return Objects.toString(key.evaluate(exchange, body), "");
+	}
+
+	private void evictLeastRecentlyUsed() {
+		Iterator<Object> iterator = passedValues.keySet()
+				.iterator();
+		iterator.next();
+		iterator.remove();
+	}
+
+	/**
+	 * A change exceeds the deadband if it reaches all configured bands, so an
+	 * absolute band serves as lower limit of a percentage band around zero
+	 */
+	private boolean exceedsDeadband(double reference, double numericValue) {
+		double change = Math.abs(numericValue - reference);
+
+		if (absolute > 0 && change < absolute)
+			return false;
+
+		return !(percent > 0 && change < Math.abs(reference) * percent / 100);
+	}
+
+	private boolean isHeartbeatDue(long passedAt, long timestamp) {
+		return heartbeat > 0 && timestamp - passedAt >= heartbeat;
+	}
+
+	private static class PassedValue {
+		private boolean initialized;
+		private double value;
+		private long passedAt;
+	}
+}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.filter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Predicate;
+import org.eclipse.digitaltwin.basyx.databridge.core.util.TokenBucket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Limits the rate of messages by a token bucket. Excess messages are either
+ * delayed until a token is available or filtered. The number of filtered
+ * messages is logged at most once per {@value #REPORT_INTERVAL_SECONDS}
+ * seconds.
+ */
+public class RateLimitFilter implements Predicate {
+	private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+	private static final long REPORT_INTERVAL_SECONDS = 10;
+
+	private final String name;
+	private final TokenBucket tokenBucket;
+	private final boolean dropExcess;
+
+	private final LongAdder droppedMessages = new LongAdder();
+	private final AtomicLong reportedAt = new AtomicLong(System.nanoTime() - TimeUnit.SECONDS.toNanos(REPORT_INTERVAL_SECONDS));
+
+	/**
+	 * @param name
+	 *            the name of the rate limit used for reporting
+	 * @param tokenBucket
+	 *            the token bucket, which may be shared by several filters
+	 * @param dropExcess
+	 *            true if excess messages are filtered, false if they are
+	 *            delayed
+	 */
+	public RateLimitFilter(String name, TokenBucket tokenBucket, boolean dropExcess) {
+		this.name = name;
+		this.tokenBucket = tokenBucket;
+		this.dropExcess = dropExcess;
+	}
+
+	@Override
+	public boolean matches(Exchange exchange) {
+		if (dropExcess)
+			return acquireOrDrop();
+
+		delay(tokenBucket.reserve(System.nanoTime()));
+
+		return true;
+	}
+
+	/**
+	 * The number of messages filtered as excess
+	 * 
+	 * @return the number of dropped messages
+	 */
+	public long getDroppedCount() {
+		return droppedMessages.sum();
+	}
+
+	private boolean acquireOrDrop() {
+		long now = System.nanoTime();
+
+		if (tokenBucket.tryAcquire(now))
+			return true;
+
+		droppedMessages.increment();
+		reportDroppedMessages(now);
+
+		return false;
+	}
+
+	private void reportDroppedMessages(long now) {
+		long lastReport = reportedAt.get();
+
+		if (now - lastReport < TimeUnit.SECONDS.toNanos(REPORT_INTERVAL_SECONDS) || !reportedAt.compareAndSet(lastReport, now))
+			return;
+
+		logger.warn("Rate limit {} has dropped {} messages exceeding {} messages per second", name, getDroppedCount(), tokenBucket.getRate());
+	}
+
+	private static void delay(long nanos) {
+		if (nanos <= 0)
+			return;
+
+		try {
+			TimeUnit.NANOSECONDS.sleep(nanos);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.filter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Predicate;
+
+/**
+ * Filters messages whose ingest timestamp is older than the maximum age.
+ * Messages without ingest timestamp are passed.
+ */
+public class StaleMessageFilter implements Predicate {
+	private final String timestampProperty;
+	private final long maxAge;
+
+	private final LongAdder droppedMessages = new LongAdder();
+
+	/**
+	 * @param timestampProperty
+	 *            the exchange property holding the ingest timestamp in
+	 *            milliseconds
+	 * @param maxAge
+	 *            the maximum age in milliseconds
+	 */
+	public StaleMessageFilter(String timestampProperty, long maxAge) {
+		this.timestampProperty = timestampProperty;
+		this.maxAge = maxAge;
+	}
+
+	@Override
+	public boolean matches(Exchange exchange) {
+		Long ingestTimestamp = exchange.getProperty(timestampProperty, Long.class);
+
+		if (ingestTimestamp == null || System.currentTimeMillis() - ingestTimestamp <= maxAge)
+			return true;
+
+		droppedMessages.increment();
+		return false;
+	}
+
+	/**
+	 * The number of messages dropped as stale
+	 * 
+	 * @return the number of dropped messages
+	 */
+	public long getDroppedCount() {
+		return droppedMessages.sum();
+	}
+}
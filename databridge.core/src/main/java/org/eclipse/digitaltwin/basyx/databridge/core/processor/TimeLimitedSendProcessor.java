@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.processor;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangeTimedOutException;
+import org.apache.camel.Processor;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+
+/**
+ * Sends a copy of the message to an endpoint and fails the exchange with an
+ * {@link ExchangeTimedOutException} if the endpoint does not complete within
+ * the timeout. The calling thread, e.g., the worker of a bulkhead, is released
+ * after the timeout even if the write never returns.
+ * 
+ * The write runs on a thread of this processor. On timeout, the copy is marked
+ * to stop routing and the thread is interrupted. This ends writes blocked
+ * interruptibly, e.g., sleeping or waiting for a lock or a queue. Writes
+ * blocked in non-interruptible I/O keep their thread until the I/O returns or
+ * the socket timeout of the endpoint elapses. Stopping the processor stops its
+ * producer template and interrupts all running writes.
+ * 
+ */
+public class TimeLimitedSendProcessor extends ServiceSupport implements Processor {
+	private final CamelContext camelContext;
+	private final String endpointUri;
+	private final long timeout;
+
+	private ProducerTemplate producerTemplate;
+	private ExecutorService executor;
+
+	/**
+	 * @param camelContext
+	 *            the context creating the producer template and the executor
+	 *            on start
+	 * @param endpointUri
+	 * @param timeout
+	 *            the maximum time in milliseconds to wait for the endpoint
+	 */
+	public TimeLimitedSendProcessor(CamelContext camelContext, String endpointUri, long timeout) {
+		if (timeout <= 0)
+			throw new IllegalArgumentException("The timeout of " + endpointUri + " must be positive");
+
+		this.camelContext = camelContext;
+		this.endpointUri = endpointUri;
+		this.timeout = timeout;
+	}
+
+	@Override
+	protected void doStart() throws Exception {
+		producerTemplate = camelContext.createProducerTemplate();
+		executor = camelContext.getExecutorServiceManager()
+				.newCachedThreadPool(this, "TimeLimitedSend[" + endpointUri + "]");
+	}
+
+	@Override
+	protected void doStop() throws Exception {
+		camelContext.getExecutorServiceManager()
+				.shutdownNow(executor);
+		ServiceHelper.stopService(producerTemplate);
+
+		executor = null;
+		producerTemplate = null;
+	}
+
+	@Override
+	public void process(Exchange exchange) throws Exception {
+		Exchange copy = exchange.copy();
+		Future<Exchange> result = executor.submit(() -> producerTemplate.send(endpointUri, copy));
+
+		try {
+			ExchangeHelper.copyResults(exchange, result.get(timeout, TimeUnit.MILLISECONDS));
+		} catch (TimeoutException e) {
+			copy.setRouteStop(true);
+			result.cancel(true);
+			throw new ExchangeTimedOutException(exchange, timeout, "Writing to " + endpointUri + " did not complete");
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Could not write to " + endpointUri, e.getCause());
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "timeLimitedSend(" + endpointUri + ", " + timeout + "ms)";
+	}
+}
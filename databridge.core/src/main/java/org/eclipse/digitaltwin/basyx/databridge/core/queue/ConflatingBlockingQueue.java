@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.queue;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * A queue holding at most one pending element per key. An element offered
+ * while an element with the same key is pending replaces the pending one and
+ * keeps its position, so consumers only take the latest element of each key.
+ * The queue never rejects or blocks a producer.
+ * 
+ *
+ * @param <E>
+ */
+public class ConflatingBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+	private final Function<E, Object> keyFunction;
+	private final Map<Object, E> pendingElements = new LinkedHashMap<>();
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition notEmpty = lock.newCondition();
+
+	private final LongAdder conflatedElements = new LongAdder();
+
+	/**
+	 * @param keyFunction
+	 *            determines the key of an element, elements with the same key
+	 *            replace each other
+	 */
+	public ConflatingBlockingQueue(Function<E, Object> keyFunction) {
+		this.keyFunction = keyFunction;
+	}
+
+	@Override
+	public boolean offer(E element) {
+		if (element == null)
+			throw new NullPointerException();
+
+		Object key = keyFunction.apply(element);
+
+		lock.lock();
+		try {
+			if (pendingElements.put(key, element) != null)
+				conflatedElements.increment();
+
+			notEmpty.signal();
+		} finally {
+			lock.unlock();
+		}
+
+		return true;
+	}
+
+	@Override
+	public boolean offer(E element, long timeout, TimeUnit unit) {
+		return offer(element);
+	}
+
+	@Override
+	public void put(E element) {
+		offer(element);
+	}
+
+	@Override
+	public E poll() {
+		lock.lock();
+		try {
+			return removeFirst();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+		long nanos = unit.toNanos(timeout);
+
+		lock.lockInterruptibly();
+		try {
+			while (pendingElements.isEmpty()) {
+				if (nanos <= 0)
+					return null;
+
+				nanos = notEmpty.awaitNanos(nanos);
+			}
+
+			return removeFirst();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public E take() throws InterruptedException {
+		lock.lockInterruptibly();
+		try {
+			while (pendingElements.isEmpty())
+				notEmpty.await();
+
+			return removeFirst();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public E peek() {
+		lock.lock();
+		try {
+			return pendingElements.isEmpty() ? null : pendingElements.values()
+					.iterator()
+					.next();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public int size() {
+		lock.lock();
+		try {
+			return pendingElements.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public int remainingCapacity() {
+		return Integer.MAX_VALUE;
+	}
+
+	@Override
+	public int drainTo(Collection<? super E> collection) {
+		return drainTo(collection, Integer.MAX_VALUE);
+	}
+
+	@Override
+	public int drainTo(Collection<? super E> collection, int maxElements) {
+		lock.lock();
+		try {
+			int drained = 0;
+
+			while (drained < maxElements && !pendingElements.isEmpty()) {
+				collection.add(removeFirst());
+				drained++;
+			}
+
+			return drained;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Iterates over a snapshot of the pending elements
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		lock.lock();
+		try {
+			return new ArrayList<>(pendingElements.values()).iterator();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * The number of pending elements replaced by newer ones
+	 * 
+	 * @return the number of conflated elements
+	 */
+	public long getConflatedCount() {
+		return conflatedElements.sum();
+	}
+
+	private E removeFirst() {
+		Iterator<E> iterator = pendingElements.values()
+				.iterator();
+
+		if (!iterator.hasNext())
+			return null;
+
+		E element = iterator.next();
+		iterator.remove();
+
+		return element;
+	}
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.queue;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded queue which never rejects or blocks a producer. If the queue is
+ * full, the oldest element is removed to make room for the new one.
+ * 
+ *
+ * @param <E>
+ */
+public class DropOldestBlockingQueue<E> extends ArrayBlockingQueue<E> {
+	private static final long serialVersionUID = 1L;
+
+	private final LongAdder droppedElements = new LongAdder();
+
+	public DropOldestBlockingQueue(int capacity) {
+		super(capacity);
+	}
+
+	@Override
+	public boolean offer(E element) {
+		while (!super.offer(element)) {
+			if (super.poll() != null)
+				droppedElements.increment();
+		}
+
+		return true;
+	}
+
+	@Override
+	public boolean offer(E element, long timeout, TimeUnit unit) {
+		return offer(element);
+	}
+
+	@Override
+	public void put(E element) {
+		offer(element);
+	}
+
+	/**
+	 * The number of elements removed to make room for newer ones
+	 * 
+	 * @return the number of dropped elements
+	 */
+	public long getDroppedCount() {
+		return droppedElements.sum();
+	}
+}
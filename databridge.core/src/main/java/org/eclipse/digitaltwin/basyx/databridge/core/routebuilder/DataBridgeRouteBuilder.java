@@ -24,15 +24,26 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.databridge.core.routebuilder;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.apache.camel.CamelContextAware;
+import org.apache.camel.LoggingLevel;
 import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.tooling.model.Strings;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.entity.DataSourceConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.entity.QueueDataSourceConfiguration;
 import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core.IRouteCreator;
 import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core.IRouteCreatorFactory;
 import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core.RouteConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core.RouteCreatorHelper;
 import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core.RoutesConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.event.EventRouteConfiguration;
 
 /**
  * This factory is used to create the apache camel routes for the data bridge
@@ -43,6 +54,8 @@ import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core.Ro
  */
 public class DataBridgeRouteBuilder extends RouteBuilder {
 	private static final String ROUTE_ID_PREFIX = "route";
+	private static final String SHARED_DATASOURCE_ROUTE_ID_PREFIX = "datasource-";
+	private static final String ROUTE_SOURCE_SUFFIX = "-source";
 	private RoutesConfiguration routesConfiguration;
 	private Map<String, IRouteCreatorFactory> routeCreatorFactoryMap;
 
@@ -53,13 +66,18 @@ public class DataBridgeRouteBuilder extends RouteBuilder {
 
 	@Override
 	public void configure() throws Exception {
-		for (RouteConfiguration routeConfig : routesConfiguration.getRoutes()) {
-			IRouteCreator routeCreator = routeCreatorFactoryMap.get(routeConfig.getRouteTrigger()).create(this, routesConfiguration);
+		Map<String, List<String>> sharedDataSources = new LinkedHashMap<>();
+		RoutesConfiguration configuration = configureSharedDataSources(routesConfiguration, sharedDataSources);
 
-			setCamelContextInRouteEntities();
+		for (RouteConfiguration routeConfig : configuration.getRoutes()) {
+			IRouteCreator routeCreator = routeCreatorFactoryMap.get(routeConfig.getRouteTrigger()).create(this, configuration);
+
+			setCamelContextInRouteEntities(configuration);
 
 			routeCreator.addRouteToRouteBuilder(routeConfig);
 		}
+
+		configureSharedDataSourceRoutes(configuration, sharedDataSources);
 	}
 
 	private RoutesConfiguration configureRouteIds(RoutesConfiguration routesConfiguration) {
@@ -74,9 +92,88 @@ public class DataBridgeRouteBuilder extends RouteBuilder {
 		return routesConfiguration;
 	}
 
-	private void setCamelContextInRouteEntities() {
-		routesConfiguration.getDatasinks().entrySet().forEach(c -> CamelContextAware.trySetCamelContext(c.getValue(), getCamelContext()));
-		routesConfiguration.getDatasources().entrySet().forEach(c -> CamelContextAware.trySetCamelContext(c.getValue(), getCamelContext()));
-		routesConfiguration.getTransformers().entrySet().forEach(c -> CamelContextAware.trySetCamelContext(c.getValue(), getCamelContext()));
+	/**
+	 * Lets the event routes which opted in with a shared datasource queue and
+	 * read the same datasource share one consumer of it. Each of these routes
+	 * reads from its own queue instead, the consumer route of the datasource
+	 * hands every message over to all of these queues.
+	 * 
+	 * @param routesConfiguration
+	 *            the configuration, which is left unchanged
+	 * @param sharedDataSources
+	 *            collects the queue endpoints by the id of the shared datasource
+	 * @return the configuration to create the routes from
+	 */
+	private RoutesConfiguration configureSharedDataSources(RoutesConfiguration routesConfiguration, Map<String, List<String>> sharedDataSources) {
+		Map<String, List<RouteConfiguration>> sharingRoutesByDataSource = routesConfiguration.getRoutes()
+				.stream()
+				.filter(route -> EventRouteConfiguration.ROUTE_TRIGGER.equals(route.getRouteTrigger()) && route.getSharedDatasource() != null)
+				.collect(Collectors.groupingBy(RouteConfiguration::getDatasource, LinkedHashMap::new, Collectors.toList()));
+
+		sharingRoutesByDataSource.values().removeIf(routes -> routes.size() < 2);
+
+		if (sharingRoutesByDataSource.isEmpty())
+			return routesConfiguration;
+
+		Map<String, DataSourceConfiguration> dataSources = new HashMap<>(routesConfiguration.getDatasources());
+		Map<RouteConfiguration, RouteConfiguration> redirectedRoutes = new IdentityHashMap<>();
+
+		sharingRoutesByDataSource.forEach((dataSourceId, routes) -> {
+			List<String> queueEndpoints = new ArrayList<>();
+
+			for (RouteConfiguration route : routes) {
+				QueueDataSourceConfiguration queueDataSource = createQueueDataSource(route);
+				dataSources.put(queueDataSource.getUniqueId(), queueDataSource);
+
+				RouteConfiguration redirectedRoute = new RouteConfiguration(route);
+				redirectedRoute.setDatasource(queueDataSource.getUniqueId());
+				redirectedRoutes.put(route, redirectedRoute);
+
+				queueEndpoints.add(queueDataSource.getConnectionURI());
+			}
+
+			sharedDataSources.put(dataSourceId, queueEndpoints);
+		});
+
+		List<RouteConfiguration> routes = routesConfiguration.getRoutes()
+				.stream()
+				.map(route -> redirectedRoutes.getOrDefault(route, route))
+				.collect(Collectors.toList());
+
+		return new RoutesConfiguration(dataSources, new HashMap<>(routesConfiguration.getTransformers()), new HashMap<>(routesConfiguration.getDatasinks()), routes);
+	}
+
+	private QueueDataSourceConfiguration createQueueDataSource(RouteConfiguration route) {
+		String name = route.getRouteId() + ROUTE_SOURCE_SUFFIX;
+
+		return new QueueDataSourceConfiguration(name, RouteCreatorHelper.createQueueEndpoint(this, name, route.getSharedDatasource()));
+	}
+
+	/**
+	 * Creates the consumer route of each shared datasource. It only enqueues the
+	 * messages, so a slow route does not delay the others unless its queue
+	 * blocks when full. A message that cannot be enqueued for one route is still
+	 * handed over to all other routes, and the failure is logged instead of
+	 * being returned to the datasource, which would redeliver the message to all
+	 * routes.
+	 */
+	private void configureSharedDataSourceRoutes(RoutesConfiguration configuration, Map<String, List<String>> sharedDataSources) {
+		setCamelContextInRouteEntities(configuration);
+
+		sharedDataSources.forEach((dataSourceId, queueEndpoints) -> from(RouteCreatorHelper.getDataSourceEndpoint(configuration, dataSourceId))
+				.routeId(SHARED_DATASOURCE_ROUTE_ID_PREFIX + dataSourceId)
+				.onException(Exception.class)
+				.handled(true)
+				.log(LoggingLevel.WARN, "Could not hand over a message of datasource " + dataSourceId + " to all routes: ${exception.message}")
+				.end()
+				.multicast()
+				.to(queueEndpoints.toArray(new String[0]))
+				.end());
+	}
+
+	private void setCamelContextInRouteEntities(RoutesConfiguration configuration) {
+		configuration.getDatasinks().entrySet().forEach(c -> CamelContextAware.trySetCamelContext(c.getValue(), getCamelContext()));
+		configuration.getDatasources().entrySet().forEach(c -> CamelContextAware.trySetCamelContext(c.getValue(), getCamelContext()));
+		configuration.getTransformers().entrySet().forEach(c -> CamelContextAware.trySetCamelContext(c.getValue(), getCamelContext()));
 	}
 }
@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * A compiled path into a JSON document. The path is parsed once and can be
+ * evaluated against many documents.
+ * 
+ * Supported are member access and array indices, optionally starting with the
+ * root symbol, e.g.,
+ * 
+ * <pre>
+ * $.motor.speed
+ * sensors[0].value
+ * $['with.dot'].value
+ * </pre>
+ */
+public class JsonPath {
+	private static final String ROOT = "$";
+
+	private final String expression;
+	private final List<Object> segments;
+
+	private JsonPath(String expression, List<Object> segments) {
+		this.expression = expression;
+		this.segments = segments;
+	}
+
+	/**
+	 * Compiles the given path expression
+	 * 
+	 * @param expression
+	 * @return the compiled path
+	 * @throws IllegalArgumentException
+	 *             if the expression is malformed
+	 */
+	public static JsonPath compile(String expression) {
+		if (expression == null)
+			throw new IllegalArgumentException("The JSON path must not be null");
+
+		return new JsonPath(expression, Collections.unmodifiableList(parse(expression.trim())));
+	}
+
+	public String getExpression() {
+		return expression;
+	}
+
+	/**
+	 * Evaluates the path against a serialized JSON document
+	 * 
+	 * @param json
+	 * @return the addressed element, null if it does not exist
+	 */
+	public JsonElement evaluate(String json) {
+		return evaluate(JsonParser.parseString(json));
+	}
+
+	/**
+	 * Evaluates the path against a parsed JSON document
+	 * 
+	 * @param document
+	 * @return the addressed element, null if it does not exist
+	 */
+	public JsonElement evaluate(JsonElement document) {
+		JsonElement current = document;
+
+		for (Object segment : segments) {
+			current = select(current, segment);
+
+			if (isAbsent(current))
+				return null;
+		}
+
+		return isAbsent(current) ? null : current;
+	}
+
+	/**
+	 * Evaluates the path and returns primitives without JSON quoting
+	 * 
+	 * @param document
+	 * @return the text of the addressed element, null if it does not exist or
+	 *         is a JSON null
+	 */
+	public String evaluateAsString(JsonElement document) {
+		JsonElement result = evaluate(document);
+
+		if (result == null)
+			return null;
+
+		return result.isJsonPrimitive() ? result.getAsString() : result.toString();
+	}
+
+	@Override
+	public String toString() {
+		return expression;
+	}
+
+	private static boolean isAbsent(JsonElement element) {
+		return element == null || element.isJsonNull();
+	}
+
+	private static JsonElement select(JsonElement current, Object segment) {
+		if (segment instanceof Integer) {
+			if (!current.isJsonArray())
+				return null;
+
+			JsonArray array = current.getAsJsonArray();
+			int index = (Integer) segment;
+
+			return index >= 0 && index < array.size() ? array.get(index) : null;
+		}
+
+		if (!current.isJsonObject())
+			return null;
+
+		JsonObject object = current.getAsJsonObject();
+
+		return object.get((String) segment);
+	}
+
+	private static List<Object> parse(String expression) {
+		List<Object> segments = new ArrayList<>();
+
+		int position = expression.startsWith(ROOT) ? ROOT.length() : 0;
+
+		while (position < expression.length()) {
+			char current = expression.charAt(position);
+
+			if (current == '.') {
+				position++;
+			} else if (current == '[') {
+				position = parseBracket(expression, position, segments);
+			} else {
+				position = parseName(expression, position, segments);
+			}
+		}
+
+		return segments;
+	}
+
+	private static int parseName(String expression, int start, List<Object> segments) {
+		int end = start;
+
+		while (end < expression.length() && expression.charAt(end) != '.' && expression.charAt(end) != '[')
+			end++;
+
+		segments.add(expression.substring(start, end));
+
+		return end;
+	}
+
+	private static int parseBracket(String expression, int start, List<Object> segments) {
+		int end = expression.indexOf(']', start);
+
+		if (end < 0)
+			throw new IllegalArgumentException("Unclosed bracket in JSON path " + expression);
+
+		String content = expression.substring(start + 1, end).trim();
+
+		if (isQuoted(content)) {
+			segments.add(content.substring(1, content.length() - 1));
+		} else {
+			segments.add(parseIndex(content, expression));
+		}
+
+		return end + 1;
+	}
+
+	private static boolean isQuoted(String content) {
+		return content.length() >= 2 && (content.charAt(0) == '\'' || content.charAt(0) == '"') && content.charAt(content.length() - 1) == content.charAt(0);
+	}
+
+	private static Integer parseIndex(String content, String expression) {
+		int index;
+
+		try {
+			index = Integer.parseInt(content);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid array index '" + content + "' in JSON path " + expression, e);
+		}
+
+		if (index < 0)
+			throw new IllegalArgumentException("Negative array index " + index + " in JSON path " + expression);
+
+		return index;
+	}
+}
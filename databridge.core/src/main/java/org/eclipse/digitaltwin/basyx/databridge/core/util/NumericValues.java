@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.util;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Utility methods for numeric message values
+ */
+public class NumericValues {
+	private NumericValues() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * Parses a number, which may be quoted as JSON string
+	 * 
+	 * @param text
+	 * @return the number, or NaN if the text is no number
+	 */
+	public static double parse(String text) {
+		if (text == null)
+			return Double.NaN;
+
+		String trimmed = text.trim();
+
+		if (trimmed.length() > 1 && trimmed.startsWith("\"") && trimmed.endsWith("\""))
+			trimmed = trimmed.substring(1, trimmed.length() - 1);
+
+		try {
+			return Double.parseDouble(trimmed);
+		} catch (NumberFormatException e) {
+			return Double.NaN;
+		}
+	}
+
+	/**
+	 * Parses a timestamp given as epoch milliseconds or ISO-8601 instant
+	 * 
+	 * @param text
+	 * @param fallback
+	 *            the timestamp used if the text is no timestamp
+	 * @return the timestamp in epoch milliseconds
+	 */
+	public static long parseTimestamp(String text, long fallback) {
+		if (text == null)
+			return fallback;
+
+		double epochMillis = parse(text);
+
+		if (!Double.isNaN(epochMillis))
+			return (long) epochMillis;
+
+		try {
+			return Instant.parse(text.replace("\"", "")
+					.trim())
+					.toEpochMilli();
+		} catch (DateTimeParseException e) {
+			return fallback;
+		}
+	}
+}
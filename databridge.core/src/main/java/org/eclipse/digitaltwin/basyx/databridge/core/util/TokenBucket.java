@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A token bucket refilled at a constant rate up to its capacity. Callers
+ * either take a token if available or reserve one, possibly in advance, and
+ * wait until it is refilled.
+ */
+public class TokenBucket {
+	private final double tokensPerSecond;
+	private final double nanosPerToken;
+	private final double capacity;
+
+	private double tokens;
+	private long refilledAt;
+
+	/**
+	 * @param tokensPerSecond
+	 *            the refill rate
+	 * @param capacity
+	 *            the maximum number of tokens, i.e., the burst size
+	 * @param now
+	 *            the current time in nanoseconds
+	 */
+	public TokenBucket(double tokensPerSecond, double capacity, long now) {
+		if (tokensPerSecond <= 0 || capacity < 1)
+			throw new IllegalArgumentException("A token bucket requires a positive rate and a capacity of at least one token");
+
+		this.tokensPerSecond = tokensPerSecond;
+		this.nanosPerToken = TimeUnit.SECONDS.toNanos(1) / tokensPerSecond;
+		this.capacity = capacity;
+		this.tokens = capacity;
+		this.refilledAt = now;
+	}
+
+	/**
+	 * The refill rate
+	 * 
+	 * @return the number of tokens per second
+	 */
+	public double getRate() {
+		return tokensPerSecond;
+	}
+
+	/**
+	 * The maximum number of tokens, i.e., the burst size
+	 * 
+	 * @return the capacity
+	 */
+	public double getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Takes a token if available
+	 * 
+	 * @param now
+	 *            the current time in nanoseconds
+	 * @return true if a token was taken
+	 */
+	public synchronized boolean tryAcquire(long now) {
+		refill(now);
+
+		if (tokens < 1)
+			return false;
+
+		tokens -= 1;
+		return true;
+	}
+
+	/**
+	 * Reserves a token, even if the bucket is empty. Later reservations wait for
+	 * the earlier ones.
+	 * 
+	 * @param now
+	 *            the current time in nanoseconds
+	 * @return the time in nanoseconds until the reserved token is available
+	 */
+	public synchronized long reserve(long now) {
+		refill(now);
+		tokens -= 1;
+
+		if (tokens >= 0)
+			return 0;
+
+		return (long) Math.ceil(-tokens * nanosPerToken);
+	}
+
+	private void refill(long now) {
+		if (now > refilledAt) {
+			tokens = Math.min(capacity, tokens + (now - refilledAt) / nanosPerToken);
+			refilledAt = now;
+		}
+	}
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.regression;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.entity.DataSinkConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.entity.DataSourceConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.entity.DataTransformerConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core.IRouteCreatorFactory;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core.RoutesConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.event.EventRouteConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.event.EventRouteCreatorFactory;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.timer.TimerRouteConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.timer.TimerRouteCreatorFactory;
+
+/**
+ * Route entities backed by plain Camel endpoint uris, e.g., direct or mock
+ * endpoints, for tests of the created routes
+ *
+ */
+public final class UriRouteEntities {
+	private UriRouteEntities() {
+	}
+
+	public static DataSourceConfiguration dataSource(String uniqueId, String uri) {
+		return new DataSourceConfiguration(uniqueId, null, 0) {
+			@Override
+			public String getConnectionURI() {
+				return uri;
+			}
+		};
+	}
+
+	public static DataTransformerConfiguration transformer(String uniqueId, String uri) {
+		return new DataTransformerConfiguration(uniqueId) {
+			@Override
+			public String getConnectionURI() {
+				return uri;
+			}
+		};
+	}
+
+	public static DataSinkConfiguration dataSink(String uniqueId, String uri) {
+		return new DataSinkConfiguration(uniqueId) {
+			@Override
+			public String getConnectionURI() {
+				return uri;
+			}
+		};
+	}
+
+	/**
+	 * Creates an empty routes configuration to which the test adds its entities
+	 * and routes
+	 */
+	public static RoutesConfiguration routesConfiguration() {
+		return new RoutesConfiguration();
+	}
+
+	/**
+	 * The route creator factories of the DataBridge component for event and
+	 * timer routes
+	 */
+	public static Map<String, IRouteCreatorFactory> routeCreatorFactories() {
+		Map<String, IRouteCreatorFactory> factories = new HashMap<>();
+		factories.put(EventRouteConfiguration.ROUTE_TRIGGER, new EventRouteCreatorFactory());
+		factories.put(TimerRouteConfiguration.ROUTE_TRIGGER, new TimerRouteCreatorFactory());
+
+		return factories;
+	}
+}
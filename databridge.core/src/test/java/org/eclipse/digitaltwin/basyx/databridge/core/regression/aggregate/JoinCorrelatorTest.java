@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.databridge.core.regression.aggregate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Arrays;
+
+import org.eclipse.digitaltwin.basyx.databridge.core.aggregate.JoinCorrelator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the join correlator
+ */
+public class JoinCorrelatorTest {
+	private static final String VOLTAGE = "voltageSource";
+	private static final String CURRENT = "currentSource";
+	private static final int MAX_KEYS = 100;
+
+	@Test
+	public void joinLatestValues() {
+		JoinCorrelator correlator = new JoinCorrelator(Arrays.asList(VOLTAGE, CURRENT), 0, MAX_KEYS);
+
+		assertNull(correlator.update("device", VOLTAGE, "230.1", 0));
+		assertEquals("{\"voltageSource\":230.1,\"currentSource\":2.5}", correlator.update("device", CURRENT, "2.5", 1));
+		assertEquals("{\"voltageSource\":229.8,\"currentSource\":2.5}", correlator.update("device", VOLTAGE, "229.8", 2));
+	}
+
+	@Test
+	public void separateKeys() {
+		JoinCorrelator correlator = new JoinCorrelator(Arrays.asList(VOLTAGE, CURRENT), 0, MAX_KEYS);
+
+		correlator.update("first", VOLTAGE, "230", 0);
+
+		assertNull(correlator.update("second", CURRENT, "2", 1));
+	}
+
+	@Test
+	public void expiredValuesAreNotJoined() {
+		JoinCorrelator correlator = new JoinCorrelator(Arrays.asList(VOLTAGE, CURRENT), 1000, MAX_KEYS);
+
+		correlator.update("device", VOLTAGE, "230", 0);
+
+		assertNull(correlator.update("device", CURRENT, "2", 1001));
+		assertEquals("{\"voltageSource\":231,\"currentSource\":2}", correlator.update("device", VOLTAGE, "231", 1500));
+	}
+
+	@Test
+	public void sweepRemovesExpiredKeys() {
+		JoinCorrelator correlator = new JoinCorrelator(Arrays.asList(VOLTAGE, CURRENT), 1000, MAX_KEYS);
+
+		correlator.update("first", VOLTAGE, "230", 0);
+		correlator.update("second", VOLTAGE, "231", 800);
+		correlator.sweep(1500);
+
+		assertEquals(1, correlator.getKeyCount());
+		assertEquals("{\"voltageSource\":231,\"currentSource\":2}", correlator.update("second", CURRENT, "2", 1600));
+	}
+
+	@Test
+	public void leastRecentlyUpdatedKeyIsEvicted() {
+		JoinCorrelator correlator = new JoinCorrelator(Arrays.asList(VOLTAGE, CURRENT), 0, 2);
+
+		correlator.update("first", VOLTAGE, "230", 0);
+		correlator.update("second", VOLTAGE, "231", 1);
+		correlator.update("first", VOLTAGE, "232", 2);
+		correlator.update("third", VOLTAGE, "233", 3);
+
+		assertEquals(2, correlator.getKeyCount());
+		assertEquals("{\"voltageSource\":232,\"currentSource\":2}", correlator.update("first", CURRENT, "2", 4));
+		assertNull(correlator.update("second", CURRENT, "2", 5));
+	}
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.regression.aggregate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.eclipse.digitaltwin.basyx.databridge.core.aggregate.IngestProperties;
+import org.eclipse.digitaltwin.basyx.databridge.core.aggregate.JsonArrayAggregationStrategy;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the aggregation of batches into JSON arrays
+ *
+ */
+public class JsonArrayAggregationStrategyTest {
+	private final CamelContext context = new DefaultCamelContext();
+	private final JsonArrayAggregationStrategy strategy = new JsonArrayAggregationStrategy();
+
+	@Test
+	public void aggregatesBodiesInOrder() {
+		Exchange batch = aggregate("{\"temperature\":20.5}", "{\"temperature\":21.0}", "42");
+
+		assertEquals("[{\"temperature\":20.5},{\"temperature\":21.0},42]", batch.getMessage().getBody());
+		assertEquals(3, batch.getMessage().getHeader(JsonArrayAggregationStrategy.BATCH_SIZE_HEADER));
+	}
+
+	@Test
+	public void addsInvalidJsonAsString() {
+		Exchange batch = aggregate("{\"temperature\":20.5}", "not valid json");
+
+		assertEquals("[{\"temperature\":20.5},\"not valid json\"]", batch.getMessage().getBody());
+	}
+
+	@Test
+	public void singleMessageBatch() {
+		Exchange batch = aggregate("{\"temperature\":20.5}");
+
+		assertEquals("[{\"temperature\":20.5}]", batch.getMessage().getBody());
+		assertEquals(1, batch.getMessage().getHeader(JsonArrayAggregationStrategy.BATCH_SIZE_HEADER));
+	}
+
+	@Test
+	public void ignoresCompletionWithoutBodies() {
+		Exchange exchange = createExchange("{\"temperature\":20.5}");
+
+		strategy.onCompletion(exchange);
+		strategy.onCompletion(null);
+
+		assertEquals("{\"temperature\":20.5}", exchange.getMessage().getBody());
+	}
+
+	@Test
+	public void batchCarriesNewestIngestTimestamp() {
+		Exchange batch = strategy.aggregate(null, createExchange("1", 100L, "sinkA"));
+		batch = strategy.aggregate(batch, createExchange("2", 300L, "sinkB"));
+		batch = strategy.aggregate(batch, createExchange("3", 200L, "sinkA"));
+		strategy.onCompletion(batch);
+
+		assertEquals(300L, batch.getProperty(IngestProperties.INGEST_TIMESTAMP_PROPERTY));
+		assertEquals(new HashSet<>(Arrays.asList("sinkA", "sinkB")), batch.getProperty(IngestProperties.ACCEPTED_DATASINKS_PROPERTY));
+	}
+
+	private Exchange aggregate(String... bodies) {
+		Exchange aggregated = null;
+
+		for (String body : bodies)
+			aggregated = strategy.aggregate(aggregated, createExchange(body));
+
+		strategy.onCompletion(aggregated);
+
+		return aggregated;
+	}
+
+	private Exchange createExchange(String body) {
+		Exchange exchange = new DefaultExchange(context);
+		exchange.getMessage().setBody(body);
+
+		return exchange;
+	}
+
+	private Exchange createExchange(String body, long ingestTimestamp, String acceptingDataSink) {
+		Exchange exchange = createExchange(body);
+		exchange.setProperty(IngestProperties.INGEST_TIMESTAMP_PROPERTY, ingestTimestamp);
+		exchange.setProperty(IngestProperties.ACCEPTED_DATASINKS_PROPERTY, Collections.singleton(acceptingDataSink));
+
+		return exchange;
+	}
+}
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.databridge.core.regression.aggregate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.eclipse.digitaltwin.basyx.databridge.core.aggregate.IngestProperties;
+import org.eclipse.digitaltwin.basyx.databridge.core.aggregate.WindowAggregator;
+import org.eclipse.digitaltwin.basyx.databridge.core.aggregate.WindowAggregator.ClosedWindow;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Test class for the window aggregator
+ */
+public class WindowAggregatorTest {
+	private static final String KEY = "sensor";
+
+	private final CamelContext context = new DefaultCamelContext();
+
+	@Test
+	public void tumblingWindow() {
+		WindowAggregator aggregator = new WindowAggregator(1000, 1000);
+
+		aggregator.add(KEY, 2, 100);
+		aggregator.add(KEY, 6, 500);
+		aggregator.add(KEY, 4, 900);
+		aggregator.add(KEY, 10, 1100);
+
+		assertTrue(aggregator.close(999).isEmpty());
+
+		List<ClosedWindow> closed = aggregator.close(1000);
+		assertEquals(1, closed.size());
+
+		JsonObject window = JsonParser.parseString(closed.get(0).getJson()).getAsJsonObject();
+		assertEquals(KEY, window.get("key").getAsString());
+		assertEquals(0, window.get("start").getAsLong());
+		assertEquals(1000, window.get("end").getAsLong());
+		assertEquals(3, window.get("count").getAsLong());
+		assertEquals(2, window.get("min").getAsDouble());
+		assertEquals(6, window.get("max").getAsDouble());
+		assertEquals(4, window.get("avg").getAsDouble());
+		assertEquals(4, window.get("last").getAsDouble());
+	}
+
+	@Test
+	public void slidingWindow() {
+		WindowAggregator aggregator = new WindowAggregator(1000, 500);
+
+		aggregator.add(KEY, 1, 700);
+
+		List<ClosedWindow> closed = aggregator.close(1500);
+		assertEquals(2, closed.size());
+		assertEquals(0, JsonParser.parseString(closed.get(0).getJson()).getAsJsonObject().get("start").getAsLong());
+		assertEquals(500, JsonParser.parseString(closed.get(1).getJson()).getAsJsonObject().get("start").getAsLong());
+	}
+
+	@Test
+	public void separateWindowsPerKey() {
+		WindowAggregator aggregator = new WindowAggregator(1000, 1000);
+
+		aggregator.add("first", 1, 100);
+		aggregator.add("second", 2, 200);
+
+		assertEquals(2, aggregator.close(1000).size());
+	}
+
+	@Test
+	public void lateValuesAreIgnored() {
+		WindowAggregator aggregator = new WindowAggregator(1000, 1000);
+
+		aggregator.add(KEY, 1, 100);
+		aggregator.close(1000);
+		aggregator.add(KEY, 2, 200);
+
+		assertTrue(aggregator.close(2000).isEmpty());
+	}
+
+	@Test
+	public void watermarkFollowsEventTime() {
+		WindowAggregator aggregator = new WindowAggregator(1000, 1000);
+
+		assertTrue(aggregator.close(aggregator.getWatermark()).isEmpty());
+
+		aggregator.add(KEY, 1, 100);
+		aggregator.add(KEY, 2, 1200);
+
+		assertEquals(1, aggregator.close(aggregator.getWatermark()).size());
+	}
+
+	@Test
+	public void closedWindowCarriesMergedIngestProperties() {
+		WindowAggregator aggregator = new WindowAggregator(1000, 1000);
+
+		aggregator.add(KEY, 1, 100, createProperties(300, "sinkA"));
+		aggregator.add(KEY, 2, 200, createProperties(400, "sinkB"));
+		aggregator.add(KEY, 3, 300, createProperties(350, "sinkA"));
+
+		List<ClosedWindow> closed = aggregator.close(1000);
+		assertEquals(1, closed.size());
+
+		IngestProperties properties = closed.get(0).getProperties();
+		assertEquals(400L, properties.getIngestTimestamp());
+		assertEquals(new HashSet<>(Arrays.asList("sinkA", "sinkB")), properties.getAcceptedDataSinks());
+	}
+
+	private IngestProperties createProperties(long ingestTimestamp, String acceptingDataSink) {
+		Exchange exchange = new DefaultExchange(context);
+		exchange.setProperty(IngestProperties.INGEST_TIMESTAMP_PROPERTY, ingestTimestamp);
+		exchange.setProperty(IngestProperties.ACCEPTED_DATASINKS_PROPERTY, Collections.singleton(acceptingDataSink));
+
+		return IngestProperties.of(exchange);
+	}
+}
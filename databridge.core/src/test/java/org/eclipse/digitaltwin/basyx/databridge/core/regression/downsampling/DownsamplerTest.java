@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.databridge.core.regression.downsampling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.digitaltwin.basyx.databridge.core.downsampling.Downsampler;
+import org.eclipse.digitaltwin.basyx.databridge.core.downsampling.EveryNthDownsampler;
+import org.eclipse.digitaltwin.basyx.databridge.core.downsampling.LttbDownsampler;
+import org.eclipse.digitaltwin.basyx.databridge.core.downsampling.MinMaxDownsampler;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the downsampling algorithms
+ */
+public class DownsamplerTest {
+
+	@Test
+	public void everyNth() {
+		assertEquals(Arrays.asList("0", "3", "6"), downsample(new EveryNthDownsampler<>(3), 0, 1, 2, 3, 4, 5, 6, 7));
+	}
+
+	@Test
+	public void minMaxKeepsOrderOfArrival() {
+		assertEquals(Arrays.asList("1", "2", "4", "5"), downsample(new MinMaxDownsampler<>(3), 5, 9, 1, 3, 0, 4));
+	}
+
+	@Test
+	public void minMaxOfConstantBucket() {
+		assertEquals(Arrays.asList("0"), downsample(new MinMaxDownsampler<>(3), 7, 7, 7));
+	}
+
+	@Test
+	public void lttbSelectsPeaks() {
+		List<String> selected = downsample(new LttbDownsampler<>(3), 0, 0, 10, 0, 0, 0, -10, 0, 0, 0, 0);
+
+		assertEquals(Arrays.asList("0", "2", "6"), selected);
+	}
+
+	@Test
+	public void lttbFlushSelectsPendingAndLastPoint() {
+		Downsampler<String> downsampler = new LttbDownsampler<>(3);
+		downsample(downsampler, 0, 0, 10, 0, 0, 0, -10, 0, 0, 0, 0);
+
+		assertEquals(Arrays.asList("7", "10"), downsampler.flush());
+		assertEquals(Arrays.asList(), downsampler.flush());
+	}
+
+	@Test
+	public void lttbFlushOfIncompleteBucket() {
+		Downsampler<String> downsampler = new LttbDownsampler<>(3);
+		downsample(downsampler, 0, 5, 7);
+
+		assertEquals(Arrays.asList("2"), downsampler.flush());
+		assertEquals(Arrays.asList(), downsampler.add(3, 1, "3"));
+	}
+
+	@Test
+	public void minMaxFlushClosesIncompleteBucket() {
+		Downsampler<String> downsampler = new MinMaxDownsampler<>(3);
+		downsample(downsampler, 5, 9, 1, 3, 0);
+
+		assertEquals(Arrays.asList("3", "4"), downsampler.flush());
+		assertEquals(Arrays.asList(), downsampler.flush());
+	}
+
+	@Test
+	public void everyNthFlushSelectsNothing() {
+		Downsampler<String> downsampler = new EveryNthDownsampler<>(3);
+		downsample(downsampler, 0, 1);
+
+		assertEquals(Arrays.asList(), downsampler.flush());
+	}
+
+	/**
+	 * Downsamples the given values at the times 0, 1, 2, ... and returns the
+	 * times of the selected points
+	 */
+	private static List<String> downsample(Downsampler<String> downsampler, double... values) {
+		List<String> selected = new ArrayList<>();
+
+		for (int i = 0; i < values.length; i++) {
+			selected.addAll(downsampler.add(i, values[i], String.valueOf(i)));
+		}
+
+		return selected;
+	}
+}
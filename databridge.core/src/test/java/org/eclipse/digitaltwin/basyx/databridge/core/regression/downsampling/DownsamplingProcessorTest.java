@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.regression.downsampling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.eclipse.digitaltwin.basyx.databridge.core.aggregate.IngestProperties;
+import org.eclipse.digitaltwin.basyx.databridge.core.downsampling.DownsamplingProcessor;
+import org.eclipse.digitaltwin.basyx.databridge.core.downsampling.LttbDownsampler;
+import org.eclipse.digitaltwin.basyx.databridge.core.downsampling.MinMaxDownsampler;
+import org.eclipse.digitaltwin.basyx.databridge.core.expression.KeyExpression;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the downsampling processor
+ *
+ */
+public class DownsamplingProcessorTest {
+	private static final String SEQUENCE_HEADER = "sequence";
+	private static final String INGEST_PROPERTY = "ingest";
+	private static final long IDLE_TIMEOUT = 1000;
+
+	private final CamelContext context = new DefaultCamelContext();
+
+	@Test
+	public void selectedMessagesKeepTheirHeadersAndProperties() throws Exception {
+		DownsamplingProcessor processor = createLttbProcessor(10);
+
+		List<Exchange> selected = process(processor, "device", 0, 5);
+
+		assertEquals(1, selected.size());
+		assertEquals("{\"id\":\"device\",\"value\":5.0}", selected.get(0).getMessage().getBody());
+		assertEquals(0, selected.get(0).getMessage().getHeader(SEQUENCE_HEADER));
+		assertEquals(0L, selected.get(0).getProperty(INGEST_PROPERTY));
+	}
+
+	@Test
+	public void messagesWithoutValueAreKept() throws Exception {
+		DownsamplingProcessor processor = createLttbProcessor(10);
+		Exchange exchange = createExchange("{\"id\":\"device\"}", 7);
+
+		processor.process(exchange);
+		List<Exchange> selected = restore(exchange);
+
+		assertEquals(1, selected.size());
+		assertEquals(7, selected.get(0).getMessage().getHeader(SEQUENCE_HEADER));
+		assertEquals(0, processor.getKeyCount());
+	}
+
+	@Test
+	public void idleSeriesIsFlushed() throws Exception {
+		DownsamplingProcessor processor = createLttbProcessor(10);
+
+		for (int i = 0; i < 5; i++)
+			process(processor, "device", i, i % 2);
+
+		assertTrue(processor.flushIdle(System.currentTimeMillis(), 60 * IDLE_TIMEOUT).isEmpty());
+
+		List<Exchange> flushed = restore(processor.flushIdle(System.currentTimeMillis() + IDLE_TIMEOUT, IDLE_TIMEOUT));
+
+		assertEquals(2, flushed.size());
+		assertEquals(4, flushed.get(1).getMessage().getHeader(SEQUENCE_HEADER));
+		assertEquals(4L, flushed.get(1).getProperty(INGEST_PROPERTY));
+		assertEquals(0, processor.getKeyCount());
+	}
+
+	@Test
+	public void leastRecentlyUpdatedSeriesIsFlushed() throws Exception {
+		DownsamplingProcessor processor = new DownsamplingProcessor(() -> new MinMaxDownsampler<>(3), KeyExpression.compile("$.id"), KeyExpression.compile("$.value"), null, 1);
+
+		process(processor, "first", 0, 1);
+		process(processor, "first", 1, 2);
+
+		List<Exchange> selected = process(processor, "second", 2, 3);
+
+		assertEquals(2, selected.size());
+		assertEquals(0, selected.get(0).getMessage().getHeader(SEQUENCE_HEADER));
+		assertEquals(1, selected.get(1).getMessage().getHeader(SEQUENCE_HEADER));
+		assertEquals(1, processor.getKeyCount());
+	}
+
+	@Test
+	public void selectedMessagesCarryNewestIngestTimestampOfTheirBucket() throws Exception {
+		DownsamplingProcessor processor = new DownsamplingProcessor(() -> new MinMaxDownsampler<>(3), KeyExpression.compile("$.id"), KeyExpression.compile("$.value"), null, 10);
+
+		process(processor, "device", 0, 1);
+		process(processor, "device", 1, 2);
+
+		List<Exchange> selected = process(processor, "device", 2, 3);
+
+		assertEquals(2, selected.size());
+		assertEquals(0, selected.get(0).getMessage().getHeader(SEQUENCE_HEADER));
+		assertEquals(2L, selected.get(0).getProperty(IngestProperties.INGEST_TIMESTAMP_PROPERTY));
+		assertEquals(2L, selected.get(1).getProperty(IngestProperties.INGEST_TIMESTAMP_PROPERTY));
+	}
+
+	@Test
+	public void flushedMessagesCarryNewestIngestTimestampOfTheirSeries() throws Exception {
+		DownsamplingProcessor processor = createLttbProcessor(10);
+
+		for (int i = 0; i < 5; i++)
+			process(processor, "device", i, i % 2);
+
+		List<Exchange> flushed = restore(processor.flushIdle(System.currentTimeMillis() + IDLE_TIMEOUT, IDLE_TIMEOUT));
+
+		assertEquals(2, flushed.size());
+		flushed.forEach(exchange -> assertEquals(4L, exchange.getProperty(IngestProperties.INGEST_TIMESTAMP_PROPERTY)));
+	}
+
+	private DownsamplingProcessor createLttbProcessor(int maxKeys) {
+		return new DownsamplingProcessor(() -> new LttbDownsampler<>(3), KeyExpression.compile("$.id"), KeyExpression.compile("$.value"), null, maxKeys);
+	}
+
+	private List<Exchange> process(DownsamplingProcessor processor, String id, int sequence, double value) throws Exception {
+		Exchange exchange = createExchange("{\"id\":\"" + id + "\",\"value\":" + value + "}", sequence);
+		processor.process(exchange);
+
+		return restore(exchange);
+	}
+
+	private Exchange createExchange(String body, int sequence) {
+		Exchange exchange = new DefaultExchange(context);
+		exchange.getMessage().setBody(body);
+		exchange.getMessage().setHeader(SEQUENCE_HEADER, sequence);
+		exchange.setProperty(INGEST_PROPERTY, (long) sequence);
+		exchange.setProperty(IngestProperties.INGEST_TIMESTAMP_PROPERTY, (long) sequence);
+
+		return exchange;
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Exchange> restore(Exchange exchange) {
+		return restore((List<Exchange>) exchange.getMessage().getBody());
+	}
+
+	/**
+	 * Restores the selected copies like the splitter of the route, which
+	 * passes each of them in a new exchange
+	 */
+	private List<Exchange> restore(List<Exchange> points) {
+		List<Exchange> restored = new ArrayList<>();
+
+		for (Exchange point : points) {
+			Exchange exchange = new DefaultExchange(context);
+			exchange.getMessage().setBody(point);
+			DownsamplingProcessor.restore(exchange);
+			restored.add(exchange);
+		}
+
+		return restored;
+	}
+}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.regression.expression;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.eclipse.digitaltwin.basyx.databridge.core.expression.KeyExpression;
+import org.eclipse.digitaltwin.basyx.databridge.core.expression.LaneExpression;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the key and lane expressions of partitioned routes
+ *
+ */
+public class LaneExpressionTest {
+	private static final int LANES = 4;
+
+	private final CamelContext context = new DefaultCamelContext();
+
+	@Test
+	public void jsonPathKey() {
+		KeyExpression key = KeyExpression.compile("$.device.id");
+
+		assertEquals("press-1", key.evaluate(createExchange("{\"device\":{\"id\":\"press-1\"}}")));
+		assertNull(key.evaluate(createExchange("{\"device\":{}}")));
+		assertNull(key.evaluate(createExchange("not json {")));
+	}
+
+	@Test
+	public void headerKey() {
+		Exchange exchange = createExchange("{}");
+		exchange.getMessage().setHeader("deviceId", "press-2");
+
+		assertEquals("press-2", KeyExpression.compile("header:deviceId").evaluate(exchange));
+	}
+
+	@Test
+	public void bodyKey() {
+		assertEquals("42", KeyExpression.compile("body").evaluate(createExchange("42")));
+	}
+
+	@Test
+	public void emptyKeyDefinition() {
+		assertThrows(IllegalArgumentException.class, () -> KeyExpression.compile(" "));
+	}
+
+	@Test
+	public void sameKeySameLane() {
+		LaneExpression lane = new LaneExpression(KeyExpression.compile("$.id"), LANES);
+
+		for (int i = 0; i < 100; i++) {
+			String body = "{\"id\":\"device-" + i + "\",\"value\":" + i + "}";
+			String otherBody = "{\"id\":\"device-" + i + "\",\"value\":" + (i + 1) + "}";
+
+			assertEquals(lane.evaluate(createExchange(body)), lane.evaluate(createExchange(otherBody)));
+		}
+	}
+
+	@Test
+	public void keysSpreadOverAllLanes() {
+		LaneExpression lane = new LaneExpression(KeyExpression.compile("$.id"), LANES);
+		Set<Object> usedLanes = new HashSet<>();
+
+		for (int i = 0; i < 100; i++) {
+			int assignedLane = (Integer) lane.evaluate(createExchange("{\"id\":\"device-" + i + "\"}"));
+
+			assertTrue(assignedLane >= 0 && assignedLane < LANES);
+			usedLanes.add(assignedLane);
+		}
+
+		assertEquals(LANES, usedLanes.size());
+	}
+
+	@Test
+	public void missingKeyUsesFirstLane() {
+		LaneExpression lane = new LaneExpression(KeyExpression.compile("$.id"), LANES);
+
+		assertEquals(0, lane.evaluate(createExchange("{}")));
+	}
+
+	@Test
+	public void invalidLaneCount() {
+		assertThrows(IllegalArgumentException.class, () -> new LaneExpression(KeyExpression.compile("$.id"), 0));
+	}
+
+	private Exchange createExchange(String body) {
+		Exchange exchange = new DefaultExchange(context);
+		exchange.getMessage().setBody(body);
+
+		return exchange;
+	}
+}
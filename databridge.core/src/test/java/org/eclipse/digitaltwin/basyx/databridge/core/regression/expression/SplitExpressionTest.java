@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.regression.expression;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.eclipse.digitaltwin.basyx.databridge.core.expression.SplitExpression;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonParseException;
+
+/**
+ * Test class for the split expression
+ *
+ */
+public class SplitExpressionTest {
+	private final CamelContext context = new DefaultCamelContext();
+	private final SplitExpression split = new SplitExpression();
+
+	@Test
+	public void splitJsonArray() {
+		assertEquals(Arrays.asList("1", "{\"a\":2}", "\"x\""), collect(split.evaluate(createExchange("[1,{\"a\":2},\"x\"]"))));
+	}
+
+	@Test
+	public void emptyJsonArray() {
+		assertFalse(((Iterator<?>) split.evaluate(createExchange("[]"))).hasNext());
+	}
+
+	@Test
+	public void otherBodyIsSingleElement() {
+		assertEquals(Arrays.asList("{\"a\":1}"), collect(split.evaluate(createExchange("{\"a\":1}"))));
+		assertEquals(Arrays.asList("not json {"), collect(split.evaluate(createExchange("not json {"))));
+	}
+
+	@Test
+	public void collectionIsSplitAsItIs() {
+		List<String> rows = Arrays.asList("first", "second");
+
+		assertSame(rows, split.evaluate(createExchange(rows)));
+	}
+
+	@Test
+	public void malformedElementFails() {
+		Iterator<?> elements = (Iterator<?>) split.evaluate(createExchange("[1,{\"a\":}]"));
+
+		assertEquals("1", elements.next());
+		assertThrows(JsonParseException.class, elements::next);
+	}
+
+	private static List<Object> collect(Object elements) {
+		List<Object> collected = new ArrayList<>();
+		Iterator<?> iterator = elements instanceof Iterator ? (Iterator<?>) elements : ((Iterable<?>) elements).iterator();
+		iterator.forEachRemaining(collected::add);
+
+		return collected;
+	}
+
+	private Exchange createExchange(Object body) {
+		Exchange exchange = new DefaultExchange(context);
+		exchange.getMessage().setBody(body);
+
+		return exchange;
+	}
+}
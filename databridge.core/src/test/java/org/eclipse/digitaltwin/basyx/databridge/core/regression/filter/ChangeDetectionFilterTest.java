@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.regression.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.eclipse.digitaltwin.basyx.databridge.core.expression.KeyExpression;
+import org.eclipse.digitaltwin.basyx.databridge.core.filter.ChangeDetectionFilter;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the change detection of datasinks
+ *
+ */
+public class ChangeDetectionFilterTest {
+	private final CamelContext context = new DefaultCamelContext();
+
+	@Test
+	public void filtersUnchangedValue() {
+		ChangeDetectionFilter filter = createFilter(0);
+
+		assertTrue(write(filter, "{\"id\":\"a\",\"value\":20}"));
+		assertFalse(write(filter, "{\"id\":\"a\",\"value\":20}"));
+		assertTrue(write(filter, "{\"id\":\"a\",\"value\":21}"));
+
+		assertEquals(1, filter.getHitCount());
+		assertEquals(2, filter.getMissCount());
+	}
+
+	@Test
+	public void comparesAsJson() {
+		ChangeDetectionFilter filter = createFilter(0);
+
+		assertTrue(write(filter, "{\"id\":\"a\",\"value\":20}"));
+		assertFalse(write(filter, "{ \"id\" : \"a\", \"value\" : 20.0 }"));
+	}
+
+	@Test
+	public void cachesValuesPerKey() {
+		ChangeDetectionFilter filter = createFilter(0);
+
+		assertTrue(write(filter, "{\"id\":\"a\",\"value\":20}"));
+		assertTrue(write(filter, "{\"id\":\"b\",\"value\":20}"));
+		assertFalse(write(filter, "{\"id\":\"a\",\"value\":20}"));
+		assertFalse(write(filter, "{\"id\":\"b\",\"value\":20}"));
+	}
+
+	@Test
+	public void cachesOnlyWrittenValues() {
+		ChangeDetectionFilter filter = createFilter(0);
+		Exchange failedWrite = createExchange("{\"id\":\"a\",\"value\":20}");
+
+		assertTrue(filter.matches(failedWrite));
+		assertTrue(write(filter, "{\"id\":\"a\",\"value\":20}"));
+	}
+
+	@Test
+	public void writesUnchangedValueAfterRefreshInterval() throws InterruptedException {
+		ChangeDetectionFilter filter = createFilter(50);
+
+		assertTrue(write(filter, "{\"id\":\"a\",\"value\":20}"));
+		assertFalse(write(filter, "{\"id\":\"a\",\"value\":20}"));
+
+		Thread.sleep(60);
+
+		assertTrue(write(filter, "{\"id\":\"a\",\"value\":20}"));
+	}
+
+	@Test
+	public void messagesWithoutKey() {
+		ChangeDetectionFilter filter = createFilter(0);
+
+		assertTrue(write(filter, "plain text"));
+		assertFalse(write(filter, "plain text"));
+		assertTrue(write(filter, "other text"));
+	}
+
+	private boolean write(ChangeDetectionFilter filter, String body) {
+		Exchange exchange = createExchange(body);
+
+		if (!filter.matches(exchange))
+			return false;
+
+		filter.onWritten(exchange);
+
+		return true;
+	}
+
+	private static ChangeDetectionFilter createFilter(long refreshInterval) {
+		return new ChangeDetectionFilter(KeyExpression.compile("$.id"), refreshInterval);
+	}
+
+	private Exchange createExchange(String body) {
+		Exchange exchange = new DefaultExchange(context);
+		exchange.getMessage().setBody(body);
+
+		return exchange;
+	}
+}
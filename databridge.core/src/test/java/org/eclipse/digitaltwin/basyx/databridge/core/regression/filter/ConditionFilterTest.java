@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.regression.filter;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.ConditionConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.filter.ConditionFilter;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the condition filter
+ *
+ */
+public class ConditionFilterTest {
+	private final CamelContext context = new DefaultCamelContext();
+
+	@Test
+	public void jsonFieldEquals() {
+		ConditionFilter filter = compile("$.status", ConditionConfiguration.EQUALS, "active");
+
+		assertTrue(filter.matches(createExchange("{\"status\":\"active\"}")));
+		assertFalse(filter.matches(createExchange("{\"status\":\"idle\"}")));
+		assertFalse(filter.matches(createExchange("not json {")));
+	}
+
+	@Test
+	public void headerMatches() {
+		ConditionFilter filter = compile("header:topic", ConditionConfiguration.MATCHES, "plant1/.*");
+		Exchange exchange = createExchange("{}");
+		exchange.getMessage().setHeader("topic", "plant1/press");
+
+		assertTrue(filter.matches(exchange));
+		assertFalse(filter.matches(createExchange("{}")));
+	}
+
+	@Test
+	public void numericComparison() {
+		ConditionFilter filter = compile("$.temperature", ConditionConfiguration.GREATER_THAN, "80");
+
+		assertTrue(filter.matches(createExchange("{\"temperature\":80.5}")));
+		assertFalse(filter.matches(createExchange("{\"temperature\":80}")));
+		assertFalse(filter.matches(createExchange("{\"temperature\":\"hot\"}")));
+	}
+
+	@Test
+	public void allConditionsMustMatch() {
+		ConditionFilter filter = ConditionFilter.compile(Arrays.asList(createCondition("$.status", ConditionConfiguration.EQUALS, "active"), createCondition("$.temperature", ConditionConfiguration.LESS_OR_EQUAL, "80")));
+
+		assertTrue(filter.matches(createExchange("{\"status\":\"active\",\"temperature\":80}")));
+		assertFalse(filter.matches(createExchange("{\"status\":\"active\",\"temperature\":81}")));
+	}
+
+	@Test
+	public void jsonNullIsAbsent() {
+		String body = "{\"status\":null}";
+
+		assertFalse(compile("$.status", ConditionConfiguration.EXISTS, null).matches(createExchange(body)));
+		assertTrue(compile("$.status", ConditionConfiguration.NOT_EXISTS, null).matches(createExchange(body)));
+		assertFalse(compile("$.status", ConditionConfiguration.EQUALS, "null").matches(createExchange(body)));
+	}
+
+	@Test
+	public void malformedCondition() {
+		assertThrows(IllegalArgumentException.class, () -> compile(" ", ConditionConfiguration.EXISTS, null));
+		assertThrows(IllegalArgumentException.class, () -> compile("$.status", null, "active"));
+		assertThrows(IllegalArgumentException.class, () -> compile("$.status", "between", "active"));
+		assertThrows(IllegalArgumentException.class, () -> compile("$.status", ConditionConfiguration.CONTAINS, null));
+		assertThrows(IllegalArgumentException.class, () -> compile("$.temperature", ConditionConfiguration.GREATER_THAN, "hot"));
+	}
+
+	private static ConditionFilter compile(String field, String operator, String value) {
+		return ConditionFilter.compile(Arrays.asList(createCondition(field, operator, value)));
+	}
+
+	private static ConditionConfiguration createCondition(String field, String operator, String value) {
+		ConditionConfiguration condition = new ConditionConfiguration();
+		condition.setField(field);
+		condition.setOperator(operator);
+		condition.setValue(value);
+
+		return condition;
+	}
+
+	private Exchange createExchange(String body) {
+		Exchange exchange = new DefaultExchange(context);
+		exchange.getMessage().setBody(body);
+
+		return exchange;
+	}
+}
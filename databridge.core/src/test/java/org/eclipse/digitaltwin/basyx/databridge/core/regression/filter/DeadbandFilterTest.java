@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.databridge.core.regression.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.eclipse.digitaltwin.basyx.databridge.core.expression.KeyExpression;
+import org.eclipse.digitaltwin.basyx.databridge.core.filter.DeadbandFilter;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the numeric deadband filter
+ */
+public class DeadbandFilterTest {
+	private static final String KEY = "sensor";
+	private static final int MAX_KEYS = 100;
+
+	private final CamelContext context = new DefaultCamelContext();
+
+	@Test
+	public void absoluteDeadband() {
+		DeadbandFilter filter = new DeadbandFilter(null, null, 0.5, 0, 0, MAX_KEYS);
+
+		assertTrue(filter.accept(KEY, 20.0, 0));
+		assertFalse(filter.accept(KEY, 20.4, 1));
+		assertFalse(filter.accept(KEY, 19.6, 2));
+		assertTrue(filter.accept(KEY, 20.5, 3));
+		assertFalse(filter.accept(KEY, 20.9, 4));
+	}
+
+	@Test
+	public void percentDeadband() {
+		DeadbandFilter filter = new DeadbandFilter(null, null, 0, 10, 0, MAX_KEYS);
+
+		assertTrue(filter.accept(KEY, 100, 0));
+		assertFalse(filter.accept(KEY, 109, 1));
+		assertTrue(filter.accept(KEY, 110, 2));
+		assertFalse(filter.accept(KEY, 120, 3));
+	}
+
+	@Test
+	public void combinedDeadbandRequiresBoth() {
+		DeadbandFilter filter = new DeadbandFilter(null, null, 1, 10, 0, MAX_KEYS);
+
+		assertTrue(filter.accept(KEY, 0, 0));
+		assertFalse(filter.accept(KEY, 0.5, 1));
+		assertTrue(filter.accept(KEY, 1, 2));
+	}
+
+	@Test
+	public void heartbeat() {
+		DeadbandFilter filter = new DeadbandFilter(null, null, 5, 0, 1000, MAX_KEYS);
+
+		assertTrue(filter.accept(KEY, 20, 0));
+		assertFalse(filter.accept(KEY, 21, 999));
+		assertTrue(filter.accept(KEY, 21, 1000));
+		assertFalse(filter.accept(KEY, 22, 1500));
+	}
+
+	@Test
+	public void separateReferencePerKey() {
+		DeadbandFilter filter = new DeadbandFilter(null, null, 1, 0, 0, MAX_KEYS);
+
+		assertTrue(filter.accept("first", 10, 0));
+		assertTrue(filter.accept("second", 10.5, 1));
+		assertFalse(filter.accept("first", 10.5, 2));
+	}
+
+	@Test
+	public void leastRecentlyUsedKeyIsDropped() {
+		DeadbandFilter filter = new DeadbandFilter(null, null, 1, 0, 0, 2);
+
+		assertTrue(filter.accept("first", 10, 0));
+		assertTrue(filter.accept("second", 10, 1));
+		assertFalse(filter.accept("first", 10.5, 2));
+		assertTrue(filter.accept("third", 10, 3));
+
+		assertEquals(2, filter.getKeyCount());
+		assertFalse(filter.accept("first", 10.5, 4));
+		assertTrue(filter.accept("second", 10.5, 5));
+	}
+
+	@Test
+	public void bodyIsParsedOnceForKeyAndValue() {
+		DeadbandFilter filter = new DeadbandFilter(KeyExpression.compile("$.sensorId"), KeyExpression.compile("$.temperature"), 1, 0, 0, MAX_KEYS);
+		CountingBody body = new CountingBody("{\"sensorId\":\"first\",\"temperature\":20}");
+
+		Exchange exchange = new DefaultExchange(context);
+		exchange.getMessage().setBody(body);
+
+		assertTrue(filter.matches(exchange));
+		assertEquals(1, body.conversions);
+		assertFalse(filter.accept("first", 20.5, System.currentTimeMillis()));
+	}
+
+	/**
+	 * A body counting its conversions to string
+	 */
+	private static class CountingBody {
+		private final String json;
+		private int conversions;
+
+		private CountingBody(String json) {
+			this.json = json;
+		}
+
+		@Override
+		public String toString() {
+			conversions++;
+			return json;
+		}
+	}
+}
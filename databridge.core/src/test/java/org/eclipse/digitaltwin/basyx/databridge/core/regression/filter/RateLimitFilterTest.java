@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.regression.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.digitaltwin.basyx.databridge.core.filter.RateLimitFilter;
+import org.eclipse.digitaltwin.basyx.databridge.core.util.TokenBucket;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the rate limit filter
+ *
+ */
+public class RateLimitFilterTest {
+
+	@Test
+	public void dropsAndCountsExcessMessages() {
+		RateLimitFilter filter = new RateLimitFilter("rateLimit:test", new TokenBucket(0.001, 2, System.nanoTime()), true);
+
+		assertTrue(filter.matches(null));
+		assertTrue(filter.matches(null));
+		assertFalse(filter.matches(null));
+		assertFalse(filter.matches(null));
+
+		assertEquals(2, filter.getDroppedCount());
+	}
+
+	@Test
+	public void delaysExcessMessages() {
+		RateLimitFilter filter = new RateLimitFilter("rateLimit:test", new TokenBucket(20, 1, System.nanoTime()), false);
+		long start = System.nanoTime();
+
+		assertTrue(filter.matches(null));
+		assertTrue(filter.matches(null));
+		assertTrue(filter.matches(null));
+
+		assertTrue(System.nanoTime() - start >= 90_000_000L);
+		assertEquals(0, filter.getDroppedCount());
+	}
+
+	@Test
+	public void sharedBucketLimitsAllFilters() {
+		TokenBucket tokenBucket = new TokenBucket(0.001, 2, System.nanoTime());
+		RateLimitFilter first = new RateLimitFilter("rateLimit:sink", tokenBucket, true);
+		RateLimitFilter second = new RateLimitFilter("rateLimit:sink", tokenBucket, true);
+
+		assertTrue(first.matches(null));
+		assertTrue(second.matches(null));
+		assertFalse(first.matches(null));
+		assertFalse(second.matches(null));
+	}
+}
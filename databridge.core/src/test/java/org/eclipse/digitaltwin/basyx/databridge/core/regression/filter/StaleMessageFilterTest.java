@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.regression.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.eclipse.digitaltwin.basyx.databridge.core.filter.StaleMessageFilter;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the filter dropping stale messages
+ *
+ */
+public class StaleMessageFilterTest {
+	private static final String INGEST_PROPERTY = "ingest";
+	private static final long MAX_AGE = 1000;
+
+	private final CamelContext context = new DefaultCamelContext();
+	private final StaleMessageFilter filter = new StaleMessageFilter(INGEST_PROPERTY, MAX_AGE);
+
+	@Test
+	public void freshMessagePasses() {
+		assertTrue(filter.matches(createExchange(System.currentTimeMillis())));
+		assertEquals(0, filter.getDroppedCount());
+	}
+
+	@Test
+	public void staleMessageIsDropped() {
+		assertFalse(filter.matches(createExchange(System.currentTimeMillis() - 2 * MAX_AGE)));
+		assertFalse(filter.matches(createExchange(System.currentTimeMillis() - 3 * MAX_AGE)));
+		assertEquals(2, filter.getDroppedCount());
+	}
+
+	@Test
+	public void messageWithoutIngestTimestampPasses() {
+		assertTrue(filter.matches(new DefaultExchange(context)));
+		assertEquals(0, filter.getDroppedCount());
+	}
+
+	private Exchange createExchange(long ingestTimestamp) {
+		Exchange exchange = new DefaultExchange(context);
+		exchange.setProperty(INGEST_PROPERTY, ingestTimestamp);
+
+		return exchange;
+	}
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.regression.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangeTimedOutException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.eclipse.digitaltwin.basyx.databridge.core.processor.TimeLimitedSendProcessor;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the write timeout of datasinks
+ *
+ */
+public class TimeLimitedSendProcessorTest extends CamelTestSupport {
+	private static final long TIMEOUT = 200;
+	private static final long STUCK_WRITE_DURATION = 2000;
+
+	private final CountDownLatch sleeping = new CountDownLatch(1);
+	private final CountDownLatch interrupted = new CountDownLatch(1);
+
+	@Override
+	protected RouteBuilder createRouteBuilder() {
+		return new RouteBuilder() {
+			@Override
+			public void configure() {
+				from("direct:fastSink").setHeader("written", constant(true))
+						.to("mock:written");
+				from("direct:stuckSink").delay(STUCK_WRITE_DURATION)
+						.to("mock:written");
+				from("direct:failingSink").throwException(new IllegalStateException("sink failure"));
+				from("direct:sleepingSink").process(exchange -> sleepUntilInterrupted());
+
+				from("direct:writeFast").process(new TimeLimitedSendProcessor(getContext(), "direct:fastSink", TIMEOUT));
+				from("direct:writeStuck").process(new TimeLimitedSendProcessor(getContext(), "direct:stuckSink", TIMEOUT));
+				from("direct:writeFailing").process(new TimeLimitedSendProcessor(getContext(), "direct:failingSink", TIMEOUT));
+				from("direct:writeSleeping").process(new TimeLimitedSendProcessor(getContext(), "direct:sleepingSink", TIMEOUT));
+			}
+		};
+	}
+
+	@Test
+	public void writesWithinTimeout() throws InterruptedException {
+		MockEndpoint written = getMockEndpoint("mock:written");
+		written.expectedBodiesReceived("42");
+
+		Exchange result = template.send("direct:writeFast", exchange -> exchange.getMessage().setBody("42"));
+
+		written.assertIsSatisfied();
+		assertNull(result.getException());
+		assertEquals(true, result.getMessage().getHeader("written"));
+	}
+
+	@Test
+	public void failsStuckWriteAfterTimeout() {
+		long start = System.currentTimeMillis();
+
+		Exchange result = template.send("direct:writeStuck", exchange -> exchange.getMessage().setBody("42"));
+
+		assertTrue(result.getException() instanceof ExchangeTimedOutException);
+		assertTrue(System.currentTimeMillis() - start < STUCK_WRITE_DURATION);
+	}
+
+	@Test
+	public void propagatesFailedWrite() {
+		Exchange result = template.send("direct:writeFailing", exchange -> exchange.getMessage().setBody("42"));
+
+		assertTrue(result.getException() instanceof IllegalStateException);
+		assertEquals("sink failure", result.getException().getMessage());
+	}
+
+	@Test
+	public void interruptsStuckWriteAfterTimeout() throws InterruptedException {
+		Exchange result = template.send("direct:writeSleeping", exchange -> exchange.getMessage().setBody("42"));
+
+		assertTrue(result.getException() instanceof ExchangeTimedOutException);
+		assertTrue(interrupted.await(STUCK_WRITE_DURATION, TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	public void stopInterruptsRunningWrites() throws Exception {
+		TimeLimitedSendProcessor processor = new TimeLimitedSendProcessor(context, "direct:sleepingSink", STUCK_WRITE_DURATION * 2);
+		processor.start();
+
+		Thread writer = new Thread(() -> {
+			try {
+				processor.process(createExchangeWithBody("42"));
+			} catch (Exception e) {
+				// the write fails once it is interrupted
+			}
+		});
+		writer.start();
+
+		assertTrue(sleeping.await(STUCK_WRITE_DURATION, TimeUnit.MILLISECONDS));
+		processor.stop();
+
+		assertTrue(interrupted.await(STUCK_WRITE_DURATION, TimeUnit.MILLISECONDS));
+		assertTrue(processor.isStopped());
+		writer.join(STUCK_WRITE_DURATION * 2);
+	}
+
+	private void sleepUntilInterrupted() throws InterruptedException {
+		sleeping.countDown();
+
+		try {
+			Thread.sleep(STUCK_WRITE_DURATION * 2);
+		} catch (InterruptedException e) {
+			interrupted.countDown();
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.regression.queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.digitaltwin.basyx.databridge.core.queue.ConflatingBlockingQueue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the queue of conflating datasinks
+ *
+ */
+public class ConflatingBlockingQueueTest {
+
+	@Test
+	public void keepsLatestElementPerKey() {
+		ConflatingBlockingQueue<String> queue = createQueue();
+
+		queue.offer("a=1");
+		queue.offer("b=1");
+		queue.offer("a=2");
+		queue.offer("a=3");
+
+		assertEquals(Arrays.asList("a=3", "b=1"), drain(queue));
+		assertEquals(2, queue.getConflatedCount());
+	}
+
+	@Test
+	public void replacedElementKeepsPosition() {
+		ConflatingBlockingQueue<String> queue = createQueue();
+
+		queue.offer("a=1");
+		queue.offer("b=1");
+		queue.offer("c=1");
+		queue.offer("b=2");
+
+		assertEquals("a=1", queue.poll());
+		assertEquals("b=2", queue.poll());
+		assertEquals("c=1", queue.poll());
+		assertNull(queue.poll());
+	}
+
+	@Test
+	public void keyIsPendingAgainAfterTake() throws InterruptedException {
+		ConflatingBlockingQueue<String> queue = createQueue();
+
+		queue.offer("a=1");
+		assertEquals("a=1", queue.take());
+
+		queue.offer("a=2");
+
+		assertEquals(1, queue.size());
+		assertEquals("a=2", queue.peek());
+		assertEquals(0, queue.getConflatedCount());
+	}
+
+	@Test
+	public void timedPollReturnsNullWhenEmpty() throws InterruptedException {
+		assertNull(createQueue().poll(10, TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	public void takeWaitsForOffer() throws InterruptedException {
+		ConflatingBlockingQueue<String> queue = createQueue();
+		AtomicReference<String> taken = new AtomicReference<>();
+
+		Thread consumer = new Thread(() -> {
+			try {
+				taken.set(queue.take());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		consumer.start();
+
+		queue.offer("a=1");
+		consumer.join(5000);
+
+		assertEquals("a=1", taken.get());
+	}
+
+	@Test
+	public void drainToRespectsMaximum() {
+		ConflatingBlockingQueue<String> queue = createQueue();
+
+		queue.offer("a=1");
+		queue.offer("b=1");
+		queue.offer("c=1");
+
+		List<String> drained = new ArrayList<>();
+
+		assertEquals(2, queue.drainTo(drained, 2));
+		assertEquals(Arrays.asList("a=1", "b=1"), drained);
+		assertEquals(1, queue.size());
+	}
+
+	@Test
+	public void rejectsNull() {
+		assertThrows(NullPointerException.class, () -> createQueue().offer(null));
+	}
+
+	private static ConflatingBlockingQueue<String> createQueue() {
+		return new ConflatingBlockingQueue<>(element -> element.substring(0, element.indexOf('=')));
+	}
+
+	private static List<String> drain(ConflatingBlockingQueue<String> queue) {
+		List<String> elements = new ArrayList<>();
+		queue.drainTo(elements);
+
+		return elements;
+	}
+}
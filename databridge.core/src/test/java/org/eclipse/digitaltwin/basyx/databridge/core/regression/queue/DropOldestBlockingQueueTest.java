@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.regression.queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.digitaltwin.basyx.databridge.core.queue.DropOldestBlockingQueue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the queue of staging queues and bulkheads dropping their
+ * oldest messages
+ *
+ */
+public class DropOldestBlockingQueueTest {
+
+	@Test
+	public void keepsNewestElementsWhenFull() {
+		DropOldestBlockingQueue<Integer> queue = new DropOldestBlockingQueue<>(3);
+
+		for (int i = 1; i <= 5; i++)
+			assertTrue(queue.offer(i));
+
+		assertEquals(Arrays.asList(3, 4, 5), drain(queue));
+		assertEquals(2, queue.getDroppedCount());
+	}
+
+	@Test
+	public void doesNotDropBelowCapacity() {
+		DropOldestBlockingQueue<Integer> queue = new DropOldestBlockingQueue<>(3);
+
+		queue.offer(1);
+		queue.offer(2);
+
+		assertEquals(Arrays.asList(1, 2), drain(queue));
+		assertEquals(0, queue.getDroppedCount());
+	}
+
+	@Test
+	public void putAndTimedOfferNeverBlock() throws InterruptedException {
+		DropOldestBlockingQueue<Integer> queue = new DropOldestBlockingQueue<>(1);
+
+		queue.put(1);
+		queue.put(2);
+		assertTrue(queue.offer(3, 1, TimeUnit.DAYS));
+
+		assertEquals(Arrays.asList(3), drain(queue));
+		assertEquals(2, queue.getDroppedCount());
+	}
+
+	@Test
+	public void concurrentProducers() throws InterruptedException {
+		int capacity = 10;
+		int producers = 4;
+		int elementsPerProducer = 1000;
+		DropOldestBlockingQueue<Integer> queue = new DropOldestBlockingQueue<>(capacity);
+
+		List<Thread> threads = new ArrayList<>();
+
+		for (int p = 0; p < producers; p++) {
+			Thread thread = new Thread(() -> {
+				for (int i = 0; i < elementsPerProducer; i++)
+					queue.offer(i);
+			});
+			threads.add(thread);
+			thread.start();
+		}
+
+		for (Thread thread : threads)
+			thread.join();
+
+		assertEquals(capacity, queue.size());
+		assertEquals(producers * elementsPerProducer - capacity, queue.getDroppedCount());
+	}
+
+	private static List<Integer> drain(DropOldestBlockingQueue<Integer> queue) {
+		List<Integer> elements = new ArrayList<>();
+		queue.drainTo(elements);
+
+		return elements;
+	}
+}
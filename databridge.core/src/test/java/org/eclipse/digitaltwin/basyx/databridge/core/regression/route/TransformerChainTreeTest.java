@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.regression.route;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core.TransformerChainTree;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the prefix tree of the transformer chains of mapped datasinks
+ *
+ */
+public class TransformerChainTreeTest {
+
+	@Test
+	public void sharedPrefixIsOneNode() {
+		Map<String, String[]> mapping = new LinkedHashMap<>();
+		mapping.put("sinkA", new String[] { "normalize", "toAas" });
+		mapping.put("sinkB", new String[] { "normalize", "toMqtt" });
+		mapping.put("sinkC", new String[] { "normalize" });
+
+		TransformerChainTree root = TransformerChainTree.build(mapping);
+
+		assertEquals(Collections.singleton("normalize"), root.getChildren().keySet());
+		assertTrue(root.getDataSinks().isEmpty());
+		assertEquals(1, root.getBranchCount());
+
+		TransformerChainTree normalize = root.getChildren().get("normalize");
+		assertEquals(Arrays.asList("toAas", "toMqtt"), Arrays.asList(normalize.getChildren().keySet().toArray()));
+		assertEquals(Collections.singletonList("sinkC"), normalize.getDataSinks());
+		assertEquals(3, normalize.getBranchCount());
+		assertEquals(Arrays.asList("sinkC", "sinkA", "sinkB"), root.getAllDataSinks());
+	}
+
+	@Test
+	public void disjointChainsAreSeparateBranches() {
+		Map<String, String[]> mapping = new LinkedHashMap<>();
+		mapping.put("sinkA", new String[] { "toAas", "compress" });
+		mapping.put("sinkB", new String[] { "toMqtt", "compress" });
+
+		TransformerChainTree root = TransformerChainTree.build(mapping);
+
+		assertEquals(2, root.getBranchCount());
+		assertEquals(Collections.singletonList("sinkA"), root.getChildren().get("toAas").getChildren().get("compress").getDataSinks());
+		assertEquals(Collections.singletonList("sinkB"), root.getChildren().get("toMqtt").getChildren().get("compress").getDataSinks());
+	}
+
+	@Test
+	public void identicalChainsEndInOneNode() {
+		Map<String, String[]> mapping = new LinkedHashMap<>();
+		mapping.put("sinkA", new String[] { "normalize" });
+		mapping.put("sinkB", new String[] { "normalize" });
+
+		TransformerChainTree normalize = TransformerChainTree.build(mapping).getChildren().get("normalize");
+
+		assertTrue(normalize.getChildren().isEmpty());
+		assertEquals(Arrays.asList("sinkA", "sinkB"), normalize.getDataSinks());
+	}
+
+	@Test
+	public void datasinksWithoutTransformersAreAtTheRoot() {
+		Map<String, String[]> mapping = new LinkedHashMap<>();
+		mapping.put("sinkA", new String[0]);
+		mapping.put("sinkB", new String[] { "normalize" });
+
+		TransformerChainTree root = TransformerChainTree.build(mapping);
+
+		assertEquals(Collections.singletonList("sinkA"), root.getDataSinks());
+		assertEquals(2, root.getBranchCount());
+	}
+}
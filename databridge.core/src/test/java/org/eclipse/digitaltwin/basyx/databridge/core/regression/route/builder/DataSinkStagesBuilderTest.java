@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.regression.route.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.builder.DataSinkStagesBuilder;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.builder.StageSupport;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.BulkheadConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.ConflationConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.DataSinkStagesConfiguration;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the routes of datasinks with stages
+ *
+ */
+public class DataSinkStagesBuilderTest extends CamelTestSupport {
+	private static final long TIMEOUT_SECONDS = 5;
+
+	@Test
+	public void slowBulkheadedSinkDoesNotBlockOtherSinks() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+
+		DataSinkStagesConfiguration slowStages = new DataSinkStagesConfiguration();
+		slowStages.setBulkhead(new BulkheadConfiguration());
+
+		context.addRoutes(new RouteBuilder() {
+			@Override
+			public void configure() {
+				DataSinkStagesBuilder dataSinkStages = new DataSinkStagesBuilder(new StageSupport(this), null);
+				String slow = dataSinkStages.configure("slow", "direct:slowSink", slowStages);
+				String fast = dataSinkStages.configure("fast", "mock:fast", new DataSinkStagesConfiguration());
+
+				from("direct:in").to(slow, fast);
+				from("direct:slowSink").process(exchange -> release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS))
+						.to("mock:slow");
+			}
+		});
+
+		MockEndpoint fast = getMockEndpoint("mock:fast");
+		fast.expectedBodiesReceived("1", "2", "3");
+		MockEndpoint slow = getMockEndpoint("mock:slow");
+		slow.expectedBodiesReceived("1", "2", "3");
+
+		for (int i = 1; i <= 3; i++)
+			template.sendBody("direct:in", String.valueOf(i));
+
+		fast.assertIsSatisfied(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+		assertEquals(0, slow.getReceivedCounter());
+
+		release.countDown();
+
+		slow.assertIsSatisfied(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+	}
+
+	@Test
+	public void conflationAndBulkheadAreExclusive() {
+		DataSinkStagesConfiguration stages = new DataSinkStagesConfiguration();
+		stages.setConflation(new ConflationConfiguration());
+		stages.setBulkhead(new BulkheadConfiguration());
+
+		RouteBuilder routeBuilder = new RouteBuilder(context) {
+			@Override
+			public void configure() {
+			}
+		};
+
+		assertThrows(IllegalArgumentException.class, () -> new DataSinkStagesBuilder(new StageSupport(routeBuilder), null).configure("sink", "mock:sink", stages));
+	}
+}
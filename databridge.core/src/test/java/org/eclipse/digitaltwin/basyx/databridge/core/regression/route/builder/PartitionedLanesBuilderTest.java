@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.regression.route.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.builder.PartitionedLanesBuilder;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.builder.StageSupport;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.PartitionConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.expression.KeyExpression;
+import org.eclipse.digitaltwin.basyx.databridge.core.expression.LaneExpression;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the lanes of partitioned routes
+ *
+ */
+public class PartitionedLanesBuilderTest extends CamelTestSupport {
+	private static final String KEY = "header:device";
+	private static final int LANES = 4;
+	private static final long TIMEOUT_SECONDS = 5;
+
+	private final Map<String, List<String>> threads = new ConcurrentHashMap<>();
+
+	@Test
+	public void sameKeyKeepsOrderOnOneLane() throws Exception {
+		addLanes(exchange -> Thread.sleep((long) (Math.random() * 3)));
+
+		List<String> devices = IntStream.range(0, 8)
+				.mapToObj(i -> "device-" + i)
+				.collect(Collectors.toList());
+
+		Object[] sequence = IntStream.range(0, 25)
+				.boxed()
+				.toArray();
+
+		for (String device : devices)
+			getMockEndpoint("mock:" + device).expectedBodiesReceived(sequence);
+
+		for (int i = 0; i < 25; i++)
+			for (String device : devices)
+				template.sendBodyAndHeader("direct:in", i, "device", device);
+
+		MockEndpoint.assertIsSatisfied(context, TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+		for (String device : devices)
+			assertEquals(1, threads.get(device)
+					.stream()
+					.distinct()
+					.count());
+
+		for (int lane = 0; lane < LANES; lane++)
+			assertNotNull(context.getRoute("route-lane-" + lane));
+	}
+
+	@Test
+	public void blockedLaneDoesNotBlockOtherLanes() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		String blocked = "device-0";
+		String other = findDeviceOnOtherLane(blocked);
+
+		addLanes(exchange -> {
+			if (blocked.equals(exchange.getMessage()
+					.getHeader("device")))
+				release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		});
+
+		MockEndpoint blockedOut = getMockEndpoint("mock:" + blocked);
+		blockedOut.expectedBodiesReceived(0);
+		MockEndpoint otherOut = getMockEndpoint("mock:" + other);
+		otherOut.expectedBodiesReceived(0, 1, 2);
+
+		template.sendBodyAndHeader("direct:in", 0, "device", blocked);
+
+		for (int i = 0; i < 3; i++)
+			template.sendBodyAndHeader("direct:in", i, "device", other);
+
+		otherOut.assertIsSatisfied(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+		assertEquals(0, blockedOut.getReceivedCounter());
+
+		release.countDown();
+
+		blockedOut.assertIsSatisfied(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+	}
+
+	private String findDeviceOnOtherLane(String device) {
+		LaneExpression lane = new LaneExpression(KeyExpression.compile(KEY), LANES);
+		Object deviceLane = lane.evaluate(createExchange(device));
+
+		return IntStream.range(1, 100)
+				.mapToObj(i -> "device-" + i)
+				.filter(other -> !deviceLane.equals(lane.evaluate(createExchange(other))))
+				.findFirst()
+				.get();
+	}
+
+	private Exchange createExchange(String device) {
+		Exchange exchange = new DefaultExchange(context);
+		exchange.getMessage()
+				.setHeader("device", device);
+
+		return exchange;
+	}
+
+	private void addLanes(Processor delay) throws Exception {
+		context.addRoutes(new RouteBuilder() {
+			@Override
+			public void configure() {
+				PartitionConfiguration partitioning = new PartitionConfiguration(KEY, LANES);
+
+				new PartitionedLanesBuilder(new StageSupport(this), "route", partitioning).configure(from("direct:in").routeId("route"), lane -> lane.process(delay)
+						.process(PartitionedLanesBuilderTest.this::recordThread)
+						.toD("mock:${header.device}"));
+			}
+		});
+	}
+
+	private void recordThread(Exchange exchange) {
+		String device = exchange.getMessage()
+				.getHeader("device", String.class);
+
+		threads.computeIfAbsent(device, key -> Collections.synchronizedList(new ArrayList<>()))
+				.add(Thread.currentThread()
+						.getName());
+	}
+}
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.regression.route.builder;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.builder.StageSupport;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.builder.StagingQueueStageBuilder;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.QueueConfiguration;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the overflow policies of the staging queue. The consumer of
+ * the queue is blocked by the first message until released, so the queue
+ * fills up.
+ *
+ */
+public class StagingQueueStageBuilderTest extends CamelTestSupport {
+	private static final int CAPACITY = 2;
+	private static final long TIMEOUT_SECONDS = 5;
+
+	private final CountDownLatch consuming = new CountDownLatch(1);
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@Test
+	public void dropNewestDiscardsNewMessages() throws Exception {
+		addStagingQueue(QueueConfiguration.DROP_NEWEST, 0);
+
+		MockEndpoint out = getMockEndpoint("mock:out");
+		out.expectedBodiesReceived("1", "2", "3");
+
+		fillQueue();
+		template.sendBody("direct:in", "4");
+		release.countDown();
+
+		out.assertIsSatisfied(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+	}
+
+	@Test
+	public void dropOldestDiscardsQueuedMessages() throws Exception {
+		addStagingQueue(QueueConfiguration.DROP_OLDEST, 0);
+
+		MockEndpoint out = getMockEndpoint("mock:out");
+		out.expectedBodiesReceived("1", "3", "4");
+
+		fillQueue();
+		template.sendBody("direct:in", "4");
+		release.countDown();
+
+		out.assertIsSatisfied(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+	}
+
+	@Test
+	public void blockWaitsForRoom() throws Exception {
+		addStagingQueue(QueueConfiguration.BLOCK, 0);
+
+		MockEndpoint out = getMockEndpoint("mock:out");
+		out.expectedBodiesReceived("1", "2", "3", "4");
+
+		fillQueue();
+		Future<Object> blocked = template.asyncSendBody("direct:in", "4");
+
+		Thread.sleep(200);
+		assertFalse(blocked.isDone());
+
+		release.countDown();
+		blocked.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+		out.assertIsSatisfied(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+	}
+
+	@Test
+	public void blockFailsAfterOfferTimeout() throws Exception {
+		addStagingQueue(QueueConfiguration.BLOCK, 100);
+
+		MockEndpoint out = getMockEndpoint("mock:out");
+		out.expectedBodiesReceived("1", "2", "3");
+
+		fillQueue();
+		assertThrows(CamelExecutionException.class, () -> template.sendBody("direct:in", "4"));
+		release.countDown();
+
+		out.assertIsSatisfied(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+	}
+
+	/**
+	 * Blocks the consumer with the first message and fills the queue with the
+	 * next ones
+	 */
+	private void fillQueue() throws InterruptedException {
+		template.sendBody("direct:in", "1");
+		assertTrue(consuming.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+		for (int i = 2; i <= CAPACITY + 1; i++)
+			template.sendBody("direct:in", String.valueOf(i));
+	}
+
+	private void addStagingQueue(String overflowPolicy, long offerTimeout) throws Exception {
+		QueueConfiguration queue = new QueueConfiguration();
+		queue.setCapacity(CAPACITY);
+		queue.setOverflowPolicy(overflowPolicy);
+		queue.setOfferTimeout(offerTimeout);
+
+		context.addRoutes(new RouteBuilder() {
+			@Override
+			public void configure() {
+				new StagingQueueStageBuilder(new StageSupport(this), "route", queue).configure(from("direct:in").routeId("route"))
+						.process(exchange -> {
+							consuming.countDown();
+							release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+						})
+						.to("mock:out");
+			}
+		});
+	}
+}
@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.regression.routebuilder;
+
+import static org.eclipse.digitaltwin.basyx.databridge.core.regression.UriRouteEntities.dataSink;
+import static org.eclipse.digitaltwin.basyx.databridge.core.regression.UriRouteEntities.dataSource;
+import static org.eclipse.digitaltwin.basyx.databridge.core.regression.UriRouteEntities.routeCreatorFactories;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core.RoutesConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.event.EventRouteConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.BatchConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.ConditionConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.DataSinkStagesConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.WindowConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.filter.StaleMessageFilter;
+import org.eclipse.digitaltwin.basyx.databridge.core.routebuilder.DataBridgeRouteBuilder;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the ingest properties of messages aggregated by the stages of
+ * a route, which apply the maximum age of the route and the conditions of its
+ * datasinks
+ *
+ */
+public class AggregationStagesTest extends CamelTestSupport {
+	private static final String ROUTE_ID = "route";
+	private static final String SOURCE_URI = "direct:source";
+	private static final long MAX_AGE = 300;
+	private static final long TIMEOUT_SECONDS = 5;
+	private static final long WINDOW_SIZE = 500;
+
+	@Test
+	public void batchWithFreshMessageIsWritten() throws Exception {
+		EventRouteConfiguration route = createRoute();
+		route.setBatching(createBatching(3, TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS)));
+		addRoute(route);
+
+		MockEndpoint sink = getMockEndpoint("mock:sink");
+		sink.expectedBodiesReceived("[1,2,3]");
+
+		template.sendBody(SOURCE_URI, "1");
+		Thread.sleep(2 * MAX_AGE);
+		template.sendBody(SOURCE_URI, "2");
+		template.sendBody(SOURCE_URI, "3");
+
+		sink.assertIsSatisfied(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+	}
+
+	@Test
+	public void batchOfStaleMessagesIsDropped() throws Exception {
+		EventRouteConfiguration route = createRoute();
+		route.setBatching(createBatching(3, 2 * MAX_AGE));
+		addRoute(route);
+
+		MockEndpoint sink = getMockEndpoint("mock:sink");
+		sink.expectedMessageCount(0);
+		sink.setAssertPeriod(4 * MAX_AGE);
+
+		template.sendBody(SOURCE_URI, "1");
+
+		sink.assertIsSatisfied();
+		assertEquals(1, getStaleMessageFilter().getDroppedCount());
+	}
+
+	@Test
+	public void windowIsWrittenToDatasinksAcceptingItsMessages() throws Exception {
+		EventRouteConfiguration route = new EventRouteConfiguration("source", Collections.emptyList(), Arrays.asList("sinkA", "sinkB"));
+		route.setRouteId(ROUTE_ID);
+		route.setWindow(createWindow());
+
+		Map<String, DataSinkStagesConfiguration> stages = new HashMap<>();
+		stages.put("sinkA", createTypeCondition("a"));
+		stages.put("sinkB", createTypeCondition("b"));
+		route.setDatasinkStages(stages);
+		addRoute(route);
+
+		MockEndpoint sinkA = getMockEndpoint("mock:sinkA");
+		MockEndpoint sinkB = getMockEndpoint("mock:sinkB");
+		sinkA.expectedMessageCount(1);
+		sinkA.message(0).body(String.class).contains("\"key\":\"a\"");
+		sinkB.expectedMessageCount(1);
+		sinkB.message(0).body(String.class).contains("\"key\":\"b\"");
+		sinkA.setAssertPeriod(WINDOW_SIZE);
+		sinkB.setAssertPeriod(WINDOW_SIZE);
+
+		template.sendBody(SOURCE_URI, createMeasurement("a", 1, 100));
+		template.sendBody(SOURCE_URI, createMeasurement("b", 2, 200));
+		template.sendBody(SOURCE_URI, createMeasurement("a", 3, WINDOW_SIZE));
+
+		MockEndpoint.assertIsSatisfied(context, TIMEOUT_SECONDS, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void windowOfStaleMessagesIsDropped() throws Exception {
+		EventRouteConfiguration route = createRoute();
+		route.setWindow(createWindow());
+		addRoute(route);
+
+		MockEndpoint sink = getMockEndpoint("mock:sink");
+		sink.expectedMessageCount(0);
+		sink.setAssertPeriod(2 * MAX_AGE);
+
+		template.sendBody(SOURCE_URI, createMeasurement("a", 1, 100));
+		Thread.sleep(2 * MAX_AGE);
+		template.sendBody(SOURCE_URI, createMeasurement("a", 2, WINDOW_SIZE));
+
+		sink.assertIsSatisfied();
+		assertEquals(1, getStaleMessageFilter().getDroppedCount());
+	}
+
+	private EventRouteConfiguration createRoute() {
+		EventRouteConfiguration route = new EventRouteConfiguration("source", Collections.emptyList(), Collections.singletonList("sink"));
+		route.setRouteId(ROUTE_ID);
+		route.setMaxAge(MAX_AGE);
+
+		return route;
+	}
+
+	private void addRoute(EventRouteConfiguration route) throws Exception {
+		RoutesConfiguration configuration = new RoutesConfiguration();
+		configuration.addDatasource(dataSource("source", SOURCE_URI));
+		configuration.addDatasink(dataSink("sink", "mock:sink"));
+		configuration.addDatasink(dataSink("sinkA", "mock:sinkA"));
+		configuration.addDatasink(dataSink("sinkB", "mock:sinkB"));
+		configuration.addRoute(route);
+
+		context.addRoutes(new DataBridgeRouteBuilder(configuration, routeCreatorFactories()));
+	}
+
+	private StaleMessageFilter getStaleMessageFilter() {
+		return context.getRegistry()
+				.lookupByNameAndType(ROUTE_ID + "-maxAge", StaleMessageFilter.class);
+	}
+
+	private static BatchConfiguration createBatching(int size, long maxLatency) {
+		BatchConfiguration batching = new BatchConfiguration();
+		batching.setSize(size);
+		batching.setMaxLatency(maxLatency);
+
+		return batching;
+	}
+
+	/**
+	 * A tumbling window in event time per type
+	 */
+	private static WindowConfiguration createWindow() {
+		WindowConfiguration window = new WindowConfiguration();
+		window.setSize(WINDOW_SIZE);
+		window.setSlide(WINDOW_SIZE);
+		window.setKey("$.type");
+		window.setValue("$.value");
+		window.setTimestamp("$.time");
+
+		return window;
+	}
+
+	private static DataSinkStagesConfiguration createTypeCondition(String type) {
+		ConditionConfiguration condition = new ConditionConfiguration();
+		condition.setField("$.type");
+		condition.setValue(type);
+
+		DataSinkStagesConfiguration stages = new DataSinkStagesConfiguration();
+		stages.setWhen(Collections.singletonList(condition));
+
+		return stages;
+	}
+
+	private static String createMeasurement(String type, double value, long time) {
+		return "{\"type\":\"" + type + "\",\"value\":" + value + ",\"time\":" + time + "}";
+	}
+}
@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.regression.routebuilder;
+
+import static org.eclipse.digitaltwin.basyx.databridge.core.regression.UriRouteEntities.dataSink;
+import static org.eclipse.digitaltwin.basyx.databridge.core.regression.UriRouteEntities.dataSource;
+import static org.eclipse.digitaltwin.basyx.databridge.core.regression.UriRouteEntities.routeCreatorFactories;
+import static org.eclipse.digitaltwin.basyx.databridge.core.regression.UriRouteEntities.transformer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core.RoutesConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.event.EventRouteConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.QueueConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.routebuilder.DataBridgeRouteBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for event routes sharing the consumer of a datasource
+ *
+ */
+public class DataBridgeRouteBuilderTest extends CamelTestSupport {
+	private static final String SOURCE = "source";
+	private static final String SHARED_ROUTE_ID = "datasource-" + SOURCE;
+	private static final long TIMEOUT_SECONDS = 5;
+
+	private final CountDownLatch slowTransformerRelease = new CountDownLatch(1);
+
+	@AfterEach
+	public void releaseSlowTransformer() {
+		slowTransformerRelease.countDown();
+	}
+
+	@Override
+	protected RouteBuilder createRouteBuilder() {
+		return new RouteBuilder() {
+			@Override
+			public void configure() {
+				from("direct:slowTransformer").process(exchange -> slowTransformerRelease.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+				from("direct:failingTransformer").throwException(new IllegalStateException("transformer failure"));
+			}
+		};
+	}
+
+	@Test
+	public void sharingRoutesReceiveEveryMessage() throws Exception {
+		RoutesConfiguration configuration = createConfiguration("direct:" + SOURCE, new QueueConfiguration(), new QueueConfiguration());
+		context.addRoutes(new DataBridgeRouteBuilder(configuration, routeCreatorFactories()));
+
+		MockEndpoint sinkA = getMockEndpoint("mock:sinkA");
+		MockEndpoint sinkB = getMockEndpoint("mock:sinkB");
+		sinkA.expectedBodiesReceived("1", "2");
+		sinkB.expectedBodiesReceived("1", "2");
+
+		template.sendBody("direct:" + SOURCE, "1");
+		template.sendBody("direct:" + SOURCE, "2");
+
+		MockEndpoint.assertIsSatisfied(context, TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		assertNotNull(context.getRoute(SHARED_ROUTE_ID));
+	}
+
+	@Test
+	public void configurationIsNotModified() throws Exception {
+		RoutesConfiguration configuration = createConfiguration("direct:" + SOURCE, new QueueConfiguration(), new QueueConfiguration());
+		context.addRoutes(new DataBridgeRouteBuilder(configuration, routeCreatorFactories()));
+
+		assertEquals(Collections.singleton(SOURCE), configuration.getDatasources().keySet());
+		configuration.getRoutes().forEach(route -> assertEquals(SOURCE, route.getDatasource()));
+	}
+
+	@Test
+	public void sharingRequiresOptIn() throws Exception {
+		RoutesConfiguration configuration = createConfiguration("seda:" + SOURCE + "?multipleConsumers=true", new QueueConfiguration(), null);
+		context.addRoutes(new DataBridgeRouteBuilder(configuration, routeCreatorFactories()));
+
+		getMockEndpoint("mock:sinkA").expectedBodiesReceived("1");
+		getMockEndpoint("mock:sinkB").expectedBodiesReceived("1");
+
+		template.sendBody("seda:" + SOURCE + "?multipleConsumers=true", "1");
+
+		MockEndpoint.assertIsSatisfied(context, TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		assertNull(context.getRoute(SHARED_ROUTE_ID));
+	}
+
+	@Test
+	public void slowRouteDoesNotDelayOtherRoutes() throws Exception {
+		RoutesConfiguration configuration = createConfiguration("direct:" + SOURCE, new QueueConfiguration(), new QueueConfiguration());
+		configuration.addTransformer(transformer("slow", "direct:slowTransformer"));
+		configuration.getRoutes().get(0).setTransformers(Collections.singletonList("slow"));
+		context.addRoutes(new DataBridgeRouteBuilder(configuration, routeCreatorFactories()));
+
+		MockEndpoint sinkA = getMockEndpoint("mock:sinkA");
+		MockEndpoint sinkB = getMockEndpoint("mock:sinkB");
+		sinkB.expectedBodiesReceived("1", "2");
+
+		template.sendBody("direct:" + SOURCE, "1");
+		template.sendBody("direct:" + SOURCE, "2");
+
+		sinkB.assertIsSatisfied(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+		assertEquals(0, sinkA.getReceivedCounter());
+
+		slowTransformerRelease.countDown();
+		sinkA.expectedMessageCount(2);
+		sinkA.assertIsSatisfied(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+	}
+
+	@Test
+	public void failingRouteDoesNotFailOtherRoutes() throws Exception {
+		RoutesConfiguration configuration = createConfiguration("direct:" + SOURCE, new QueueConfiguration(), new QueueConfiguration());
+		configuration.addTransformer(transformer("failing", "direct:failingTransformer"));
+		configuration.getRoutes().get(0).setTransformers(Collections.singletonList("failing"));
+		context.addRoutes(new DataBridgeRouteBuilder(configuration, routeCreatorFactories()));
+
+		getMockEndpoint("mock:sinkB").expectedBodiesReceived("1");
+
+		template.sendBody("direct:" + SOURCE, "1");
+
+		MockEndpoint.assertIsSatisfied(context, TIMEOUT_SECONDS, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void fullQueueDoesNotFailDatasourceOrOtherRoutes() throws Exception {
+		QueueConfiguration boundedQueue = new QueueConfiguration();
+		boundedQueue.setCapacity(1);
+		boundedQueue.setOfferTimeout(10);
+
+		RoutesConfiguration configuration = createConfiguration("direct:" + SOURCE, boundedQueue, new QueueConfiguration());
+		configuration.addTransformer(transformer("slow", "direct:slowTransformer"));
+		configuration.getRoutes().get(0).setTransformers(Collections.singletonList("slow"));
+		context.addRoutes(new DataBridgeRouteBuilder(configuration, routeCreatorFactories()));
+
+		getMockEndpoint("mock:sinkB").expectedBodiesReceived("1", "2", "3", "4");
+
+		for (String body : Arrays.asList("1", "2", "3", "4"))
+			template.sendBody("direct:" + SOURCE, body);
+
+		MockEndpoint.assertIsSatisfied(context, TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		assertTrue(getMockEndpoint("mock:sinkA").getReceivedCounter() < 4);
+	}
+
+	/**
+	 * Creates two event routes reading the same datasource, route A writing to
+	 * mock:sinkA and route B writing to mock:sinkB
+	 */
+	private static RoutesConfiguration createConfiguration(String sourceUri, QueueConfiguration sharedQueueA, QueueConfiguration sharedQueueB) {
+		RoutesConfiguration configuration = new RoutesConfiguration();
+		configuration.addDatasource(dataSource(SOURCE, sourceUri));
+		configuration.addDatasink(dataSink("sinkA", "mock:sinkA"));
+		configuration.addDatasink(dataSink("sinkB", "mock:sinkB"));
+
+		EventRouteConfiguration routeA = new EventRouteConfiguration(SOURCE, Collections.emptyList(), Collections.singletonList("sinkA"));
+		routeA.setRouteId("routeA");
+		routeA.setSharedDatasource(sharedQueueA);
+
+		EventRouteConfiguration routeB = new EventRouteConfiguration(SOURCE, Collections.emptyList(), Collections.singletonList("sinkB"));
+		routeB.setRouteId("routeB");
+		routeB.setSharedDatasource(sharedQueueB);
+
+		configuration.addRoute(routeA);
+		configuration.addRoute(routeB);
+
+		return configuration;
+	}
+}
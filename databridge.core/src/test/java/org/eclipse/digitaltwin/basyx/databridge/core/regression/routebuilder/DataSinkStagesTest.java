@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.regression.routebuilder;
+
+import static org.eclipse.digitaltwin.basyx.databridge.core.regression.UriRouteEntities.dataSink;
+import static org.eclipse.digitaltwin.basyx.databridge.core.regression.UriRouteEntities.dataSource;
+import static org.eclipse.digitaltwin.basyx.databridge.core.regression.UriRouteEntities.routeCreatorFactories;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core.RoutesConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.event.EventRouteConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.BulkheadConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.ChangeDetectionConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.DataSinkStagesConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.RateLimitConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.routebuilder.DataBridgeRouteBuilder;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the stages of the routes in front of datasinks
+ *
+ */
+public class DataSinkStagesTest extends CamelTestSupport {
+	private static final String SOURCE_URI = "direct:source";
+	private static final String SINK = "sink";
+	private static final long TIMEOUT_SECONDS = 5;
+
+	@Test
+	public void unchangedMessagesDoNotConsumeRateLimit() throws Exception {
+		RateLimitConfiguration rateLimit = new RateLimitConfiguration();
+		rateLimit.setRate(0.01);
+		rateLimit.setBurst(2);
+		rateLimit.setExcess(RateLimitConfiguration.DROP);
+
+		DataSinkStagesConfiguration stages = new DataSinkStagesConfiguration();
+		stages.setChangeDetection(new ChangeDetectionConfiguration());
+		stages.setRateLimit(rateLimit);
+		addRoute(stages);
+
+		MockEndpoint sink = getMockEndpoint("mock:" + SINK);
+		sink.expectedBodiesReceived("1", "2");
+
+		template.sendBody(SOURCE_URI, "1");
+		template.sendBody(SOURCE_URI, "1");
+		template.sendBody(SOURCE_URI, "2");
+
+		sink.assertIsSatisfied(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+	}
+
+	@Test
+	public void slowBulkheadedSinkDoesNotBlockOtherSinks() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+
+		context.addRoutes(new RouteBuilder() {
+			@Override
+			public void configure() {
+				from("direct:slowSink").process(exchange -> release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS))
+						.to("mock:slow");
+			}
+		});
+
+		DataSinkStagesConfiguration stages = new DataSinkStagesConfiguration();
+		stages.setBulkhead(new BulkheadConfiguration());
+
+		EventRouteConfiguration route = new EventRouteConfiguration("source", Collections.emptyList(), Arrays.asList("slow", SINK));
+		route.setRouteId("route");
+		route.setDatasinkStages(Collections.singletonMap("slow", stages));
+
+		RoutesConfiguration configuration = new RoutesConfiguration();
+		configuration.addDatasource(dataSource("source", SOURCE_URI));
+		configuration.addDatasink(dataSink("slow", "direct:slowSink"));
+		configuration.addDatasink(dataSink(SINK, "mock:" + SINK));
+		configuration.addRoute(route);
+
+		context.addRoutes(new DataBridgeRouteBuilder(configuration, routeCreatorFactories()));
+
+		MockEndpoint sink = getMockEndpoint("mock:" + SINK);
+		sink.expectedBodiesReceived("1", "2", "3");
+		MockEndpoint slow = getMockEndpoint("mock:slow");
+		slow.expectedBodiesReceived("1", "2", "3");
+
+		for (int i = 1; i <= 3; i++)
+			template.sendBody(SOURCE_URI, String.valueOf(i));
+
+		sink.assertIsSatisfied(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+		assertEquals(0, slow.getReceivedCounter());
+
+		release.countDown();
+
+		slow.assertIsSatisfied(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+	}
+
+	private void addRoute(DataSinkStagesConfiguration stages) throws Exception {
+		EventRouteConfiguration route = new EventRouteConfiguration("source", Collections.emptyList(), Collections.singletonList(SINK));
+		route.setRouteId("route");
+		route.setDatasinkStages(Collections.singletonMap(SINK, stages));
+
+		RoutesConfiguration configuration = new RoutesConfiguration();
+		configuration.addDatasource(dataSource("source", SOURCE_URI));
+		configuration.addDatasink(dataSink(SINK, "mock:" + SINK));
+		configuration.addRoute(route);
+
+		context.addRoutes(new DataBridgeRouteBuilder(configuration, routeCreatorFactories()));
+	}
+}
@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.regression.routebuilder;
+
+import static org.eclipse.digitaltwin.basyx.databridge.core.regression.UriRouteEntities.dataSink;
+import static org.eclipse.digitaltwin.basyx.databridge.core.regression.UriRouteEntities.dataSource;
+import static org.eclipse.digitaltwin.basyx.databridge.core.regression.UriRouteEntities.routeCreatorFactories;
+import static org.eclipse.digitaltwin.basyx.databridge.core.regression.UriRouteEntities.transformer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core.RoutesConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.event.EventRouteConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.MulticastConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.routebuilder.DataBridgeRouteBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the multicast of routes to mapped datasinks
+ *
+ */
+public class MulticastTest extends CamelTestSupport {
+	private static final String SOURCE_URI = "direct:source";
+	private static final String THREAD_POOL_NAME = "DataBridgeMulticast-route";
+	private static final int SINKS = 6;
+	private static final long TIMEOUT_SECONDS = 5;
+
+	private final CountDownLatch slowTransformerRelease = new CountDownLatch(1);
+	private final Set<String> writingThreads = ConcurrentHashMap.newKeySet();
+
+	@AfterEach
+	public void releaseSlowTransformer() {
+		slowTransformerRelease.countDown();
+	}
+
+	@Override
+	protected RouteBuilder createRouteBuilder() {
+		return new RouteBuilder() {
+			@Override
+			public void configure() {
+				from("direct:normalize").to("mock:normalize")
+						.transform(simple("normalized-${body}"));
+				from("direct:toA").transform(simple("A-${body}"));
+				from("direct:toB").transform(simple("B-${body}"));
+				from("direct:slow").process(exchange -> slowTransformerRelease.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+				from("direct:failing").throwException(new IllegalStateException("transformer failure"));
+				from("direct:recordThread").process(exchange -> {
+					writingThreads.add(Thread.currentThread()
+							.getName());
+					Thread.sleep(50);
+				});
+			}
+		};
+	}
+
+	@Test
+	public void sharedTransformerPrefixRunsOnce() throws Exception {
+		Map<String, List<String>> mapping = new LinkedHashMap<>();
+		mapping.put("sinkA", List.of("normalize", "toA"));
+		mapping.put("sinkB", List.of("normalize", "toB"));
+		mapping.put("sinkC", List.of("normalize"));
+		addRoute(mapping, null);
+
+		getMockEndpoint("mock:normalize").expectedMessageCount(1);
+		getMockEndpoint("mock:sinkA").expectedBodiesReceived("A-normalized-1");
+		getMockEndpoint("mock:sinkB").expectedBodiesReceived("B-normalized-1");
+		getMockEndpoint("mock:sinkC").expectedBodiesReceived("normalized-1");
+
+		template.sendBody(SOURCE_URI, "1");
+
+		MockEndpoint.assertIsSatisfied(context, TIMEOUT_SECONDS, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void parallelMulticastUsesBoundedThreadPool() throws Exception {
+		Map<String, List<String>> mapping = new LinkedHashMap<>();
+
+		for (int sink = 0; sink < SINKS; sink++)
+			mapping.put("sink" + sink, List.of("recordThread"));
+
+		MulticastConfiguration multicast = new MulticastConfiguration();
+		multicast.setParallelProcessing(true);
+		multicast.setThreadPoolSize(2);
+		addRoute(mapping, multicast);
+
+		for (int sink = 0; sink < SINKS; sink++)
+			getMockEndpoint("mock:sink" + sink).expectedMessageCount(1);
+
+		template.sendBody(SOURCE_URI, "1");
+
+		MockEndpoint.assertIsSatisfied(context, TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+		List<String> poolThreads = writingThreads.stream()
+				.filter(name -> name.contains(THREAD_POOL_NAME))
+				.collect(Collectors.toList());
+
+		assertTrue(!poolThreads.isEmpty() && poolThreads.size() <= 2, "Pool threads " + poolThreads);
+	}
+
+	@Test
+	public void slowBranchTimesOut() throws Exception {
+		Map<String, List<String>> mapping = new LinkedHashMap<>();
+		mapping.put("sinkA", List.of("slow"));
+		mapping.put("sinkB", List.of("toB"));
+
+		MulticastConfiguration multicast = new MulticastConfiguration();
+		multicast.setParallelProcessing(true);
+		multicast.setTimeout(200);
+		addRoute(mapping, multicast);
+
+		getMockEndpoint("mock:sinkB").expectedBodiesReceived("B-1");
+
+		long start = System.currentTimeMillis();
+		template.sendBody(SOURCE_URI, "1");
+
+		assertTrue(System.currentTimeMillis() - start < TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+		getMockEndpoint("mock:sinkB").assertIsSatisfied();
+		assertEquals(0, getMockEndpoint("mock:sinkA").getReceivedCounter());
+	}
+
+	@Test
+	public void failingBranchStopsMulticast() throws Exception {
+		Map<String, List<String>> mapping = new LinkedHashMap<>();
+		mapping.put("sinkA", List.of("failing"));
+		mapping.put("sinkB", List.of("toB"));
+
+		MulticastConfiguration multicast = new MulticastConfiguration();
+		multicast.setStopOnException(true);
+		addRoute(mapping, multicast);
+
+		getMockEndpoint("mock:sinkB").expectedMessageCount(0);
+
+		Exchange result = template.send(SOURCE_URI, exchange -> exchange.getMessage().setBody("1"));
+
+		assertNotNull(result.getException());
+		getMockEndpoint("mock:sinkB").assertIsSatisfied();
+	}
+
+	@Test
+	public void failingBranchDoesNotStopMulticastByDefault() throws Exception {
+		Map<String, List<String>> mapping = new LinkedHashMap<>();
+		mapping.put("sinkA", List.of("failing"));
+		mapping.put("sinkB", List.of("toB"));
+		addRoute(mapping, new MulticastConfiguration());
+
+		getMockEndpoint("mock:sinkB").expectedBodiesReceived("B-1");
+
+		template.send(SOURCE_URI, exchange -> exchange.getMessage().setBody("1"));
+
+		getMockEndpoint("mock:sinkB").assertIsSatisfied();
+	}
+
+	/**
+	 * Adds a route writing to mock endpoints named like the mapped datasinks
+	 * through direct endpoints named like the transformers
+	 */
+	private void addRoute(Map<String, List<String>> mapping, MulticastConfiguration multicast) throws Exception {
+		RoutesConfiguration configuration = new RoutesConfiguration();
+		configuration.addDatasource(dataSource("source", SOURCE_URI));
+
+		Map<String, String[]> datasinkMapping = new LinkedHashMap<>();
+		mapping.forEach((sink, transformers) -> {
+			configuration.addDatasink(dataSink(sink, "mock:" + sink));
+			transformers.forEach(id -> configuration.addTransformer(transformer(id, "direct:" + id)));
+			datasinkMapping.put(sink, transformers.toArray(new String[0]));
+		});
+
+		EventRouteConfiguration route = new EventRouteConfiguration("source", Collections.emptyList(), new ArrayList<>(mapping.keySet()), datasinkMapping);
+		route.setRouteId("route");
+		route.setMulticast(multicast);
+		configuration.addRoute(route);
+
+		context.addRoutes(new DataBridgeRouteBuilder(configuration, routeCreatorFactories()));
+	}
+}
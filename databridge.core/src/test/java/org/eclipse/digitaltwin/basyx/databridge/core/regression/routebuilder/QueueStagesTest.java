@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.regression.routebuilder;
+
+import static org.eclipse.digitaltwin.basyx.databridge.core.regression.UriRouteEntities.dataSink;
+import static org.eclipse.digitaltwin.basyx.databridge.core.regression.UriRouteEntities.dataSource;
+import static org.eclipse.digitaltwin.basyx.databridge.core.regression.UriRouteEntities.routeCreatorFactories;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core.RouteConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.core.RoutesConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.event.EventRouteConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.PartitionConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.configuration.route.stage.QueueConfiguration;
+import org.eclipse.digitaltwin.basyx.databridge.core.routebuilder.DataBridgeRouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Test class for the staging queue and the partitioned lanes of routes. The
+ * sink records the messages per device and can be blocked until released.
+ *
+ */
+public class QueueStagesTest extends CamelTestSupport {
+	private static final String SOURCE_URI = "direct:source";
+	private static final String SINK_URI = "direct:sink";
+	private static final int MESSAGES_PER_DEVICE = 25;
+	private static final long TIMEOUT_SECONDS = 5;
+
+	private final Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+	private final CountDownLatch consuming = new CountDownLatch(1);
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@Test
+	public void lanesKeepOrderPerKey() throws Exception {
+		release.countDown();
+
+		RouteConfiguration route = createRoute();
+		route.setPartitioning(new PartitionConfiguration("$.device", 4));
+		addRoute(route);
+
+		List<String> devices = IntStream.range(0, 8)
+				.mapToObj(i -> "device-" + i)
+				.collect(Collectors.toList());
+
+		MockEndpoint sink = getMockEndpoint("mock:sink");
+		sink.expectedMessageCount(devices.size() * MESSAGES_PER_DEVICE);
+
+		for (int i = 0; i < MESSAGES_PER_DEVICE; i++)
+			for (String device : devices)
+				template.sendBody(SOURCE_URI, "{\"device\":\"" + device + "\",\"value\":" + i + "}");
+
+		sink.assertIsSatisfied(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+
+		List<Integer> sequence = IntStream.range(0, MESSAGES_PER_DEVICE)
+				.boxed()
+				.collect(Collectors.toList());
+
+		devices.forEach(device -> assertEquals(sequence, received.get(device)));
+	}
+
+	@Test
+	public void stagingQueueDropsOldestWhenFull() throws Exception {
+		MockEndpoint sink = getMockEndpoint("mock:sink");
+		sink.expectedBodiesReceived(value(1), value(3), value(4));
+
+		fillStagingQueue(QueueConfiguration.DROP_OLDEST);
+
+		sink.assertIsSatisfied(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+	}
+
+	@Test
+	public void stagingQueueDropsNewestWhenFull() throws Exception {
+		MockEndpoint sink = getMockEndpoint("mock:sink");
+		sink.expectedBodiesReceived(value(1), value(2), value(3));
+
+		fillStagingQueue(QueueConfiguration.DROP_NEWEST);
+
+		sink.assertIsSatisfied(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+	}
+
+	/**
+	 * Sends four messages to a route with a staging queue of capacity 2, while
+	 * the sink is blocked by the first one
+	 */
+	private void fillStagingQueue(String overflowPolicy) throws Exception {
+		QueueConfiguration stagingQueue = new QueueConfiguration();
+		stagingQueue.setCapacity(2);
+		stagingQueue.setOverflowPolicy(overflowPolicy);
+
+		RouteConfiguration route = createRoute();
+		route.setStagingQueue(stagingQueue);
+		addRoute(route);
+
+		template.sendBody(SOURCE_URI, value(1));
+		assertTrue(consuming.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+		for (int i = 2; i <= 4; i++)
+			template.sendBody(SOURCE_URI, value(i));
+
+		release.countDown();
+	}
+
+	private static String value(int value) {
+		return "{\"device\":\"device-0\",\"value\":" + value + "}";
+	}
+
+	private static RouteConfiguration createRoute() {
+		RouteConfiguration route = new EventRouteConfiguration("source", Collections.emptyList(), Collections.singletonList("sink"));
+		route.setRouteId("route");
+
+		return route;
+	}
+
+	private void addRoute(RouteConfiguration route) throws Exception {
+		context.addRoutes(new RouteBuilder() {
+			@Override
+			public void configure() {
+				from(SINK_URI).process(exchange -> {
+					consuming.countDown();
+					release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+					JsonObject body = JsonParser.parseString(exchange.getMessage()
+							.getBody(String.class))
+							.getAsJsonObject();
+
+					received.computeIfAbsent(body.get("device")
+							.getAsString(), key -> Collections.synchronizedList(new ArrayList<>()))
+							.add(body.get("value")
+									.getAsInt());
+				})
+						.to("mock:sink");
+			}
+		});
+
+		RoutesConfiguration configuration = new RoutesConfiguration();
+		configuration.addDatasource(dataSource("source", SOURCE_URI));
+		configuration.addDatasink(dataSink("sink", SINK_URI));
+		configuration.addRoute(route);
+
+		context.addRoutes(new DataBridgeRouteBuilder(configuration, routeCreatorFactories()));
+	}
+}
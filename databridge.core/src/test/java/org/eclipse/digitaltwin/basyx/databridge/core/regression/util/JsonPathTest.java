@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.databridge.core.regression.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.eclipse.digitaltwin.basyx.databridge.core.util.JsonPath;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+
+/**
+ * Test class for the compiled JSON path
+ */
+public class JsonPathTest {
+	private static final JsonElement DOCUMENT = JsonParser.parseString("{\"motor\":{\"speed\":1200,\"state\":\"on\"},\"sensors\":[{\"value\":20.5},{\"value\":21.5}],\"with.dot\":{\"value\":true}}");
+
+	@Test
+	public void memberAccess() {
+		assertEquals("1200", JsonPath.compile("$.motor.speed").evaluateAsString(DOCUMENT));
+		assertEquals("on", JsonPath.compile("motor.state").evaluateAsString(DOCUMENT));
+	}
+
+	@Test
+	public void arrayIndex() {
+		assertEquals("21.5", JsonPath.compile("$.sensors[1].value").evaluateAsString(DOCUMENT));
+	}
+
+	@Test
+	public void quotedMember() {
+		assertEquals("true", JsonPath.compile("$['with.dot'].value").evaluateAsString(DOCUMENT));
+	}
+
+	@Test
+	public void structuredResult() {
+		assertEquals("{\"speed\":1200,\"state\":\"on\"}", JsonPath.compile("$.motor").evaluateAsString(DOCUMENT));
+	}
+
+	@Test
+	public void missingElement() {
+		assertNull(JsonPath.compile("$.motor.torque").evaluate(DOCUMENT));
+		assertNull(JsonPath.compile("$.sensors[5].value").evaluate(DOCUMENT));
+		assertNull(JsonPath.compile("$.motor[0]").evaluate(DOCUMENT));
+	}
+
+	@Test
+	public void nullElement() {
+		assertNull(JsonPath.compile("$.state").evaluateAsString(JsonParser.parseString("{\"state\":null}")));
+		assertNull(JsonPath.compile("$").evaluateAsString(JsonParser.parseString("null")));
+	}
+
+	@Test
+	public void malformedPath() {
+		assertThrows(IllegalArgumentException.class, () -> JsonPath.compile("$.sensors[0"));
+		assertThrows(IllegalArgumentException.class, () -> JsonPath.compile("$.sensors[first]"));
+		assertThrows(IllegalArgumentException.class, () -> JsonPath.compile("$.sensors[-1]"));
+	}
+}
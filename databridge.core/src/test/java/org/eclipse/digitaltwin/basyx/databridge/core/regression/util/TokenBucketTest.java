@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.databridge.core.regression.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.digitaltwin.basyx.databridge.core.util.TokenBucket;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the token bucket
+ */
+public class TokenBucketTest {
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	@Test
+	public void burstThenRefill() {
+		TokenBucket tokenBucket = new TokenBucket(10, 2, 0);
+
+		assertTrue(tokenBucket.tryAcquire(0));
+		assertTrue(tokenBucket.tryAcquire(0));
+		assertFalse(tokenBucket.tryAcquire(0));
+		assertTrue(tokenBucket.tryAcquire(SECOND / 10));
+		assertFalse(tokenBucket.tryAcquire(SECOND / 10));
+	}
+
+	@Test
+	public void refillIsCapped() {
+		TokenBucket tokenBucket = new TokenBucket(10, 2, 0);
+
+		assertTrue(tokenBucket.tryAcquire(10 * SECOND));
+		assertTrue(tokenBucket.tryAcquire(10 * SECOND));
+		assertFalse(tokenBucket.tryAcquire(10 * SECOND));
+	}
+
+	@Test
+	public void reservationsWaitInOrder() {
+		TokenBucket tokenBucket = new TokenBucket(10, 1, 0);
+
+		assertEquals(0, tokenBucket.reserve(0));
+		assertEquals(SECOND / 10, tokenBucket.reserve(0));
+		assertEquals(2 * SECOND / 10, tokenBucket.reserve(0));
+	}
+
+	@Test
+	public void invalidRate() {
+		assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1, 0));
+	}
+}